@@ -13,10 +13,13 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.anttasks.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.File;
+import java.nio.file.Files;
 import java.util.Properties;
 
 import org.eclipse.core.resources.IFolder;
@@ -148,4 +151,41 @@ public class ApiToolingAnalysisAntTaskTests extends AntRunnerTestCase {
 		assertTrue("deltatest folder must exist", folder.exists()); //$NON-NLS-1$
 		assertTrue("report.xml file must be there", folder.getFile("report.xml").exists()); //$NON-NLS-1$ //$NON-NLS-2$
 	}
+
+	/**
+	 * Tests that analyzing the components concurrently reports the same
+	 * problems as analyzing them one after the other
+	 */
+	@Test
+	public void test8() throws Exception {
+		IFolder buildFolder = newTest("test8"); //$NON-NLS-1$
+		File sequential = runAnalysis(buildFolder, "sequential", 1); //$NON-NLS-1$
+		File parallel = runAnalysis(buildFolder, "parallel", 4); //$NON-NLS-1$
+		String[] names = sequential.list();
+		assertTrue("reports must be there", names != null && names.length > 1); //$NON-NLS-1$
+		for (String name : names) {
+			File report = new File(sequential, name);
+			File parallelReport = new File(parallel, name);
+			if (report.isDirectory()) {
+				// the report of a component
+				report = new File(report, "report.xml"); //$NON-NLS-1$
+				parallelReport = new File(parallelReport, "report.xml"); //$NON-NLS-1$
+			}
+			assertTrue("report must be there: " + parallelReport, parallelReport.isFile()); //$NON-NLS-1$
+			assertEquals("Wrong report " + name, Files.readString(report.toPath()), Files.readString(parallelReport.toPath())); //$NON-NLS-1$
+		}
+		assertEquals("Wrong number of reports", names.length, parallel.list().length); //$NON-NLS-1$
+	}
+
+	private File runAnalysis(IFolder buildFolder, String reportName, int threads) throws Exception {
+		String buildXMLPath = buildFolder.getFile("build.xml").getLocation().toOSString(); //$NON-NLS-1$
+		File reportLocation = buildFolder.getFolder(reportName).getLocation().toFile();
+		Properties properties = new Properties();
+		properties.put("reference_location", buildFolder.getFile("before").getLocation().toOSString()); //$NON-NLS-1$ //$NON-NLS-2$
+		properties.put("current_location", buildFolder.getFile("after").getLocation().toOSString()); //$NON-NLS-1$ //$NON-NLS-2$
+		properties.put("report_location", reportLocation.getAbsolutePath()); //$NON-NLS-1$
+		properties.put("threads", Integer.toString(threads)); //$NON-NLS-1$
+		runAntScript(buildXMLPath, new String[] { "run" }, buildFolder.getLocation().toOSString(), properties); //$NON-NLS-1$
+		return reportLocation;
+	}
 }
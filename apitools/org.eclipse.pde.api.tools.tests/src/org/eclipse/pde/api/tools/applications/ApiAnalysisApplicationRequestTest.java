@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.applications;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.StringReader;
+import java.util.List;
+
+import org.eclipse.pde.api.tools.internal.ApiAnalysisApplication.Request;
+import org.junit.Test;
+
+public class ApiAnalysisApplicationRequestTest {
+
+	@Test
+	public void testSeveralProjects() {
+		Request request = Request.readFromArgs(new String[] { "-project", "a", "-project", "b", "-report", "reports", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+				"-failOnError" }); //$NON-NLS-1$
+		assertEquals(List.of(new File("a"), new File("b")), request.projects); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(new File("reports"), request.reportDir); //$NON-NLS-1$
+		assertTrue(request.failOnError);
+		assertNull(request.projectList);
+		assertFalse(request.readProjectsFromStdin);
+	}
+
+	@Test
+	public void testProjectListFile() {
+		Request request = Request.readFromArgs(new String[] { "-projectList", "projects.txt", "-baseline", "default" }); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		assertEquals(new File("projects.txt"), request.projectList); //$NON-NLS-1$
+		assertFalse(request.readProjectsFromStdin);
+		assertTrue(request.projects.isEmpty());
+		assertNull(request.baselinePath);
+		assertNull(request.reportDir);
+	}
+
+	@Test
+	public void testProjectListFromStdin() {
+		// the value of -projectList is not taken for the next option
+		Request request = Request.readFromArgs(new String[] { "-projectList", "-", "-failOnError", "false" }); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		assertTrue(request.readProjectsFromStdin);
+		assertNull(request.projectList);
+		assertFalse(request.failOnError);
+	}
+
+	@Test
+	public void testReadProjectList() throws Exception {
+		String list = String.join("\n", "a", "", "  b/c  ", "\t", "d"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+		List<File> projects = Request.readProjectList(new BufferedReader(new StringReader(list)));
+		assertEquals(List.of(new File("a"), new File("b/c"), new File("d")), projects); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	@Test
+	public void testReadEmptyProjectList() throws Exception {
+		assertTrue(Request.readProjectList(new BufferedReader(new StringReader("\n \n"))).isEmpty()); //$NON-NLS-1$
+	}
+}
@@ -18,6 +18,7 @@ import static org.junit.Assert.assertNotNull;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -26,11 +27,14 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.pde.api.tools.internal.builder.BaseApiAnalyzer;
 import org.eclipse.pde.api.tools.internal.builder.BuildContext;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceAnalyzer;
 import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.junit.Test;
@@ -75,4 +79,30 @@ public class OSGiLessAnalysisTests {
 		ApiTestingEnvironment.dispose(baseline);
 		ApiTestingEnvironment.dispose(current);
 	}
+
+	/**
+	 * Tests that the parallel reference analysis reports the same problems as
+	 * the serial one
+	 */
+	@Test
+	public void testParallelReferenceAnalysis() throws CoreException {
+		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("test-plugins"); //$NON-NLS-1$
+		try {
+			for (String id : new String[] { "component.a", "component.b", "component_c" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				IApiComponent component = baseline.getApiComponent(id);
+				assertNotNull("Missing API component " + id, component); //$NON-NLS-1$
+				IApiTypeContainer scope = Factory.newScope(new IApiComponent[] { component });
+				assertEquals("Different problems for " + component.getSymbolicName(), //$NON-NLS-1$
+						analyzeReferences(component, scope, false), analyzeReferences(component, scope, true));
+			}
+		} finally {
+			ApiTestingEnvironment.dispose(baseline);
+		}
+	}
+
+	private static List<String> analyzeReferences(IApiComponent component, IApiTypeContainer scope, boolean parallel) throws CoreException {
+		ReferenceAnalyzer analyzer = new ReferenceAnalyzer();
+		analyzer.setParallel(parallel);
+		return Arrays.stream(analyzer.analyze(component, scope, new NullProgressMonitor())).map(IApiProblem::toString).toList();
+	}
 }
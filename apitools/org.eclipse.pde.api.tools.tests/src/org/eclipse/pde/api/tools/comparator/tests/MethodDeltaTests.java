@@ -2685,6 +2685,28 @@ public class MethodDeltaTests extends DeltaTestSetup {
 		assertTrue("Not compatible", DeltaProcessor.isCompatible(child)); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that comparing the components of two baselines concurrently gives
+	 * the same delta as the sequential comparison
+	 */
+	@Test
+	public void test111Parallel() {
+		deployBundles("test111"); //$NON-NLS-1$
+		IApiBaseline before = getBeforeState();
+		IApiBaseline after = getAfterState();
+		IDelta delta = ApiComparator.compare(before, after, VisibilityModifiers.API, true, false, null);
+		IDelta parallelDelta = ApiComparator.compare(before, after, VisibilityModifiers.API, true, true, null);
+		assertNotNull("No delta", parallelDelta); //$NON-NLS-1$
+		IDelta[] allLeavesDeltas = collectLeaves(delta);
+		IDelta[] parallelLeavesDeltas = collectLeaves(parallelDelta);
+		assertEquals("Wrong size", allLeavesDeltas.length, parallelLeavesDeltas.length); //$NON-NLS-1$
+		for (int i = 0; i < allLeavesDeltas.length; i++) {
+			assertEquals("Wrong kind", allLeavesDeltas[i].getKind(), parallelLeavesDeltas[i].getKind()); //$NON-NLS-1$
+			assertEquals("Wrong flag", allLeavesDeltas[i].getFlags(), parallelLeavesDeltas[i].getFlags()); //$NON-NLS-1$
+			assertEquals("Wrong key", allLeavesDeltas[i].getKey(), parallelLeavesDeltas[i].getKey()); //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * Changed Map to Map&lt;String, String&gt;
 	 */
@@ -15,6 +15,7 @@ package org.eclipse.pde.api.tools.model.tests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
@@ -22,19 +23,25 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.Signature;
 import org.eclipse.pde.api.tools.builder.tests.ApiTestingEnvironment;
 import org.eclipse.pde.api.tools.internal.ApiDescription;
 import org.eclipse.pde.api.tools.internal.ApiDescriptionProcessor;
 import org.eclipse.pde.api.tools.internal.ApiDescriptionXmlCreator;
+import org.eclipse.pde.api.tools.internal.BundleApiDescriptionStore;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
 import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
@@ -47,6 +54,9 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.util.Signatures;
 import org.eclipse.pde.api.tools.internal.util.Util;
+import org.eclipse.pde.api.tools.tests.AbstractApiTest;
+import org.eclipse.pde.api.tools.tests.util.ProjectUtils;
+import org.eclipse.pde.internal.core.natures.PDE;
 import org.junit.Test;
 
 /**
@@ -427,6 +437,102 @@ public class ApiDescriptionTests {
 		assertTrue("Visit incomplete", visitOrder.isEmpty()); //$NON-NLS-1$
 	}
 
+	/**
+	 * Reads XML from disk, annotates settings through the binary store, then
+	 * annotates settings from the persisted binary description to ensure they
+	 * are equivalent.
+	 */
+	@Test
+	public void testPersistRestoreBinary() throws CoreException, IOException {
+		File descfile = TestSuiteHelper.getPluginDirectoryPath().append("test-xml").append(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile(); //$NON-NLS-1$
+		assertTrue("Missing xml file", descfile.exists()); //$NON-NLS-1$
+		String readXML = Files.readString(descfile.toPath());
+		File folder = Files.createTempDirectory("apiDescriptions").toFile(); //$NON-NLS-1$
+		BundleApiDescriptionStore store = new BundleApiDescriptionStore(folder);
+		try {
+			String location = descfile.getParentFile().getAbsolutePath();
+			ApiDescription settings = new ApiDescription(null);
+			assertFalse("Should be no persisted description", store.annotate(location, descfile, settings)); //$NON-NLS-1$
+			store.annotate(location, descfile, settings, readXML);
+			ApiDescription restored = new ApiDescription(null);
+			assertTrue("Should be a persisted description", store.annotate(location, descfile, restored)); //$NON-NLS-1$
+			assertEquals("Wrong restored description", getVisitOrder(settings), getVisitOrder(restored)); //$NON-NLS-1$
+
+			// restoring a description marks its file as used
+			File file = folder.listFiles()[0];
+			assertTrue(file.setLastModified(System.currentTimeMillis() - Util.UNUSED_CACHE_FILE_AGE - 10000));
+			assertTrue("Should be a persisted description", store.annotate(location, descfile, new ApiDescription(null))); //$NON-NLS-1$
+			store.prune();
+			assertTrue("Used file should be kept", file.isFile()); //$NON-NLS-1$
+			assertTrue(file.setLastModified(System.currentTimeMillis() - Util.UNUSED_CACHE_FILE_AGE - 10000));
+			store.prune();
+			assertFalse("Unused file should be deleted", file.exists()); //$NON-NLS-1$
+		} finally {
+			store.clear();
+			folder.delete();
+		}
+	}
+
+	/**
+	 * Persists the API description of a project in the binary format, then
+	 * restores it into a new description to ensure the handles, the type
+	 * stamps and the annotations of the packages that are loaded when first
+	 * looked up are equivalent.
+	 */
+	@Test
+	public void testPersistRestoreProjectBinary() throws Exception {
+		String name = "ProjectBinaryDescription"; //$NON-NLS-1$
+		IJavaProject project = ProjectUtils.createPluginProject(name, new String[] { PDE.PLUGIN_NATURE, ApiPlugin.NATURE_ID });
+		File folder = Files.createTempDirectory("projectDescription").toFile(); //$NON-NLS-1$
+		File file = new File(folder, IApiCoreConstants.API_DESCRIPTION_BINARY_NAME);
+		try {
+			IPackageFragmentRoot root = project.getPackageFragmentRoot(project.getProject().getFolder(ProjectUtils.SRC_FOLDER));
+			root.createPackageFragment("a.b.c", true, null).createCompilationUnit("A.java", //$NON-NLS-1$ //$NON-NLS-2$
+					"package a.b.c;\n/** @noextend */\npublic class A {\n/** @noreference */\npublic void m() {}\n}", true, null); //$NON-NLS-1$
+			root.createPackageFragment("a.b.d", true, null).createCompilationUnit("I.java", //$NON-NLS-1$ //$NON-NLS-2$
+					"package a.b.d;\n/** @noimplement */\npublic interface I {}", true, null); //$NON-NLS-1$
+			ProjectUtils.addExportedPackage(project.getProject(), "a.b.c", false, null); //$NON-NLS-1$
+			ProjectUtils.addExportedPackage(project.getProject(), "a.b.d", false, null); //$NON-NLS-1$
+			AbstractApiTest.waitForAutoBuild();
+
+			IApiComponent component = ApiPlugin.getDefault().getApiBaselineManager().getWorkspaceBaseline().getApiComponent(name);
+			assertNotNull("Missing API component", component); //$NON-NLS-1$
+			ProjectApiDescription description = (ProjectApiDescription) component.getApiDescription();
+			assertEquals(RestrictionModifiers.NO_EXTEND, description.resolveAnnotations(Factory.typeDescriptor("a.b.c.A")).getRestrictions()); //$NON-NLS-1$
+			assertEquals(RestrictionModifiers.NO_IMPLEMENT, description.resolveAnnotations(Factory.typeDescriptor("a.b.d.I")).getRestrictions()); //$NON-NLS-1$
+			String xml = description.getXML();
+			List<String> visitOrder = getVisitOrder(description);
+			description.persistBinary(file);
+
+			ProjectApiDescription restored = new ProjectApiDescription(project);
+			assertTrue("Should be a persisted description", restored.restoreBinary(file)); //$NON-NLS-1$
+			// the package of the type is loaded on the first look up
+			assertEquals(RestrictionModifiers.NO_EXTEND, restored.resolveAnnotations(Factory.typeDescriptor("a.b.c.A")).getRestrictions()); //$NON-NLS-1$
+			assertEquals("Wrong restored description", xml, restored.getXML()); //$NON-NLS-1$
+			assertEquals("Wrong restored description", visitOrder, getVisitOrder(restored)); //$NON-NLS-1$
+
+			ProjectApiDescription other = new ProjectApiDescription(project);
+			assertFalse("A missing file should not be restored", other.restoreBinary(new File(folder, "missing"))); //$NON-NLS-1$ //$NON-NLS-2$
+		} finally {
+			file.delete();
+			folder.delete();
+			ApiTestingEnvironment.dispose(ApiPlugin.getDefault().getApiBaselineManager().getWorkspaceBaseline());
+			project.getProject().delete(true, true, null);
+		}
+	}
+
+	private List<String> getVisitOrder(IApiDescription description) {
+		final List<String> visitOrder = new ArrayList<>();
+		description.accept(new ApiDescriptionVisitor() {
+			@Override
+			public boolean visitElement(IElementDescriptor element, IApiAnnotations annotations) {
+				visitOrder.add(element + " " + annotations); //$NON-NLS-1$
+				return true;
+			}
+		}, null);
+		return visitOrder;
+	}
+
 	/**
 	 * Test visiting types
 	 */
@@ -235,6 +235,33 @@ public class ApiFilterStoreTests extends AbstractApiTest {
 		assertFalse("src/x/y/z/C4.java should not have a filter", store.isFiltered(problem)); //$NON-NLS-1$
 	}
 
+	/**
+	 * tests that a filter with qualified message arguments filters problems
+	 * with the simple names of the arguments and vice versa
+	 */
+	@Test
+	public void testFilterMatchesSimpleNames() throws CoreException {
+		IApiComponent component = getProjectApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		assertNotNull("the testing project api component must exist", component); //$NON-NLS-1$
+		IProject project = getTestingJavaProject(TESTING_PLUGIN_PROJECT_NAME).getProject();
+		IResource resource = project.findMember(IPath.fromOSString("src/x/y/z/C4.java")); //$NON-NLS-1$
+		assertNotNull("the resource src/x/y/z/C4.java must exist", resource); //$NON-NLS-1$
+		String path = resource.getProjectRelativePath().toPortableString();
+		IApiProblem qualified = ApiProblemFactory.newApiProblem(path, "x.y.z.C4", new String[] { "x.y.z.C4", "m()" }, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				null, null, -1, -1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.METHOD, IApiProblem.ILLEGAL_OVERRIDE, IApiProblem.NO_FLAGS);
+		IApiProblem simple = ApiProblemFactory.newApiProblem(path, "x.y.z.C4", new String[] { "C4", "m()" }, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				null, null, -1, -1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.METHOD, IApiProblem.ILLEGAL_OVERRIDE, IApiProblem.NO_FLAGS);
+		IApiProblem other = ApiProblemFactory.newApiProblem(path, "x.y.z.C4", new String[] { "C4", "n()" }, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				null, null, -1, -1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.METHOD, IApiProblem.ILLEGAL_OVERRIDE, IApiProblem.NO_FLAGS);
+		IApiFilterStore store = component.getFilterStore();
+		store.addFiltersFor(new IApiProblem[] { qualified });
+		assertTrue("the problem with simple names should be filtered", store.isFiltered(simple)); //$NON-NLS-1$
+		assertFalse("the problem with other arguments should not be filtered", store.isFiltered(other)); //$NON-NLS-1$
+		store.removeFilters(new IApiProblemFilter[] {
+				ApiProblemFactory.newProblemFilter(component.getSymbolicName(), qualified, null) });
+		assertFalse("the problem with simple names should not be filtered", store.isFiltered(simple)); //$NON-NLS-1$
+	}
+
 	/**
 	 * Tests that a filter store will not be annotated from a bundle
 	 */
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -160,4 +161,23 @@ public class ApiModelCacheTests {
 		assertTrue("The type 'a.b.c.testee1' should have been removed from the cache", ApiModelCache.getCache().removeElementInfo(element)); //$NON-NLS-1$
 		assertTrue("The cache should be empty", ApiModelCache.getCache().isEmpty()); //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that lookups are counted as hits and misses and that the weight of
+	 * cached types is tracked
+	 */
+	@Test
+	public void testHitMissCounters() throws Exception {
+		ApiModelCache cache = ApiModelCache.getCache();
+		long hits = cache.getHits();
+		long misses = cache.getMisses();
+		cacheType("testtype4"); //$NON-NLS-1$
+		assertTrue("The cache should have a weight", cache.getWeight() > 0); //$NON-NLS-1$
+		assertNotNull(cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "testtype4", IApiElement.TYPE)); //$NON-NLS-1$
+		assertNull(cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "testtype5", IApiElement.TYPE)); //$NON-NLS-1$
+		assertEquals("Wrong number of hits", hits + 1, cache.getHits()); //$NON-NLS-1$
+		assertEquals("Wrong number of misses", misses + 1, cache.getMisses()); //$NON-NLS-1$
+		assertTrue(cache.removeElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "testtype4", IApiElement.TYPE)); //$NON-NLS-1$
+		assertEquals("The cache should have no weight", 0, cache.getWeight()); //$NON-NLS-1$
+	}
 }
@@ -14,24 +14,47 @@
 package org.eclipse.pde.api.tools.model.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.model.ApiType;
 import org.eclipse.pde.api.tools.internal.model.ArchiveApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.model.ArchiveIndexStore;
 import org.eclipse.pde.api.tools.internal.model.DirectoryApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.model.NestedArchiveApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureBuilder;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureStore;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureStore.ArchiveStructures;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.util.Util;
 import org.junit.Test;
 
 /**
@@ -227,4 +250,210 @@ public class ApiTypeContainerTests {
 		assertEquals("Visited wrong number of packages", expectedPkgOrder.size(), visit.size()); //$NON-NLS-1$
 		assertEquals("Visit order incorrect", expectedPkgOrder, visit);		 //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests looking up types of an archive from several threads while it is
+	 * initialized.
+	 */
+	@Test
+	public void testConcurrentArchiveLookups() throws Exception {
+		IApiTypeContainer container = buildArchiveContainer();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<IApiTypeRoot>> results = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				results.add(executor.submit(() -> {
+					assertEquals("Wrong number of packages", 3, container.getPackageNames().length); //$NON-NLS-1$
+					return container.findTypeRoot("a.b.c.ClassC"); //$NON-NLS-1$
+				}));
+			}
+			for (Future<IApiTypeRoot> result : results) {
+				assertEquals("Wrong type root", "a.b.c.ClassC", result.get().getTypeName()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Tests that a persisted archive index is read back and invalidated when
+	 * the archive changes.
+	 */
+	@Test
+	public void testArchiveIndexStore() throws Exception {
+		IPath path = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		File folder = Files.createTempDirectory("archiveIndex").toFile(); //$NON-NLS-1$
+		File archive = new File(folder, "sample.jar"); //$NON-NLS-1$
+		Files.copy(path.toFile().toPath(), archive.toPath());
+		ArchiveIndexStore store = new ArchiveIndexStore(new File(folder, "index")); //$NON-NLS-1$
+		try {
+			String location = archive.getAbsolutePath();
+			assertNull("Should be no index", store.read(location, archive)); //$NON-NLS-1$
+			Map<String, Map<String, String>> packages = new TreeMap<>();
+			packages.put("", new TreeMap<>(Map.of("Test", "Test.class"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			packages.put("a.b.c", new TreeMap<>(Map.of("a.b.c.D", "a/b/c/D.class"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			store.write(location, archive, packages);
+			assertEquals("Wrong index", packages, store.read(location, archive)); //$NON-NLS-1$
+			assertTrue(archive.setLastModified(archive.lastModified() + 10000));
+			assertNull("Index of a changed archive should be ignored", store.read(location, archive)); //$NON-NLS-1$
+
+			// reading an index marks it as used
+			File indexFile = new File(folder, "index").listFiles()[0]; //$NON-NLS-1$
+			assertTrue(indexFile.setLastModified(System.currentTimeMillis() - Util.UNUSED_CACHE_FILE_AGE - 10000));
+			assertNotNull("Should be an index", store.read(location, archive)); //$NON-NLS-1$
+			store.prune();
+			assertTrue("Used index should be kept", indexFile.isFile()); //$NON-NLS-1$
+			assertTrue(indexFile.setLastModified(System.currentTimeMillis() - Util.UNUSED_CACHE_FILE_AGE - 10000));
+			store.prune();
+			assertFalse("Unused index should be deleted", indexFile.exists()); //$NON-NLS-1$
+		} finally {
+			store.clear();
+			new File(folder, "index").delete(); //$NON-NLS-1$
+			archive.delete();
+			folder.delete();
+		}
+	}
+
+	/**
+	 * Tests that persisted type structures are read back equal to the ones
+	 * built from the class files and invalidated when the archive changes.
+	 */
+	@Test
+	public void testTypeStructureStore() throws Exception {
+		IPath path = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		File folder = Files.createTempDirectory("typeStructures").toFile(); //$NON-NLS-1$
+		File archive = new File(folder, "sample.jar"); //$NON-NLS-1$
+		Files.copy(path.toFile().toPath(), archive.toPath());
+		File storeFolder = new File(folder, "structures"); //$NON-NLS-1$
+		TypeStructureStore store = new TypeStructureStore(storeFolder);
+		try {
+			String location = archive.getAbsolutePath();
+			IApiTypeContainer container = new ArchiveApiTypeContainer(null, location);
+			String[] typeNames = { "DefA", "a.ClassB", "a.ClassB$InsideB", "a.b.c.InterfaceC" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			Map<String, IApiType> expected = new HashMap<>();
+			ArchiveStructures structures = store.getStructures(location, archive);
+			for (String typeName : typeNames) {
+				AbstractApiTypeRoot root = (AbstractApiTypeRoot) container.findTypeRoot(typeName);
+				IApiType type = TypeStructureBuilder.buildTypeStructure(root.getContents(), null, root);
+				expected.put(root.getName(), type);
+				assertNull("Should be no structure", structures.read(root.getName(), null, root)); //$NON-NLS-1$
+				structures.write(root.getName(), (ApiType) type);
+			}
+			store.save();
+			store = new TypeStructureStore(storeFolder);
+			structures = store.getStructures(location, archive);
+			for (String typeName : typeNames) {
+				IApiTypeRoot root = container.findTypeRoot(typeName);
+				IApiType type = structures.read(root.getName(), null, root);
+				IApiType expectedType = expected.get(root.getName());
+				assertEquals("Wrong structure", expectedType.toString(), type.toString()); //$NON-NLS-1$
+				assertEquals("Wrong simple name", expectedType.getSimpleName(), type.getSimpleName()); //$NON-NLS-1$
+				assertEquals("Wrong member type", expectedType.isMemberType(), type.isMemberType()); //$NON-NLS-1$
+			}
+			// the file is replaced while its structures are in use
+			AbstractApiTypeRoot added = (AbstractApiTypeRoot) container.findTypeRoot("a.b.c.ClassD"); //$NON-NLS-1$
+			structures.write(added.getName(), (ApiType) TypeStructureBuilder.buildTypeStructure(added.getContents(), null, added));
+			store.save();
+			assertNotNull("Should be a structure", structures.read(added.getName(), null, added)); //$NON-NLS-1$
+			structures = new TypeStructureStore(storeFolder).getStructures(location, archive);
+			assertNotNull("Should be a structure", structures.read(added.getName(), null, added)); //$NON-NLS-1$
+			for (String typeName : typeNames) {
+				IApiTypeRoot root = container.findTypeRoot(typeName);
+				assertNotNull("Should be a structure", structures.read(root.getName(), null, root)); //$NON-NLS-1$
+			}
+			assertTrue(archive.setLastModified(archive.lastModified() + 10000));
+			structures = store.getStructures(location, archive);
+			IApiTypeRoot root = container.findTypeRoot("DefA"); //$NON-NLS-1$
+			assertNull("Structures of a changed archive should be ignored", structures.read(root.getName(), null, root)); //$NON-NLS-1$
+
+			File[] files = storeFolder.listFiles();
+			assertEquals("Should be one file", 1, files.length); //$NON-NLS-1$
+			store.prune();
+			assertTrue("Used file should be kept", files[0].isFile()); //$NON-NLS-1$
+			assertTrue(files[0].setLastModified(System.currentTimeMillis() - Util.UNUSED_CACHE_FILE_AGE - 10000));
+			store.prune();
+			assertFalse("Unused file should be deleted", files[0].exists()); //$NON-NLS-1$
+		} finally {
+			store.clear();
+			storeFolder.delete();
+			archive.delete();
+			folder.delete();
+		}
+	}
+
+	/**
+	 * Tests that type structures are written once they exceed the limit of the
+	 * store and that the ones of changed archives are dropped on save.
+	 */
+	@Test
+	public void testTypeStructureStorePendingStructures() throws Exception {
+		IPath path = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		File folder = Files.createTempDirectory("typeStructures").toFile(); //$NON-NLS-1$
+		File archive = new File(folder, "sample.jar"); //$NON-NLS-1$
+		Files.copy(path.toFile().toPath(), archive.toPath());
+		File storeFolder = new File(folder, "structures"); //$NON-NLS-1$
+		File limitedStoreFolder = new File(folder, "limited"); //$NON-NLS-1$
+		TypeStructureStore store = new TypeStructureStore(storeFolder);
+		TypeStructureStore limitedStore = new TypeStructureStore(limitedStoreFolder, 1);
+		try {
+			String location = archive.getAbsolutePath();
+			IApiTypeContainer container = new ArchiveApiTypeContainer(null, location);
+			AbstractApiTypeRoot root = (AbstractApiTypeRoot) container.findTypeRoot("DefA"); //$NON-NLS-1$
+			ApiType type = (ApiType) TypeStructureBuilder.buildTypeStructure(root.getContents(), null, root);
+
+			// written without a save
+			limitedStore.getStructures(location, archive).write(root.getName(), type);
+			ArchiveStructures structures = new TypeStructureStore(limitedStoreFolder).getStructures(location, archive);
+			assertNotNull("Should be a structure", structures.read(root.getName(), null, root)); //$NON-NLS-1$
+
+			// dropped as the archive changed
+			store.getStructures(location, archive).write(root.getName(), type);
+			assertTrue(archive.setLastModified(archive.lastModified() + 10000));
+			store.save();
+			assertFalse("Structures of a changed archive should not be written", storeFolder.exists()); //$NON-NLS-1$
+		} finally {
+			store.clear();
+			limitedStore.clear();
+			storeFolder.delete();
+			limitedStoreFolder.delete();
+			archive.delete();
+			folder.delete();
+		}
+	}
+
+	/**
+	 * Tests retrieving package names from a nested archive and a directory of
+	 * a jarred bundle, which are read without extracting them.
+	 */
+	@Test
+	public void testNestedArchivePackageNames() throws Exception {
+		File sample = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar").toFile(); //$NON-NLS-1$ //$NON-NLS-2$
+		File folder = Files.createTempDirectory("nestedArchive").toFile(); //$NON-NLS-1$
+		File outer = new File(folder, "outer.jar"); //$NON-NLS-1$
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(outer)); ZipFile zip = new ZipFile(sample)) {
+			out.putNextEntry(new ZipEntry("lib/sample.jar")); //$NON-NLS-1$
+			Files.copy(sample.toPath(), out);
+			out.closeEntry();
+			out.putNextEntry(new ZipEntry("classes/")); //$NON-NLS-1$
+			out.closeEntry();
+			Enumeration<? extends ZipEntry> entries = zip.entries();
+			while (entries.hasMoreElements()) {
+				ZipEntry entry = entries.nextElement();
+				out.putNextEntry(new ZipEntry("classes/" + entry.getName())); //$NON-NLS-1$
+				if (!entry.isDirectory()) {
+					try (InputStream in = zip.getInputStream(entry)) {
+						in.transferTo(out);
+					}
+				}
+				out.closeEntry();
+			}
+		}
+		try {
+			doTestPackageNames(new NestedArchiveApiTypeContainer(null, outer.getAbsolutePath(), "lib/sample.jar", false)); //$NON-NLS-1$
+			doTestPackageNames(new NestedArchiveApiTypeContainer(null, outer.getAbsolutePath(), "classes/", true)); //$NON-NLS-1$
+		} finally {
+			outer.delete();
+			folder.delete();
+		}
+	}
 }
@@ -82,6 +82,13 @@ public class TestCompositeSearchReporter implements IApiSearchReporter {
 		}
 	}
 
+	@Override
+	public void endReportResults(IApiElement element) {
+		for (IApiSearchReporter reporter : this.reporters) {
+			reporter.endReportResults(element);
+		}
+	}
+
 	@Override
 	public void reportMetadata(IMetadata data) {
 	}
@@ -19,8 +19,10 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
@@ -39,7 +41,10 @@ public class AntFilterStore extends FilterStore {
 
 	String fComponentId = null;
 	String fFiltersRoot = null;
-	public static ArrayList<IApiProblem> filteredAPIProblems = new ArrayList<>();
+	/**
+	 * The filtered problems, components may be analyzed concurrently
+	 */
+	public static final List<IApiProblem> filteredAPIProblems = Collections.synchronizedList(new ArrayList<>());
 	/**
 	 * Constructor
 	 */
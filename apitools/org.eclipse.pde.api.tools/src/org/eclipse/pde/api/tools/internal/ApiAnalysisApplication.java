@@ -13,15 +13,25 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
 import org.eclipse.core.resources.ICommand;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -38,7 +48,11 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.IJobChangeListener;
+import org.eclipse.core.runtime.jobs.IJobManager;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
@@ -59,27 +73,55 @@ import org.osgi.framework.Bundle;
 
 public class ApiAnalysisApplication implements IApplication {
 
-	private static class Request {
+	/**
+	 * Prefix of the line that acknowledges each project read from
+	 * <code>-projectList -</code>, followed by the exit code and the project
+	 * location
+	 */
+	private static final String RESULT_PREFIX = "API_ANALYSIS_RESULT"; //$NON-NLS-1$
+
+	private static final String NO_PROJECT_MESSAGE = "No project to analyze, use -project or -projectList."; //$NON-NLS-1$
+
+	/**
+	 * The arguments of the application
+	 */
+	public static class Request {
 		private static final String FAIL_ON_ERROR_ARG = "failOnError"; //$NON-NLS-1$
 		private static final String PROJECT_ARG = "project"; //$NON-NLS-1$
 		private static final String BASELINE_ARG = "baseline"; //$NON-NLS-1$
 		private static final String BASELINE_DEFAULT_VALUE = "default"; //$NON-NLS-1$
 		private static final String DEPENDENCY_LIST_ARG = "dependencyList"; //$NON-NLS-1$
+		private static final String PROJECT_LIST_ARG = "projectList"; //$NON-NLS-1$
+		private static final String REPORT_ARG = "report"; //$NON-NLS-1$
+		private static final String STDIN_VALUE = "-"; //$NON-NLS-1$
 
 		private Request() {
 		}
 
+		/**
+		 * Reads the request from the application arguments.
+		 *
+		 * @param params the application arguments
+		 * @return the request
+		 */
 		public static Request readFromArgs(String[] params) {
 			Request res = new Request();
 			String currentKey = null;
 			for (String param : params) {
-				if (param.charAt(0) == '-') {
+				if (param.charAt(0) == '-' && !(PROJECT_LIST_ARG.equals(currentKey) && STDIN_VALUE.equals(param))) {
 					if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
 						res.failOnError = true;
 					}
 					currentKey = param.substring(1);
 				} else if (PROJECT_ARG.equals(currentKey)) {
-					res.project = new File(param);
+					res.projects.add(new File(param));
+				} else if (PROJECT_LIST_ARG.equals(currentKey)) {
+					res.readProjectsFromStdin = STDIN_VALUE.equals(param);
+					if (!res.readProjectsFromStdin) {
+						res.projectList = new File(param);
+					}
+				} else if (REPORT_ARG.equals(currentKey)) {
+					res.reportDir = new File(param);
 				} else if (BASELINE_ARG.equals(currentKey) && !BASELINE_DEFAULT_VALUE.equals(param)) {
 					res.baselinePath = new File(param);
 				} else if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
@@ -94,7 +136,38 @@ public class ApiAnalysisApplication implements IApplication {
 			return res;
 		}
 
-		public File project;
+		/**
+		 * Reads the projects of a project list, one project directory per
+		 * line. Blank lines are skipped.
+		 *
+		 * @param reader the project list
+		 * @return the project directories in the order of the list
+		 * @throws IOException if the list cannot be read
+		 */
+		public static List<File> readProjectList(BufferedReader reader) throws IOException {
+			List<File> projects = new ArrayList<>();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				File project = toProject(line);
+				if (project != null) {
+					projects.add(project);
+				}
+			}
+			return projects;
+		}
+
+		/**
+		 * @return the project directory of a line of a project list or
+		 *         <code>null</code> for a blank line
+		 */
+		static File toProject(String line) {
+			return line.isBlank() ? null : new File(line.trim());
+		}
+
+		public final List<File> projects = new ArrayList<>();
+		public File projectList;
+		public boolean readProjectsFromStdin;
+		public File reportDir;
 		public File baselinePath;
 		public boolean failOnError;
 		public File tpFile;
@@ -104,7 +177,6 @@ public class ApiAnalysisApplication implements IApplication {
 
 	@Override
 	public Object start(IApplicationContext context) throws Exception {
-		restoreOriginalProjectState = null;
 		try {
 			IWorkspaceDescription desc = ResourcesPlugin.getWorkspace().getDescription();
 			desc.setAutoBuilding(false);
@@ -114,11 +186,18 @@ public class ApiAnalysisApplication implements IApplication {
 
 			Request args = Request
 					.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
-			IProject project = importProject(args.project);
-			if (project == null) {
-				System.err.println("Project not loaded."); //$NON-NLS-1$
+			List<File> projects = new ArrayList<>(args.projects);
+			if (args.projectList != null) {
+				try (BufferedReader reader = Files.newBufferedReader(args.projectList.toPath())) {
+					projects.addAll(Request.readProjectList(reader));
+				}
+			}
+			if (projects.isEmpty() && !args.readProjectsFromStdin) {
+				System.err.println(NO_PROJECT_MESSAGE);
 				return IStatus.ERROR;
 			}
+			// the baseline and the target platform are set up once and shared
+			// by all analyzed projects
 			IApiBaseline baseline = setBaseline(args.baselinePath);
 			if (baseline == null) {
 				System.err.println("Baseline shouldn't be null."); //$NON-NLS-1$
@@ -126,12 +205,64 @@ public class ApiAnalysisApplication implements IApplication {
 			}
 			setTargetPlatform(args.tpFile);
 
+			int result = IStatus.OK;
+			for (File project : projects) {
+				result = Math.max(result, analyzeProject(project, args));
+			}
+			int analyzed = projects.size();
+			if (args.readProjectsFromStdin) {
+				// one project per line, each analysis is acknowledged by a
+				// result line so the caller can feed the next project
+				BufferedReader reader = new BufferedReader(new InputStreamReader(System.in));
+				String line;
+				while ((line = reader.readLine()) != null) {
+					File project = Request.toProject(line);
+					if (project == null) {
+						continue;
+					}
+					analyzed++;
+					int projectResult = analyzeProject(project, args);
+					result = Math.max(result, projectResult);
+					System.out.println(String.format("%s %d %s", RESULT_PREFIX, projectResult, //$NON-NLS-1$
+							project.getAbsolutePath()));
+					System.out.flush();
+				}
+			}
+			if (analyzed == 0) {
+				System.err.println(NO_PROJECT_MESSAGE);
+				return IStatus.ERROR;
+			}
+			return result;
+		} catch (CoreException e) {
+			System.err.println(e.getStatus());
+			return IStatus.ERROR;
+		} catch (Exception e) {
+			e.printStackTrace();
+			return IStatus.ERROR;
+		}
+	}
+
+	/**
+	 * Imports, builds and reports the API problems of the given project. The
+	 * project is restored to its original state afterwards.
+	 *
+	 * @param projectDir the project directory
+	 * @param args the application arguments
+	 * @return the exit code for the analyzed project
+	 */
+	private int analyzeProject(File projectDir, Request args) throws CoreException {
+		restoreOriginalProjectState = null;
+		try {
+			IProject project = importProject(projectDir);
+			if (project == null) {
+				System.err.println("Project not loaded."); //$NON-NLS-1$
+				return IStatus.ERROR;
+			}
+
 			project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
 			// wait untill all jobs has finished that might be sceduled as part of the
 			// build...
-			while (!Job.getJobManager().isIdle()) {
-				Thread.yield();
-			}
+			waitForJobs();
 			IMarker[] allProblemMarkers = project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
 			Predicate<IMarker> isAPIMarker = marker -> {
 				try {
@@ -154,6 +285,7 @@ public class ApiAnalysisApplication implements IApplication {
 					printMarker(marker, "FATAL"); //$NON-NLS-1$
 				}
 				System.err.println("Some blocking (most likely link/compilation) errors are present ^^^"); //$NON-NLS-1$
+				writeReport(args.reportDir, project, allNonAPIErrors, "FATAL"); //$NON-NLS-1$
 				return 10;
 			}
 			// errors
@@ -172,6 +304,7 @@ public class ApiAnalysisApplication implements IApplication {
 			for (IMarker marker : warningMarkers) {
 				printMarker(marker, "API WARNING"); //$NON-NLS-1$
 			}
+			writeReport(args.reportDir, project, allAPIProbleMarkers, null);
 			// fail
 			if (args.failOnError && errorMarkers.length > 0) {
 				return IStatus.ERROR;
@@ -190,6 +323,78 @@ public class ApiAnalysisApplication implements IApplication {
 		}
 	}
 
+	/**
+	 * Blocks until no job is running or waiting, without busy spinning.
+	 */
+	private static void waitForJobs() throws InterruptedException {
+		IJobManager jobManager = Job.getJobManager();
+		Object lock = new Object();
+		IJobChangeListener listener = new JobChangeAdapter() {
+			@Override
+			public void done(IJobChangeEvent event) {
+				synchronized (lock) {
+					lock.notifyAll();
+				}
+			}
+		};
+		jobManager.addJobChangeListener(listener);
+		try {
+			synchronized (lock) {
+				while (!jobManager.isIdle()) {
+					// the timeout covers jobs that are scheduled from within
+					// the done() notification of other jobs
+					lock.wait(100);
+				}
+			}
+		} finally {
+			jobManager.removeJobChangeListener(listener);
+		}
+	}
+
+	/**
+	 * Writes the given problem markers of the project as
+	 * <code>&lt;project name&gt;.xml</code> to the given report directory.
+	 *
+	 * @param reportDir the report directory or <code>null</code> if no report
+	 *            was requested
+	 * @param project the analyzed project
+	 * @param markers the problem markers to report
+	 * @param type the type to report for all markers or <code>null</code> to
+	 *            derive it from the marker severity
+	 */
+	private static void writeReport(File reportDir, IProject project, IMarker[] markers, String type)
+			throws IOException, CoreException {
+		if (reportDir == null) {
+			return;
+		}
+		Files.createDirectories(reportDir.toPath());
+		File reportFile = new File(reportDir, project.getName() + ".xml"); //$NON-NLS-1$
+		try (Writer writer = Files.newBufferedWriter(reportFile.toPath(), StandardCharsets.UTF_8)) {
+			XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+			xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0"); //$NON-NLS-1$
+			xml.writeStartElement("apiAnalysis"); //$NON-NLS-1$
+			xml.writeAttribute("project", project.getName()); //$NON-NLS-1$
+			for (IMarker marker : markers) {
+				String markerType = type;
+				if (markerType == null) {
+					markerType = marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR ? "API ERROR" //$NON-NLS-1$
+							: "API WARNING"; //$NON-NLS-1$
+				}
+				xml.writeEmptyElement("problem"); //$NON-NLS-1$
+				xml.writeAttribute("type", markerType); //$NON-NLS-1$
+				xml.writeAttribute("markerType", marker.getType()); //$NON-NLS-1$
+				xml.writeAttribute("file", getFullPath(marker)); //$NON-NLS-1$
+				xml.writeAttribute("line", Integer.toString(marker.getAttribute(IMarker.LINE_NUMBER, -1))); //$NON-NLS-1$
+				xml.writeAttribute("message", marker.getAttribute(IMarker.MESSAGE, "").trim()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			xml.writeEndElement();
+			xml.writeEndDocument();
+			xml.close();
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+	}
+
 	private static void printMarker(IMarker marker, String type) {
 		String path = getFullPath(marker);
 		String file = marker.getResource().getName();
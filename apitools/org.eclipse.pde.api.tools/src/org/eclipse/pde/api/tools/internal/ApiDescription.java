@@ -228,6 +228,45 @@ public class ApiDescription implements IApiDescription {
 			}
 		}
 
+		/**
+		 * Persists this node and its children with the given binary encoder.
+		 *
+		 * @param encoder binary encoder
+		 */
+		void persistBinary(BinaryApiDescription.Encoder encoder) {
+			switch (element.getElementType()) {
+				case IElementDescriptor.PACKAGE -> {
+					encoder.startPackage(((IPackageDescriptor) element).getName(), new String[0], this.visibility, this.restrictions);
+					persistBinaryChildren(encoder);
+					encoder.end();
+				}
+				case IElementDescriptor.TYPE -> {
+					encoder.startType(((IReferenceTypeDescriptor) element).getQualifiedName(), null, this.visibility, this.restrictions, -1L);
+					persistBinaryChildren(encoder);
+					encoder.end();
+				}
+				case IElementDescriptor.METHOD -> {
+					IMethodDescriptor md = (IMethodDescriptor) element;
+					encoder.member(md.getName(), md.getSignature(), this.visibility, this.restrictions);
+				}
+				case IElementDescriptor.FIELD -> {
+					encoder.member(((IFieldDescriptor) element).getName(), null, this.visibility, this.restrictions);
+				}
+				default -> { /**/ }
+			}
+		}
+
+		/**
+		 * Persists the children of this node with the given binary encoder.
+		 *
+		 * @param encoder binary encoder
+		 */
+		void persistBinaryChildren(BinaryApiDescription.Encoder encoder) {
+			for (ManifestNode node : children.values()) {
+				node.persistBinary(encoder);
+			}
+		}
+
 		/**
 		 * Adds visibility and restrictions to the XML element.
 		 *
@@ -343,6 +382,37 @@ public class ApiDescription implements IApiDescription {
 		}
 	}
 
+	/**
+	 * Returns the embedded version of this API description.
+	 */
+	String getEmbeddedVersion() {
+		return Float.toString(fEmbeddedVersion);
+	}
+
+	/**
+	 * Sets the visibility and restrictions of all types and members of the
+	 * given description on this description, as if they were set one by one.
+	 * Packages are only created as required, their visibility is not copied.
+	 *
+	 * @param annotations the description to copy annotations from
+	 */
+	void annotate(ApiDescription annotations) {
+		fEmbeddedVersion = annotations.fEmbeddedVersion;
+		for (ManifestNode pkg : annotations.fPackageMap.values()) {
+			annotateChildren(pkg);
+		}
+	}
+
+	private void annotateChildren(ManifestNode parent) {
+		for (ManifestNode node : parent.children.values()) {
+			if (node.visibility != VISIBILITY_INHERITED) {
+				setVisibility(node.element, node.visibility);
+			}
+			setRestrictions(node.element, node.restrictions);
+			annotateChildren(node);
+		}
+	}
+
 	/**
 	 * Visits a node and its children.
 	 *
@@ -394,6 +464,9 @@ public class ApiDescription implements IApiDescription {
 		for (IElementDescriptor current : path) {
 			parentNode = node;
 			node = map.get(current);
+			if (node == null && map == fPackageMap) {
+				node = loadPackage(current);
+			}
 			if (node == null) {
 				if (write || (isInsertOnResolve(current))) {
 					node = createNode(parentNode, current);
@@ -501,6 +574,22 @@ public class ApiDescription implements IApiDescription {
 		}
 	}
 
+	/**
+	 * Returns the node of the given package if it is part of a persisted
+	 * description but has not been loaded yet, after adding it to the package
+	 * map. Returns <code>null</code> otherwise.
+	 * <p>
+	 * Default implementation returns <code>null</code>. Subclasses that load
+	 * packages lazily should override this method.
+	 * </p>
+	 *
+	 * @param element package element
+	 * @return loaded package node or <code>null</code>
+	 */
+	protected ManifestNode loadPackage(IElementDescriptor element) {
+		return null;
+	}
+
 	/**
 	 * Creates and returns a new manifest node to be inserted into the tree or
 	 * <code>null</code> if the node does not exist.
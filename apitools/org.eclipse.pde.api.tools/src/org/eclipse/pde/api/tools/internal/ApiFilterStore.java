@@ -13,9 +13,12 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -25,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.filebuffers.FileBuffers;
 import org.eclipse.core.filebuffers.ITextFileBuffer;
@@ -76,16 +80,123 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	/**
 	 * Map used to collect unused {@link IApiProblemFilter}s
 	 */
-	private HashMap<IResource, Set<IApiProblemFilter>> fUnusedFilters = null;
+	private volatile Map<IResource, Set<IApiProblemFilter>> fUnusedFilters = null;
 
 	/**
 	 * The backing {@link IJavaProject}
 	 */
 	IJavaProject fProject = null;
 
-	boolean fNeedsSaving = false;
-	boolean fTriggeredChange = false;
-	HashMap<IResource, Map<String, Set<IApiProblemFilter>>> fFilterMap;
+	volatile boolean fNeedsSaving = false;
+	volatile boolean fTriggeredChange = false;
+
+	/**
+	 * The filters of the project or <code>null</code> if they have not been
+	 * loaded yet. A snapshot is never modified, changes publish a new one, so
+	 * filters can be looked up without locking.
+	 */
+	private volatile FilterSnapshot fFilters;
+
+	/**
+	 * The filters to be written by the next run of the persist job
+	 */
+	private volatile Map<IResource, Map<String, Set<IApiProblemFilter>>> fFiltersToPersist;
+
+	private WorkspaceJob fPersistJob;
+
+	/**
+	 * Hashed lookup key of a problem. Message arguments are reduced to their
+	 * simple names, since {@link FilterStore#problemsMatch} lets qualified
+	 * and simple names match each other. Problems with different keys never
+	 * match.
+	 */
+	private static record FilterKey(int id, String typeName, List<String> arguments) {
+
+		static FilterKey of(IApiProblem problem) {
+			String[] messageArguments = problem.getMessageArguments();
+			List<String> arguments = new ArrayList<>(messageArguments.length);
+			for (String argument : messageArguments) {
+				arguments.add(argument.substring(argument.lastIndexOf('.') + 1));
+			}
+			return new FilterKey(problem.getId(), problem.getTypeName(), arguments);
+		}
+	}
+
+	/**
+	 * Snapshot of the filters of the project by resource and type name. The
+	 * lookup index of a resource is built when a problem of the resource is
+	 * first checked.
+	 */
+	private static record FilterSnapshot(Map<IResource, Map<String, Set<IApiProblemFilter>>> filters,
+			Map<IResource, Map<FilterKey, List<IApiProblemFilter>>> index) {
+
+		FilterSnapshot(Map<IResource, Map<String, Set<IApiProblemFilter>>> filters) {
+			this(Collections.unmodifiableMap(filters), new ConcurrentHashMap<>());
+		}
+
+		/**
+		 * Returns the filters of the given resource that may match the given
+		 * problem.
+		 */
+		List<IApiProblemFilter> getCandidates(IResource resource, IApiProblem problem) {
+			Map<String, Set<IApiProblemFilter>> typeNames = filters.get(resource);
+			if (typeNames == null) {
+				return Collections.emptyList();
+			}
+			Map<FilterKey, List<IApiProblemFilter>> resourceIndex = index.computeIfAbsent(resource, r -> {
+				Map<FilterKey, List<IApiProblemFilter>> keys = new HashMap<>();
+				for (Set<IApiProblemFilter> values : typeNames.values()) {
+					for (IApiProblemFilter filter : values) {
+						keys.computeIfAbsent(FilterKey.of(filter.getUnderlyingProblem()), k -> new ArrayList<>(1)).add(filter);
+					}
+				}
+				return keys;
+			});
+			return resourceIndex.getOrDefault(FilterKey.of(problem), Collections.emptyList());
+		}
+	}
+
+	/**
+	 * Modifiable copy of a {@link FilterSnapshot}. The filters of a resource
+	 * are only copied when they are modified.
+	 */
+	private static final class FilterEdit {
+		final Map<IResource, Map<String, Set<IApiProblemFilter>>> fFilterMap;
+		private final Set<IResource> fCopied = new HashSet<>();
+
+		FilterEdit(FilterSnapshot snapshot) {
+			fFilterMap = snapshot == null ? new LinkedHashMap<>(5) : new LinkedHashMap<>(snapshot.filters());
+		}
+
+		/**
+		 * Returns the modifiable filters of the given resource and type name,
+		 * creating them if requested.
+		 */
+		Set<IApiProblemFilter> getFilters(IResource resource, String typeName, boolean create) {
+			Map<String, Set<IApiProblemFilter>> pTypeNames = fFilterMap.get(resource);
+			if (pTypeNames == null) {
+				if (!create) {
+					return null;
+				}
+				pTypeNames = new LinkedHashMap<>();
+				fFilterMap.put(resource, pTypeNames);
+				fCopied.add(resource);
+			} else if (fCopied.add(resource)) {
+				Map<String, Set<IApiProblemFilter>> copy = new LinkedHashMap<>();
+				for (Entry<String, Set<IApiProblemFilter>> entry : pTypeNames.entrySet()) {
+					copy.put(entry.getKey(), new LinkedHashSet<>(entry.getValue()));
+				}
+				pTypeNames = copy;
+				fFilterMap.put(resource, pTypeNames);
+			}
+			Set<IApiProblemFilter> pfilters = pTypeNames.get(typeName);
+			if (pfilters == null && create) {
+				pfilters = new LinkedHashSet<>();
+				pTypeNames.put(typeName, pfilters);
+			}
+			return pfilters;
+		}
+	}
 
 	/**
 	 * Constructor
@@ -99,14 +210,26 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	}
 
 	/**
-	 * Saves the .api_filters file for the component
+	 * Saves the .api_filters file for the component. Requests made while a
+	 * save is pending are coalesced, the latest filters are written.
 	 */
 	public void persistApiFilters() {
 		if (!fNeedsSaving) {
 			return;
 		}
-		final HashMap<IResource, Map<String, Set<IApiProblemFilter>>> filters = new LinkedHashMap<>(fFilterMap);
-		WorkspaceJob job = new WorkspaceJob(Util.EMPTY_STRING) {
+		FilterSnapshot snapshot = fFilters;
+		if (snapshot == null) {
+			return;
+		}
+		fFiltersToPersist = snapshot.filters();
+		getPersistJob().schedule();
+	}
+
+	private synchronized WorkspaceJob getPersistJob() {
+		if (fPersistJob != null) {
+			return fPersistJob;
+		}
+		fPersistJob = new WorkspaceJob(Util.EMPTY_STRING) {
 			@Override
 			public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
 				if (ApiPlugin.DEBUG_FILTER_STORE) {
@@ -121,7 +244,9 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 						}
 						return Status.CANCEL_STATUS;
 					}
-					String xml = getStoreAsXml(filters);
+					// changes made from now on schedule another run
+					fNeedsSaving = false;
+					String xml = getStoreAsXml(fFiltersToPersist);
 					IFile file = project.getFile(getFilterFilePath(false));
 					if (xml == null) {
 						if (ApiPlugin.DEBUG_FILTER_STORE) {
@@ -152,10 +277,17 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 					if (lineDelimiter != null && !lineDelimiter.equals(lineSeparator)) {
 						xml = xml.replaceAll(lineSeparator, lineDelimiter);
 					}
-					try (InputStream xstream = Util.getInputStreamFromString(xml)) {
-						if (xstream == null) {
-							return Status.CANCEL_STATUS;
+					byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+					if (file.exists()) {
+						try (InputStream contents = file.getContents(true)) {
+							if (Arrays.equals(bytes, contents.readAllBytes())) {
+								// nothing changed, avoid a resource change and
+								// the build it triggers
+								return Status.OK_STATUS;
+							}
 						}
+					}
+					try (InputStream xstream = new ByteArrayInputStream(bytes)) {
 						if (file.getProject().isAccessible()) {
 							if (!file.exists()) {
 								IFolder folder = (IFolder) file.getParent();
@@ -169,16 +301,15 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 						}
 					}
 					fTriggeredChange = true;
-					fNeedsSaving = false;
 				} catch (CoreException | IOException ioe) {
 					ApiPlugin.log(ioe);
 				}
 				return Status.OK_STATUS;
 			}
 		};
-		job.setSystem(true);
-		job.setPriority(Job.INTERACTIVE);
-		job.schedule();
+		fPersistJob.setSystem(true);
+		fPersistJob.setPriority(Job.INTERACTIVE);
+		return fPersistJob;
 	}
 
 	@Override
@@ -190,6 +321,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			return;
 		}
 		initializeApiFilters();
+		FilterEdit edit = new FilterEdit(fFilters);
 		for (IApiProblemFilter filter : filters) {
 			IApiProblem problem = filter.getUnderlyingProblem();
 			String resourcePath = problem.getResourcePath();
@@ -200,26 +332,13 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			if (resource == null) {
 				continue;
 			}
-			Map<String, Set<IApiProblemFilter>> pTypeNames = fFilterMap.get(resource);
 			String typeName = problem.getTypeName();
 			if (typeName == null) {
 				typeName = GLOBAL;
 			}
-			Set<IApiProblemFilter> pfilters = null;
-			if (pTypeNames == null) {
-				pTypeNames = new HashMap<>();
-				pfilters = new HashSet<>();
-				pTypeNames.put(typeName, pfilters);
-				fFilterMap.put(resource, pTypeNames);
-			} else {
-				pfilters = pTypeNames.get(typeName);
-				if (pfilters == null) {
-					pfilters = new HashSet<>();
-					pTypeNames.put(typeName, pfilters);
-				}
-			}
-			fNeedsSaving |= pfilters.add(filter);
+			fNeedsSaving |= edit.getFilters(resource, typeName, true).add(filter);
 		}
+		fFilters = new FilterSnapshot(edit.fFilterMap);
 		persistApiFilters();
 	}
 
@@ -243,9 +362,8 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	}
 
 	@Override
-	public synchronized IApiProblemFilter[] getFilters(IResource resource) {
-		initializeApiFilters();
-		Map<String, Set<IApiProblemFilter>> pTypeNames = fFilterMap.get(resource);
+	public IApiProblemFilter[] getFilters(IResource resource) {
+		Map<String, Set<IApiProblemFilter>> pTypeNames = getSnapshot().filters().get(resource);
 		if (pTypeNames == null) {
 			return FilterStore.NO_FILTERS;
 		}
@@ -257,8 +375,8 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	}
 
 	@Override
-	public synchronized boolean isFiltered(IApiProblem problem) {
-		initializeApiFilters();
+	public boolean isFiltered(IApiProblem problem) {
+		FilterSnapshot snapshot = getSnapshot();
 		String resourcePath = problem.getResourcePath();
 		if (resourcePath == null) {
 			return false;
@@ -270,14 +388,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			return false;
 		}
-		IApiProblemFilter[] filters = this.getFilters(resource);
-		if (filters == null) {
-			if (ApiPlugin.DEBUG_FILTER_STORE) {
-				System.out.println("no filters defined for [" + resourcePath + "] return not filtered"); //$NON-NLS-1$ //$NON-NLS-2$
-			}
-			return false;
-		}
-		for (IApiProblemFilter filter : filters) {
+		for (IApiProblemFilter filter : snapshot.getCandidates(resource, problem)) {
 			if (problemsMatch(filter.getUnderlyingProblem(), problem)) {
 				if (ApiPlugin.DEBUG_FILTER_STORE) {
 					System.out.println("recording filter used: [" + filter.toString() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -299,17 +410,13 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 		// https://bugs.eclipse.org/bugs/show_bug.cgi?id=299319
 		persistApiFilters();
 		clearFilters();
-		if (fUnusedFilters != null) {
-			fUnusedFilters.clear();
-			fUnusedFilters = null;
-		}
+		fUnusedFilters = null;
 		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
 	}
 
 	@Override
-	public synchronized IResource[] getResources() {
-		initializeApiFilters();
-		Set<IResource> resources = fFilterMap.keySet();
+	public IResource[] getResources() {
+		Set<IResource> resources = getSnapshot().filters().keySet();
 		return resources.toArray(new IResource[resources.size()]);
 	}
 
@@ -321,12 +428,13 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			return false;
 		}
-		if (fFilterMap == null) {
+		if (fFilters == null) {
 			if (ApiPlugin.DEBUG_FILTER_STORE) {
 				System.out.println("null filter map, not removing"); //$NON-NLS-1$
 			}
 			return false;
 		}
+		FilterEdit edit = new FilterEdit(fFilters);
 		boolean success = true;
 		for (IApiProblemFilter filter : filters) {
 			IApiProblem underlyingProblem = filter.getUnderlyingProblem();
@@ -338,15 +446,14 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			if (resource == null) {
 				resource = fProject.getProject().getFile(resourcePath);
 			}
-			Map<String, Set<IApiProblemFilter>> pTypeNames = fFilterMap.get(resource);
-			if (pTypeNames == null) {
+			if (!edit.fFilterMap.containsKey(resource)) {
 				continue;
 			}
 			String typeName = underlyingProblem.getTypeName();
 			if (typeName == null) {
 				typeName = GLOBAL;
 			}
-			Set<IApiProblemFilter> pfilters = pTypeNames.get(typeName);
+			Set<IApiProblemFilter> pfilters = edit.getFilters(resource, typeName, false);
 			if (pfilters != null && pfilters.remove(filter)) {
 				if (ApiPlugin.DEBUG_FILTER_STORE) {
 					System.out.println("removed filter: [" + filter + "]"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -354,15 +461,17 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				fNeedsSaving |= true;
 				success &= true;
 				if (pfilters.isEmpty()) {
+					Map<String, Set<IApiProblemFilter>> pTypeNames = edit.fFilterMap.get(resource);
 					pTypeNames.remove(typeName);
 					if (pTypeNames.isEmpty()) {
-						success &= fFilterMap.remove(resource) != null;
+						success &= edit.fFilterMap.remove(resource) != null;
 					}
 				}
 			} else {
 				success &= false;
 			}
 		}
+		fFilters = new FilterSnapshot(edit.fFilterMap);
 		persistApiFilters();
 		return success;
 	}
@@ -373,7 +482,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 * @param filtermap the mapping of filters to convert to XML
 	 * @return an XML string representation of the given mapping of filters
 	 */
-	synchronized String getStoreAsXml(Map<IResource, Map<String, Set<IApiProblemFilter>>> filtermap) throws CoreException {
+	String getStoreAsXml(Map<IResource, Map<String, Set<IApiProblemFilter>>> filtermap) throws CoreException {
 		if (filtermap == null) {
 			if (ApiPlugin.DEBUG_FILTER_STORE) {
 				System.out.println("no filter map returning null XML for project [" + fProject.getElementName() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -489,40 +598,63 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 		return Util.serializeDocument(document);
 	}
 
+	/**
+	 * Returns the current filters, loading them if required.
+	 */
+	private FilterSnapshot getSnapshot() {
+		FilterSnapshot snapshot = fFilters;
+		if (snapshot == null) {
+			initializeApiFilters();
+			snapshot = fFilters;
+		}
+		return snapshot;
+	}
+
 	@Override
-	protected synchronized void initializeApiFilters() {
-		if (fFilterMap != null) {
+	protected void initializeApiFilters() {
+		if (fFilters != null) {
 			return;
 		}
-		if (ApiPlugin.DEBUG_FILTER_STORE) {
-			System.out.println("initializing api filter map for project [" + fProject.getElementName() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
-		}
-		fFilterMap = new LinkedHashMap<>(5);
-		IPath filepath = getFilterFilePath(true);
-		IResource file = ResourcesPlugin.getWorkspace().getRoot().findMember(filepath, true);
-		if (file == null) {
+		synchronized (this) {
+			if (fFilters != null) {
+				return;
+			}
 			if (ApiPlugin.DEBUG_FILTER_STORE) {
-				System.out.println(".api_filter file not found during initialization for project [" + fProject.getElementName() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+				System.out.println("initializing api filter map for project [" + fProject.getElementName() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
 			}
-			return;
-		}
-		IFile filterFile = (IFile) file;
-		if (filterFile.exists()) {
-			try (InputStream contents = filterFile.getContents()) {
-				readFilterFile(contents);
-			} catch (CoreException | IOException e) {
-				ApiPlugin.log(e);
+			try {
+				IPath filepath = getFilterFilePath(true);
+				IResource file = ResourcesPlugin.getWorkspace().getRoot().findMember(filepath, true);
+				if (file == null) {
+					if (ApiPlugin.DEBUG_FILTER_STORE) {
+						System.out.println(".api_filter file not found during initialization for project [" + fProject.getElementName() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					return;
+				}
+				IFile filterFile = (IFile) file;
+				if (filterFile.exists()) {
+					try (InputStream contents = filterFile.getContents()) {
+						// publishes all filters of the file at once
+						readFilterFile(contents);
+					} catch (CoreException | IOException e) {
+						ApiPlugin.log(e);
+					}
+				}
+			} finally {
+				if (fFilters == null) {
+					fFilters = new FilterSnapshot(new LinkedHashMap<>(5));
+				}
+				// need to reset the flag during initialization if we are not
+				// going to persist the filters, see
+				// https://bugs.eclipse.org/bugs/show_bug.cgi?id=309635
+				fNeedsSaving = false;
 			}
 		}
-		// need to reset the flag during initialization if we are not going to
-		// persist
-		// the filters, see https://bugs.eclipse.org/bugs/show_bug.cgi?id=309635
-		fNeedsSaving = false;
 	}
 
 	@Override
 	protected synchronized void internalAddFilters(IApiProblem[] problems, String[] comments) {
-		Set<IApiProblemFilter> filters = null;
+		FilterEdit edit = new FilterEdit(fFilters);
 		for (int i = 0; i < problems.length; i++) {
 			IApiProblem problem = problems[i];
 			IApiProblemFilter filter = new ApiProblemFilter(fProject.getElementName(), problem, (comments == null ? null : comments[i]));
@@ -534,25 +666,13 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			if (resource == null) {
 				continue;
 			}
-			Map<String, Set<IApiProblemFilter>> pTypeNames = fFilterMap.get(resource);
 			String typeName = problem.getTypeName();
 			if (typeName == null) {
 				typeName = GLOBAL;
 			}
-			if (pTypeNames == null) {
-				filters = new LinkedHashSet<>();
-				pTypeNames = new LinkedHashMap<>();
-				pTypeNames.put(typeName, filters);
-				fFilterMap.put(resource, pTypeNames);
-			} else {
-				filters = pTypeNames.get(typeName);
-				if (filters == null) {
-					filters = new LinkedHashSet<>();
-					pTypeNames.put(typeName, filters);
-				}
-			}
-			fNeedsSaving |= filters.add(filter);
+			fNeedsSaving |= edit.getFilters(resource, typeName, true).add(filter);
 		}
+		fFilters = new FilterSnapshot(edit.fFilterMap);
 	}
 
 	/**
@@ -595,31 +715,32 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 * Start recording filter usage for this store.
 	 */
 	public synchronized void recordFilterUsage() {
-		initializeApiFilters();
-		fUnusedFilters = new LinkedHashMap<>();
+		Map<IResource, Set<IApiProblemFilter>> unusedFilters = new ConcurrentHashMap<>();
 		Map<String, Set<IApiProblemFilter>> types = null;
 		Set<IApiProblemFilter> values = null;
-		for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> filterEntry : fFilterMap.entrySet()) {
+		for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> filterEntry : getSnapshot().filters().entrySet()) {
 			IResource resource = filterEntry.getKey();
 			types = filterEntry.getValue();
-			values = new LinkedHashSet<>();
-			fUnusedFilters.put(resource, values);
+			values = ConcurrentHashMap.newKeySet();
+			unusedFilters.put(resource, values);
 			for (Entry<String, Set<IApiProblemFilter>> entry : types.entrySet()) {
 				values.addAll(entry.getValue());
 			}
 		}
+		fUnusedFilters = unusedFilters;
 	}
 
 	/**
 	 * records that the following filter has been used
 	 */
 	private void recordFilterUsed(IResource resource, IApiProblemFilter filter) {
-		if (fUnusedFilters != null) {
-			Set<IApiProblemFilter> unused = fUnusedFilters.get(resource);
+		Map<IResource, Set<IApiProblemFilter>> unusedFilters = fUnusedFilters;
+		if (unusedFilters != null) {
+			Set<IApiProblemFilter> unused = unusedFilters.get(resource);
 			if (unused != null) {
 				unused.remove(filter);
 				if (unused.isEmpty()) {
-					fUnusedFilters.remove(resource);
+					unusedFilters.remove(resource, unused);
 				}
 			}
 		}
@@ -637,12 +758,13 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 *         <code>null</code>
 	 */
 	public IApiProblemFilter[] getUnusedFilters(IResource resource, String typeName, int[] categories) {
-		if (fUnusedFilters != null) {
+		Map<IResource, Set<IApiProblemFilter>> unusedFilters = fUnusedFilters;
+		if (unusedFilters != null) {
 			Set<IApiProblemFilter> unused = new HashSet<>();
 			Set<IApiProblemFilter> set = null;
 			if (resource != null) {
 				// add any unused filters for the resource
-				set = fUnusedFilters.get(resource);
+				set = unusedFilters.get(resource);
 				if (set != null) {
 					collectFilterFor(set, typeName, unused, categories);
 				}
@@ -652,17 +774,17 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 					// deleted types are only ever passed in with the manifest
 					// associated with them
 					IResource res = null;
-					for (Entry<IResource, Set<IApiProblemFilter>> entry : fUnusedFilters.entrySet()) {
+					for (Entry<IResource, Set<IApiProblemFilter>> entry : unusedFilters.entrySet()) {
 						res = entry.getKey();
 						if (res == null || !res.exists() || !res.getProject().equals(resource.getProject())) {
 							continue;
 						}
-						set = fUnusedFilters.get(res);
+						set = entry.getValue();
 						collectFilterFor(set, typeName, unused, categories);
 					}
 				}
 			} else {
-				for (Entry<IResource, Set<IApiProblemFilter>> entry : fUnusedFilters.entrySet()) {
+				for (Entry<IResource, Set<IApiProblemFilter>> entry : unusedFilters.entrySet()) {
 					set = entry.getValue();
 					if (set != null) {
 						unused.addAll(set);
@@ -748,8 +870,8 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				if (ApiPlugin.DEBUG_FILTER_STORE) {
 					System.out.println("processed REMOVED delta"); //$NON-NLS-1$
 				}
-				if (fFilterMap != null) {
-					fFilterMap.clear();
+				if (fFilters != null) {
+					fFilters = new FilterSnapshot(new LinkedHashMap<>(5));
 					needsbuild = fProject.getProject().isAccessible();
 				}
 			} else if (leafdelta.getKind() == IResourceDelta.ADDED || (leafdelta.getFlags() & IResourceDelta.CONTENT) != 0 || (leafdelta.getFlags() & IResourceDelta.REPLACED) != 0) {
@@ -782,9 +904,6 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 * Clears out the filter map
 	 */
 	private synchronized void clearFilters() {
-		if (fFilterMap != null) {
-			fFilterMap.clear();
-			fFilterMap = null;
-		}
+		fFilters = null;
 	}
 }
@@ -0,0 +1,379 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.pde.api.tools.internal.ApiDescription.ManifestNode;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+
+/**
+ * Binary encoding of the {@link ManifestNode} tree of an
+ * {@link ApiDescription}, used to persist API descriptions without going
+ * through DOM. The XML format remains the format for interchange, e.g. the
+ * <code>.api_description</code> file of a bundle.
+ * <p>
+ * All names, signatures and handles are interned in a string table and nodes
+ * refer to them by index. Visibility and restriction flags are written as
+ * variable length integers. Each package is encoded separately and listed in a
+ * table with its offset, so packages can be decoded one at a time when they are
+ * first needed.
+ * </p>
+ */
+final class BinaryApiDescription {
+
+	/**
+	 * Version of the file format, must be incremented whenever the format
+	 * changes. Files of a different version are ignored.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int MAGIC = 0x41504944; // APID
+
+	private static final byte END = 0;
+	private static final byte TYPE = 1;
+	private static final byte FIELD = 2;
+	private static final byte METHOD = 3;
+
+	private BinaryApiDescription() {
+	}
+
+	/**
+	 * Creates the nodes of a decoded package. Returning <code>null</code> skips
+	 * the node together with its children.
+	 */
+	interface NodeFactory {
+
+		ManifestNode newPackageNode(String name, String[] fragments, int visibility, int restrictions);
+
+		ManifestNode newTypeNode(ManifestNode parent, String name, String handle, int visibility, int restrictions, long stamp);
+
+		default ManifestNode newMemberNode(ManifestNode parent, IElementDescriptor element, int visibility, int restrictions) {
+			return new ManifestNode(parent, element, visibility, restrictions);
+		}
+	}
+
+	/**
+	 * Encodes a tree of {@link ManifestNode}s. Nodes are written by
+	 * {@link ManifestNode#persistBinary(Encoder)} in the same order as they are
+	 * persisted to XML.
+	 */
+	static final class Encoder {
+		private final Map<String, Integer> fStrings = new LinkedHashMap<>();
+		private final ByteArrayOutputStream fBytes = new ByteArrayOutputStream(4096);
+		private final List<int[]> fPackages = new ArrayList<>();
+		private int fDepth;
+
+		void startPackage(String name, String[] fragments, int visibility, int restrictions) {
+			fPackages.add(new int[] { intern(name), fBytes.size(), 0 });
+			writeVarint(visibility);
+			writeVarint(restrictions);
+			writeVarint(fragments.length);
+			for (String fragment : fragments) {
+				writeVarint(intern(fragment));
+			}
+			fDepth = 1;
+		}
+
+		void startType(String name, String handle, int visibility, int restrictions, long stamp) {
+			fBytes.write(TYPE);
+			writeVarint(intern(name));
+			writeVarint(intern(handle));
+			writeVarint(visibility);
+			writeVarint(restrictions);
+			for (int shift = 56; shift >= 0; shift -= 8) {
+				fBytes.write((int) (stamp >>> shift));
+			}
+			fDepth++;
+		}
+
+		void member(String name, String signature, int visibility, int restrictions) {
+			if (signature == null) {
+				fBytes.write(FIELD);
+				writeVarint(intern(name));
+			} else {
+				fBytes.write(METHOD);
+				writeVarint(intern(name));
+				writeVarint(intern(signature));
+			}
+			writeVarint(visibility);
+			writeVarint(restrictions);
+		}
+
+		/**
+		 * Ends the children of the current type or package.
+		 */
+		void end() {
+			fBytes.write(END);
+			if (--fDepth == 0) {
+				int[] pkg = fPackages.get(fPackages.size() - 1);
+				pkg[2] = fBytes.size() - pkg[1];
+			}
+		}
+
+		/**
+		 * Writes the encoded packages to the given file.
+		 *
+		 * @param file the file to write
+		 * @param key identifies the owner of the description, e.g. a project
+		 *            name or a bundle location
+		 * @param version the embedded version of the description
+		 * @param stamps time stamps that validate the file
+		 */
+		void write(File file, String key, String version, long... stamps) throws IOException {
+			File folder = file.getParentFile();
+			Files.createDirectories(folder.toPath());
+			File tmp = File.createTempFile(file.getName(), ".tmp", folder); //$NON-NLS-1$
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+					out.writeInt(MAGIC);
+					out.writeInt(FORMAT_VERSION);
+					out.writeUTF(key);
+					out.writeUTF(version);
+					out.writeInt(stamps.length);
+					for (long stamp : stamps) {
+						out.writeLong(stamp);
+					}
+					// index 0 is reserved for null
+					out.writeInt(fStrings.size());
+					for (String string : fStrings.keySet()) {
+						out.writeUTF(string);
+					}
+					out.writeInt(fPackages.size());
+					for (int[] pkg : fPackages) {
+						out.writeInt(pkg[0]);
+						out.writeInt(pkg[1]);
+						out.writeInt(pkg[2]);
+					}
+					out.writeInt(fBytes.size());
+					fBytes.writeTo(out);
+				}
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				tmp.delete();
+			}
+		}
+
+		private int intern(String string) {
+			if (string == null) {
+				return 0;
+			}
+			return fStrings.computeIfAbsent(string, s -> Integer.valueOf(fStrings.size() + 1)).intValue();
+		}
+
+		private void writeVarint(int value) {
+			int v = value;
+			while ((v & ~0x7F) != 0) {
+				fBytes.write((v & 0x7F) | 0x80);
+				v >>>= 7;
+			}
+			fBytes.write(v);
+		}
+	}
+
+	/**
+	 * Decodes the packages of a binary API description file. Each package can
+	 * only be decoded once.
+	 */
+	static final class Decoder {
+		private final String fKey;
+		private final String fVersion;
+		private final long[] fStamps;
+		private final String[] fStrings;
+		private final ByteBuffer fBuffer;
+
+		/**
+		 * Packages that have not been decoded yet, mapped to the offset and
+		 * length of their encoding
+		 */
+		private final Map<String, int[]> fPackages;
+
+		private Decoder(String key, String version, long[] stamps, String[] strings, ByteBuffer buffer, Map<String, int[]> packages) {
+			fKey = key;
+			fVersion = version;
+			fStamps = stamps;
+			fStrings = strings;
+			fBuffer = buffer;
+			fPackages = packages;
+		}
+
+		/**
+		 * Reads the given file.
+		 *
+		 * @param file the file to read
+		 * @return the decoder or <code>null</code> if the file does not exist,
+		 *         is of another format version or is broken
+		 */
+		static Decoder read(File file) {
+			if (!file.isFile()) {
+				return null;
+			}
+			try {
+				byte[] bytes = Files.readAllBytes(file.toPath());
+				DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+				if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+					return null;
+				}
+				String key = in.readUTF();
+				String version = in.readUTF();
+				long[] stamps = new long[in.readInt()];
+				for (int i = 0; i < stamps.length; i++) {
+					stamps[i] = in.readLong();
+				}
+				String[] strings = new String[in.readInt() + 1];
+				for (int i = 1; i < strings.length; i++) {
+					strings[i] = in.readUTF();
+				}
+				int count = in.readInt();
+				Map<String, int[]> packages = new LinkedHashMap<>(count * 4 / 3 + 1);
+				for (int i = 0; i < count; i++) {
+					packages.put(strings[in.readInt()], new int[] { in.readInt(), in.readInt() });
+				}
+				int length = in.readInt();
+				int dataStart = bytes.length - in.available();
+				if (dataStart + length != bytes.length) {
+					return null;
+				}
+				for (int[] position : packages.values()) {
+					position[0] += dataStart;
+					if (position[0] + position[1] > bytes.length) {
+						return null;
+					}
+				}
+				return new Decoder(key, version, stamps, strings, ByteBuffer.wrap(bytes), packages);
+			} catch (IOException | RuntimeException e) {
+				// a broken file is simply rebuilt
+				return null;
+			}
+		}
+
+		String getKey() {
+			return fKey;
+		}
+
+		String getVersion() {
+			return fVersion;
+		}
+
+		long[] getStamps() {
+			return fStamps;
+		}
+
+		/**
+		 * Returns the names of the packages that have not been decoded yet.
+		 */
+		List<String> getPackageNames() {
+			return new ArrayList<>(fPackages.keySet());
+		}
+
+		boolean isEmpty() {
+			return fPackages.isEmpty();
+		}
+
+		/**
+		 * Decodes the given package with its children.
+		 *
+		 * @param name package name
+		 * @param factory creates the decoded nodes
+		 * @return the package node or <code>null</code> if the package is not
+		 *         part of the description, was already decoded, was skipped by
+		 *         the factory or its encoding is broken
+		 */
+		ManifestNode decodePackage(String name, NodeFactory factory) {
+			int[] position = fPackages.remove(name);
+			if (position == null) {
+				return null;
+			}
+			ByteBuffer buffer = fBuffer.duplicate();
+			buffer.limit(position[0] + position[1]).position(position[0]);
+			try {
+				int visibility = varint(buffer);
+				int restrictions = varint(buffer);
+				String[] fragments = new String[varint(buffer)];
+				for (int i = 0; i < fragments.length; i++) {
+					fragments[i] = string(buffer);
+				}
+				ManifestNode node = factory.newPackageNode(name, fragments, visibility, restrictions);
+				decodeChildren(buffer, node, factory);
+				return node;
+			} catch (RuntimeException e) {
+				return null;
+			}
+		}
+
+		private void decodeChildren(ByteBuffer buffer, ManifestNode parent, NodeFactory factory) {
+			byte kind;
+			while ((kind = buffer.get()) != END) {
+				ManifestNode node = null;
+				switch (kind) {
+					case TYPE -> {
+						String name = string(buffer);
+						String handle = string(buffer);
+						int visibility = varint(buffer);
+						int restrictions = varint(buffer);
+						long stamp = buffer.getLong();
+						if (parent != null) {
+							node = factory.newTypeNode(parent, name, handle, visibility, restrictions, stamp);
+						}
+						decodeChildren(buffer, node, factory);
+					}
+					case FIELD, METHOD -> {
+						String name = string(buffer);
+						String signature = kind == METHOD ? string(buffer) : null;
+						int visibility = varint(buffer);
+						int restrictions = varint(buffer);
+						if (parent != null && parent.element instanceof IReferenceTypeDescriptor type) {
+							IElementDescriptor element = signature == null ? type.getField(name) : type.getMethod(name, signature);
+							node = factory.newMemberNode(parent, element, visibility, restrictions);
+						}
+					}
+					default -> throw new IllegalArgumentException("Unknown node kind " + kind); //$NON-NLS-1$
+				}
+				if (node != null) {
+					parent.children.put(node.element, node);
+				}
+			}
+		}
+
+		private String string(ByteBuffer buffer) {
+			return fStrings[varint(buffer)];
+		}
+	}
+
+	private static int varint(ByteBuffer buffer) {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			byte b = buffer.get();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Malformed varint"); //$NON-NLS-1$
+	}
+}
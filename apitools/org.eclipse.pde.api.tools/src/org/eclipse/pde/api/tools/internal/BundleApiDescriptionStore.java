@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.ApiDescription.ManifestNode;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Persistent store of the <code>.api_description</code> files of bundles in
+ * the binary format of {@link BinaryApiDescription}, so the XML of a bundle is
+ * only parsed once and not again for every baseline it is part of.
+ * <p>
+ * Each bundle gets its own file, which records the bundle location and the
+ * size and the last modification time of a stamp file (the bundle archive or
+ * the <code>.api_description</code> file of a bundle directory). A file is
+ * only used if all of them still match. Files that were not used for some
+ * time are deleted by {@link #prune()}.
+ * </p>
+ */
+public class BundleApiDescriptionStore {
+
+	private static final String STORE_FOLDER = ".bundle_api_descriptions"; //$NON-NLS-1$
+
+	private static final String STORE_EXTENSION = ".bin"; //$NON-NLS-1$
+
+	private static BundleApiDescriptionStore fgDefault;
+
+	/**
+	 * Creates the plain nodes of a bundle description
+	 */
+	private static final BinaryApiDescription.NodeFactory NODE_FACTORY = new BinaryApiDescription.NodeFactory() {
+		@Override
+		public ManifestNode newPackageNode(String name, String[] fragments, int visibility, int restrictions) {
+			return new ManifestNode(null, Factory.packageDescriptor(name), visibility, restrictions);
+		}
+
+		@Override
+		public ManifestNode newTypeNode(ManifestNode parent, String name, String handle, int visibility, int restrictions, long stamp) {
+			return new ManifestNode(parent, Factory.typeDescriptor(name), visibility, restrictions);
+		}
+	};
+
+	private final File fStoreFolder;
+
+	/**
+	 * Creates a store that keeps its files in the given folder.
+	 *
+	 * @param storeFolder folder for the files, created on demand
+	 */
+	public BundleApiDescriptionStore(File storeFolder) {
+		fStoreFolder = storeFolder;
+	}
+
+	/**
+	 * Returns the store in the state location of the API tools plug-in, or
+	 * <code>null</code> if not running in a framework.
+	 *
+	 * @return the default store or <code>null</code>
+	 */
+	public static synchronized BundleApiDescriptionStore getDefault() {
+		if (fgDefault == null && ApiPlugin.isRunningInFramework()) {
+			fgDefault = new BundleApiDescriptionStore(ApiPlugin.getDefault().getStateLocation().append(STORE_FOLDER).toFile());
+			fgDefault.prune();
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Annotates the given API description from the persisted
+	 * <code>.api_description</code> of a bundle.
+	 *
+	 * @param location location of the bundle
+	 * @param stampFile the file whose size and modification time validate the
+	 *            persisted description
+	 * @param description the API description to annotate
+	 * @return whether there was a valid persisted description
+	 */
+	public boolean annotate(String location, File stampFile, ApiDescription description) {
+		File file = getStoreFile(location);
+		BinaryApiDescription.Decoder decoder = BinaryApiDescription.Decoder.read(file);
+		if (decoder == null || !location.equals(decoder.getKey())) {
+			return false;
+		}
+		long[] stamps = decoder.getStamps();
+		if (stamps.length != 2 || stamps[0] != stampFile.length() || stamps[1] != stampFile.lastModified()) {
+			return false;
+		}
+		ApiDescription annotations = new ApiDescription(null);
+		annotations.setEmbeddedVersion(decoder.getVersion());
+		for (String name : decoder.getPackageNames()) {
+			ManifestNode node = decoder.decodePackage(name, NODE_FACTORY);
+			if (node == null) {
+				// a broken file is simply rebuilt
+				return false;
+			}
+			annotations.fPackageMap.put(node.element, node);
+		}
+		description.annotate(annotations);
+		Util.markCacheFileUsed(file);
+		return true;
+	}
+
+	/**
+	 * Annotates the given API description from the <code>.api_description</code>
+	 * XML of a bundle and persists the annotations.
+	 *
+	 * @param location location of the bundle
+	 * @param stampFile the file whose size and modification time validate the
+	 *            persisted description
+	 * @param description the API description to annotate
+	 * @param xml the contents of the <code>.api_description</code> file
+	 * @throws CoreException if the XML cannot be parsed
+	 */
+	public void annotate(String location, File stampFile, ApiDescription description, String xml) throws CoreException {
+		ApiDescription annotations = new ApiDescription(null);
+		ApiDescriptionProcessor.annotateApiSettings(null, annotations, xml);
+		description.annotate(annotations);
+		long length = stampFile.length();
+		long lastModified = stampFile.lastModified();
+		if (lastModified == 0) {
+			return;
+		}
+		BinaryApiDescription.Encoder encoder = new BinaryApiDescription.Encoder();
+		for (ManifestNode node : annotations.fPackageMap.values()) {
+			node.persistBinary(encoder);
+		}
+		try {
+			// several baselines may contain the same bundle
+			encoder.write(getStoreFile(location), location, annotations.getEmbeddedVersion(), length, lastModified);
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Deletes the files of bundles that were not used for
+	 * {@link Util#UNUSED_CACHE_FILE_AGE}.
+	 */
+	public void prune() {
+		Util.deleteUnusedCacheFiles(fStoreFolder);
+	}
+
+	/**
+	 * Deletes all files of this store.
+	 */
+	public void clear() {
+		File[] files = fStoreFolder.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+
+	private File getStoreFile(String location) {
+		// the location is stored in the file, so hash collisions are detected
+		String name = new File(location).getName() + '_' + Integer.toHexString(location.hashCode()) + STORE_EXTENSION;
+		return new File(fStoreFolder, name);
+	}
+}
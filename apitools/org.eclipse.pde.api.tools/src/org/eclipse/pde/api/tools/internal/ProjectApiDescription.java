@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -37,6 +39,7 @@ import org.eclipse.jdt.core.IOrdinaryClassFile;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.pde.api.tools.internal.builder.BuildStamps;
 import org.eclipse.pde.api.tools.internal.model.BundleComponent;
@@ -92,6 +95,42 @@ public class ProjectApiDescription extends ApiDescription {
 	 */
 	private volatile boolean fInSynch;
 
+	/**
+	 * Packages of a restored binary description that have not been loaded yet,
+	 * or <code>null</code> if there are none
+	 */
+	private volatile BinaryApiDescription.Decoder fPendingPackages;
+
+	/**
+	 * Creates the nodes of packages restored from a binary description
+	 */
+	private final BinaryApiDescription.NodeFactory fNodeFactory = new BinaryApiDescription.NodeFactory() {
+		@Override
+		public ManifestNode newPackageNode(String name, String[] fragments, int visibility, int restrictions) {
+			if (fragments.length == 0) {
+				return null;
+			}
+			IPackageFragment[] packageFragments = new IPackageFragment[fragments.length];
+			for (int i = 0; i < fragments.length; i++) {
+				if (!(JavaCore.create(fragments[i]) instanceof IPackageFragment fragment)) {
+					return null;
+				}
+				packageFragments[i] = fragment;
+			}
+			return ProjectApiDescription.this.newPackageNode(packageFragments, null, Factory.packageDescriptor(name), visibility, restrictions);
+		}
+
+		@Override
+		public ManifestNode newTypeNode(ManifestNode parent, String name, String handle, int visibility, int restrictions, long stamp) {
+			if (!(JavaCore.create(handle) instanceof IType type)) {
+				return null;
+			}
+			TypeNode node = ProjectApiDescription.this.newTypeNode(type, parent, Factory.typeDescriptor(name), visibility, restrictions);
+			node.fTimeStamp = stamp;
+			return node;
+		}
+	};
+
 	/**
 	 * A node for a package.
 	 */
@@ -134,6 +173,19 @@ public class ProjectApiDescription extends ApiDescription {
 			}
 		}
 
+		@Override
+		void persistBinary(BinaryApiDescription.Encoder encoder) {
+			if (hasApiVisibility(this)) {
+				String[] handles = new String[fFragments.length];
+				for (int i = 0; i < fFragments.length; i++) {
+					handles[i] = fFragments[i].getHandleIdentifier();
+				}
+				encoder.startPackage(((IPackageDescriptor) element).getName(), handles, this.visibility, this.restrictions);
+				persistBinaryChildren(encoder);
+				encoder.end();
+			}
+		}
+
 		@Override
 		public String toString() {
 			StringBuilder buffer = new StringBuilder();
@@ -312,6 +364,15 @@ public class ProjectApiDescription extends ApiDescription {
 			}
 		}
 
+		@Override
+		void persistBinary(BinaryApiDescription.Encoder encoder) {
+			if (hasApiVisibility(this)) {
+				encoder.startType(((IReferenceTypeDescriptor) element).getQualifiedName(), fType.getHandleIdentifier(), this.visibility, this.restrictions, fTimeStamp);
+				persistBinaryChildren(encoder);
+				encoder.end();
+			}
+		}
+
 		@Override
 		public String toString() {
 			StringBuilder buffer = new StringBuilder();
@@ -338,6 +399,7 @@ public class ProjectApiDescription extends ApiDescription {
 	public synchronized void accept(ApiDescriptionVisitor visitor, IProgressMonitor monitor) {
 		boolean completeVisit = true;
 		if (fInSynch) {
+			loadPendingPackages();
 			super.accept(visitor, monitor);
 		} else {
 			try {
@@ -501,6 +563,64 @@ public class ProjectApiDescription extends ApiDescription {
 		return super.createNode(parentNode, element);
 	}
 
+	@Override
+	protected ManifestNode loadPackage(IElementDescriptor element) {
+		if (fPendingPackages == null) {
+			return null;
+		}
+		synchronized (this) {
+			BinaryApiDescription.Decoder pending = fPendingPackages;
+			if (pending == null) {
+				return null;
+			}
+			ManifestNode node = pending.decodePackage(((IPackageDescriptor) element).getName(), fNodeFactory);
+			if (pending.isEmpty()) {
+				fPendingPackages = null;
+			}
+			if (node != null) {
+				fPackageMap.put(element, node);
+			}
+			return node;
+		}
+	}
+
+	/**
+	 * Loads all packages of a restored binary description that have not been
+	 * loaded yet.
+	 */
+	private synchronized void loadPendingPackages() {
+		if (fPendingPackages != null) {
+			for (String name : fPendingPackages.getPackageNames()) {
+				loadPackage(Factory.packageDescriptor(name));
+			}
+			fPendingPackages = null;
+		}
+	}
+
+	/**
+	 * Restores this description from a file written by
+	 * {@link #persistBinary(File)}. Packages are only decoded when they are
+	 * first looked up.
+	 *
+	 * @param file the file to read
+	 * @return whether the file is a valid description of this project in the
+	 *         current version
+	 */
+	public synchronized boolean restoreBinary(File file) {
+		BinaryApiDescription.Decoder decoder = BinaryApiDescription.Decoder.read(file);
+		IJavaProject project = getJavaProject();
+		if (decoder == null || !project.getElementName().equals(decoder.getKey()) || decoder.getStamps().length != 1
+				|| !IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION.equals(decoder.getVersion())) {
+			return false;
+		}
+		setEmbeddedVersion(decoder.getVersion());
+		fPackageTimeStamp = decoder.getStamps()[0];
+		fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
+		fPackageMap.clear();
+		fPendingPackages = decoder.isEmpty() ? null : decoder;
+		return true;
+	}
+
 	/**
 	 * Constructs and returns a new node for the given package fragment.
 	 */
@@ -538,6 +658,7 @@ public class ProjectApiDescription extends ApiDescription {
 			// check if in synch
 			if (fManifestFile == null || (fManifestFile.getModificationStamp() != fPackageTimeStamp)) {
 				try {
+					loadPendingPackages();
 					modified();
 					fRefreshingInProgress = true;
 					// set all existing packages to PRIVATE (could clear
@@ -640,6 +761,7 @@ public class ProjectApiDescription extends ApiDescription {
 	 * Returns this API description as XML.
 	 */
 	public synchronized String getXML() throws CoreException {
+		loadPendingPackages();
 		Document document = Util.newDocument();
 		Element component = document.createElement(IApiXmlConstants.ELEMENT_COMPONENT);
 		component.setAttribute(IApiXmlConstants.ATTR_ID, getJavaProject().getElementName());
@@ -650,6 +772,21 @@ public class ProjectApiDescription extends ApiDescription {
 		return Util.serializeDocument(document);
 	}
 
+	/**
+	 * Persists this API description in the binary format to the given file.
+	 *
+	 * @param file the file to write
+	 * @throws IOException if the file cannot be written
+	 */
+	public synchronized void persistBinary(File file) throws IOException {
+		loadPendingPackages();
+		BinaryApiDescription.Encoder encoder = new BinaryApiDescription.Encoder();
+		for (ManifestNode node : fPackageMap.values()) {
+			node.persistBinary(encoder);
+		}
+		encoder.write(file, getJavaProject().getElementName(), IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION, fPackageTimeStamp);
+	}
+
 	/**
 	 * Persists the elements in the given map as XML elements, appended to the
 	 * given xmlElement.
@@ -669,6 +806,7 @@ public class ProjectApiDescription extends ApiDescription {
 	 */
 	public synchronized void clean() {
 		fPackageMap.clear();
+		fPendingPackages = null;
 		fPackageTimeStamp = -1L;
 		fInSynch = false;
 		modified();
@@ -14,6 +14,8 @@
 package org.eclipse.pde.api.tools.internal.builder;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -58,6 +60,18 @@ public class ReferenceAnalyzer {
 	 */
 	private static final IApiProblemDetector[] NO_PROBLEM_DETECTORS = new IApiProblemDetector[0];
 
+	/**
+	 * System property to enable the parallel analysis mode by default
+	 */
+	public static final boolean PARALLEL_ANALYSIS = Boolean.getBoolean("org.eclipse.pde.api.tools.parallelAnalysis"); //$NON-NLS-1$
+
+	/**
+	 * Number of type roots whose references are extracted concurrently before
+	 * the problem detectors consider them, bounds the references held at once
+	 * in parallel mode
+	 */
+	static final int EXTRACTION_BATCH_SIZE = 256;
+
 	/**
 	 * Visits each class file, extracting references.
 	 */
@@ -83,49 +97,112 @@ public class ReferenceAnalyzer {
 		@Override
 		public void visit(String packageName, IApiTypeRoot classFile) {
 			if (!fMonitor.isCanceled()) {
+				if (fParallel) {
+					// extracted concurrently once all type roots are known
+					fTypeRoots.add(classFile);
+					return;
+				}
 				try {
-					IApiType type = classFile.getStructure();
-					if (type == null) {
-						// do nothing for bad class files
-						return;
-					}
-					// don't process inner/anonymous/local types, this is done
-					// in the extractor
-					if (type.isMemberType() || type.isLocal() || type.isAnonymous()) {
-						return;
+					considerReferences(extractReferences(classFile), fMonitor);
+				} catch (CoreException e) {
+					fStatus.add(e.getStatus());
+					AbstractProblemDetector.checkIfDisposed(classFile.getApiComponent(), fMonitor);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Extracts the references of the given type root, references of member,
+	 * local and anonymous types are extracted with their enclosing type.
+	 *
+	 * @return the references, possibly empty
+	 */
+	List<IReference> extractReferences(IApiTypeRoot classFile) throws CoreException {
+		IApiType type = classFile.getStructure();
+		if (type == null) {
+			// do nothing for bad class files
+			return Collections.emptyList();
+		}
+		// don't process inner/anonymous/local types, this is done
+		// in the extractor
+		if (type.isMemberType() || type.isLocal() || type.isAnonymous()) {
+			return Collections.emptyList();
+		}
+		return type.extractReferences(fAllReferenceKinds, null);
+	}
+
+	/**
+	 * Hands the given references off to the interested problem detectors and
+	 * keeps the references that are potential matches.
+	 */
+	void considerReferences(List<IReference> references, IProgressMonitor monitor) {
+		// keep potential matches
+		for (IReference ref : references) {
+			if (monitor.isCanceled()) {
+				break;
+			}
+			// compute index of interested problem detectors
+			int index = getLog2(ref.getReferenceKind());
+			IApiProblemDetector[] detectors = fIndexedDetectors[index];
+			boolean added = false;
+			if (detectors != null) {
+				for (IApiProblemDetector detector : detectors) {
+					if (monitor.isCanceled()) {
+						break;
 					}
-					List<IReference> references = type.extractReferences(fAllReferenceKinds, null);
-					// keep potential matches
-					for (IReference ref : references) {
-						if (fMonitor.isCanceled()) {
-							break;
-						}
-						// compute index of interested problem detectors
-						int index = getLog2(ref.getReferenceKind());
-						IApiProblemDetector[] detectors = fIndexedDetectors[index];
-						boolean added = false;
-						if (detectors != null) {
-							for (IApiProblemDetector detector : detectors) {
-								if (fMonitor.isCanceled()) {
-									break;
-								}
-								if (detector.considerReference(ref, fMonitor)) {
-									if (!added) {
-										fReferences.add(ref);
-										added = true;
-									}
-								}
-							}
+					if (detector.considerReference(ref, monitor)) {
+						if (!added) {
+							fReferences.add(ref);
+							added = true;
 						}
 					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Extracts the references of the collected type roots concurrently, in
+	 * batches of {@link #EXTRACTION_BATCH_SIZE}. The problem detectors are not
+	 * thread safe, they consider the references of each batch afterwards in
+	 * the order the type roots were visited, so the result is the same as in
+	 * serial mode. Only the references of one batch are kept before they are
+	 * filtered.
+	 */
+	private void extractCollectedReferences(IProgressMonitor monitor) {
+		for (int start = 0; start < fTypeRoots.size(); start += EXTRACTION_BATCH_SIZE) {
+			List<IApiTypeRoot> batch = fTypeRoots.subList(start, Math.min(start + EXTRACTION_BATCH_SIZE, fTypeRoots.size()));
+			List<ExtractedReferences> extracted = batch.parallelStream().map(classFile -> {
+				if (monitor.isCanceled()) {
+					return new ExtractedReferences(classFile, Collections.emptyList(), null);
+				}
+				try {
+					return new ExtractedReferences(classFile, extractReferences(classFile), null);
 				} catch (CoreException e) {
-					fStatus.add(e.getStatus());
-					AbstractProblemDetector.checkIfDisposed(classFile.getApiComponent(), fMonitor);
+					return new ExtractedReferences(classFile, null, e);
+				}
+			}).toList();
+			for (ExtractedReferences result : extracted) {
+				if (monitor.isCanceled()) {
+					return;
+				}
+				if (result.error() != null) {
+					fStatus.add(result.error().getStatus());
+					AbstractProblemDetector.checkIfDisposed(result.classFile().getApiComponent(), monitor);
+				} else {
+					considerReferences(result.references(), monitor);
 				}
 			}
 		}
 	}
 
+	/**
+	 * References extracted from a type root or the error that occurred
+	 */
+	private record ExtractedReferences(IApiTypeRoot classFile, List<IReference> references, CoreException error) {
+	}
+
 	/**
 	 * Scan status
 	 */
@@ -139,7 +216,18 @@ public class ReferenceAnalyzer {
 	/**
 	 * List of references to consider/resolve.
 	 */
-	List<IReference> fReferences = new LinkedList<>();
+	List<IReference> fReferences = new ArrayList<>();
+
+	/**
+	 * Type roots collected for the concurrent extraction in parallel mode
+	 */
+	List<IApiTypeRoot> fTypeRoots = new ArrayList<>();
+
+	/**
+	 * Whether references are extracted and resolved concurrently, see
+	 * {@link #setParallel(boolean)}
+	 */
+	boolean fParallel = PARALLEL_ANALYSIS;
 
 	/**
 	 * Problem detectors indexed by the log base 2 of each reference kind they
@@ -208,8 +296,13 @@ public class ReferenceAnalyzer {
 		long start = System.currentTimeMillis();
 		try {
 			scope.accept(visitor);
+			if (fParallel) {
+				extractCollectedReferences(localMonitor);
+			}
 		} catch (CoreException e) {
 			fStatus.add(e.getStatus());
+		} finally {
+			fTypeRoots.clear();
 		}
 		long end = System.currentTimeMillis();
 		if (!fStatus.isOK()) {
@@ -240,7 +333,7 @@ public class ReferenceAnalyzer {
 			// 2. resolve problematic references
 			localMonitor.subTask(BuilderMessages.ReferenceAnalyzer_analyzing_api_checking_use);
 			if (fReferences.size() != 0) {
-				ReferenceResolver.resolveReferences(fReferences);
+				ReferenceResolver.resolveReferences(fReferences, fParallel);
 			}
 			// 3. create problems
 			List<IApiProblem> allProblems = new LinkedList<>();
@@ -263,6 +356,18 @@ public class ReferenceAnalyzer {
 		}
 	}
 
+	/**
+	 * Sets whether references are extracted from the class files and resolved
+	 * concurrently. The problems reported are the same as in serial mode. The
+	 * default is given by the system property
+	 * <code>org.eclipse.pde.api.tools.parallelAnalysis</code>.
+	 *
+	 * @param parallel whether to use the parallel mode
+	 */
+	public void setParallel(boolean parallel) {
+		fParallel = parallel;
+	}
+
 	/**
 	 * Returns the collection of problem detectors for the given reference kind
 	 */
@@ -17,6 +17,9 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -44,12 +47,25 @@ public final class ReferenceResolver {
 	 * @throws CoreException if something goes wrong
 	 */
 	public static void resolveReferences(List<IReference> references) throws CoreException {
+		resolveReferences(references, false);
+	}
+
+	/**
+	 * Resolves retained references. In parallel mode the groups of references
+	 * with the same signature key are resolved concurrently, each group is
+	 * still resolved once and its resolution shared by all its references.
+	 *
+	 * @param references list of {@link IReference} to resolve
+	 * @param parallel whether to resolve concurrently
+	 * @throws CoreException if something goes wrong
+	 */
+	public static void resolveReferences(List<IReference> references, boolean parallel) throws CoreException {
 		// sort references by target type for 'shared' resolution
 		int refcount = references.size();
-		Map<String, List<IReference>> sigtoref = new LinkedHashMap<>(refcount);
+		Map<SignatureKey, List<IReference>> sigtoref = new LinkedHashMap<>(refcount);
 
 		List<IReference> refs = null;
-		String key = null;
+		SignatureKey key = null;
 		List<Reference> methodDecls = new ArrayList<>(refcount);
 		long start = System.currentTimeMillis();
 		for (IReference ref : references) {
@@ -72,15 +88,26 @@ public final class ReferenceResolver {
 		}
 		// resolve references
 		start = System.currentTimeMillis();
-		resolveReferenceSets(sigtoref);
+		resolveReferenceSets(sigtoref, parallel);
 		end = System.currentTimeMillis();
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
 			System.out.println("Reference resolver: resolved unique references in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
 		}
 		// resolve method overrides
 		start = System.currentTimeMillis();
-		for (Reference reference : methodDecls) {
-			reference.resolve();
+		if (parallel) {
+			throwFirstError(methodDecls.parallelStream().map(reference -> {
+				try {
+					reference.resolve();
+					return null;
+				} catch (CoreException e) {
+					return e;
+				}
+			}));
+		} else {
+			for (Reference reference : methodDecls) {
+				reference.resolve();
+			}
 		}
 		end = System.currentTimeMillis();
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
@@ -92,48 +119,125 @@ public final class ReferenceResolver {
 	 * Resolves the collect sets of references.
 	 *
 	 * @param map the mapping of keys to sets of {@link IReference}s
+	 * @param parallel whether to resolve the sets concurrently
 	 * @throws CoreException if something bad happens
 	 */
-	private static void resolveReferenceSets(Map<String, List<IReference>> map) throws CoreException {
-		IReference ref = null;
-		for (List<IReference> refs : map.values()) {
-			ref = refs.get(0);
-			((Reference) ref).resolve();
-			IApiMember resolved = ref.getResolvedReference();
-			if (resolved != null) {
-				for (IReference ref2 : refs) {
-					((Reference) ref2).setResolution(resolved);
+	private static void resolveReferenceSets(Map<SignatureKey, List<IReference>> map, boolean parallel) throws CoreException {
+		if (parallel) {
+			throwFirstError(map.values().parallelStream().map(refs -> {
+				try {
+					resolveReferenceSet(refs);
+					return null;
+				} catch (CoreException e) {
+					return e;
 				}
+			}));
+			return;
+		}
+		for (List<IReference> refs : map.values()) {
+			resolveReferenceSet(refs);
+		}
+	}
+
+	/**
+	 * Resolves the first reference of the given set and shares its resolution
+	 * with the other references.
+	 */
+	private static void resolveReferenceSet(List<IReference> refs) throws CoreException {
+		IReference ref = refs.get(0);
+		((Reference) ref).resolve();
+		IApiMember resolved = ref.getResolvedReference();
+		if (resolved != null) {
+			for (IReference ref2 : refs) {
+				((Reference) ref2).setResolution(resolved);
 			}
 		}
 	}
 
 	/**
-	 * Creates a unique string key for a given reference. The key is of the form
-	 * "component X references type/member"
+	 * Throws the first exception in encounter order of the given results
+	 */
+	private static void throwFirstError(Stream<CoreException> errors) throws CoreException {
+		Optional<CoreException> error = errors.filter(Objects::nonNull).findFirst();
+		if (error.isPresent()) {
+			throw error.get();
+		}
+	}
+
+	/**
+	 * Key of references to the same type/member from the same component, of
+	 * the form
 	 *
 	 * <pre>
 	 * [component_id]#[type_name](#[member_name]#[member_signature])
 	 * </pre>
 	 *
-	 * @param reference reference
-	 * @return a string key for the given reference.
+	 * The key only holds the strings of the reference instead of
+	 * concatenating them, and its hash code is computed once.
 	 */
-	private static String createSignatureKey(IReference reference) {
-		StringBuilder buffer = new StringBuilder();
-		buffer.append(reference.getMember().getApiComponent().getSymbolicName());
-		buffer.append("#"); //$NON-NLS-1$
-		buffer.append(reference.getReferencedTypeName());
-		if (reference.getReferenceType() == IReference.T_FIELD_REFERENCE) {
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedMemberName());
-
-		} else if (reference.getReferenceType() == IReference.T_METHOD_REFERENCE) {
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedMemberName());
-			buffer.append("#"); //$NON-NLS-1$
-			buffer.append(reference.getReferencedSignature());
+	private static final class SignatureKey {
+		private final String fComponent;
+		private final String fType;
+		private final String fMember;
+		private final String fSignature;
+		private final int fHash;
+
+		SignatureKey(String component, String type, String member, String signature) {
+			fComponent = component;
+			fType = type;
+			fMember = member;
+			fSignature = signature;
+			// same as Objects.hash, without allocating a varargs array
+			int hash = 31 + Objects.hashCode(component);
+			hash = 31 * hash + Objects.hashCode(type);
+			hash = 31 * hash + Objects.hashCode(member);
+			fHash = 31 * hash + Objects.hashCode(signature);
+		}
+
+		@Override
+		public int hashCode() {
+			return fHash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			return obj instanceof SignatureKey other && fHash == other.fHash && Objects.equals(fType, other.fType)
+					&& Objects.equals(fMember, other.fMember) && Objects.equals(fSignature, other.fSignature)
+					&& Objects.equals(fComponent, other.fComponent);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder buffer = new StringBuilder();
+			buffer.append(fComponent).append('#').append(fType);
+			if (fMember != null) {
+				buffer.append('#').append(fMember);
+			}
+			if (fSignature != null) {
+				buffer.append('#').append(fSignature);
+			}
+			return buffer.toString();
 		}
-		return buffer.toString();
+	}
+
+	/**
+	 * Creates a unique key for a given reference. The key is of the form
+	 * "component X references type/member"
+	 *
+	 * @param reference reference
+	 * @return a key for the given reference.
+	 */
+	private static SignatureKey createSignatureKey(IReference reference) {
+		String component = reference.getMember().getApiComponent().getSymbolicName();
+		return switch (reference.getReferenceType()) {
+			case IReference.T_FIELD_REFERENCE -> new SignatureKey(component, reference.getReferencedTypeName(),
+					reference.getReferencedMemberName(), null);
+			case IReference.T_METHOD_REFERENCE -> new SignatureKey(component, reference.getReferencedTypeName(),
+					reference.getReferencedMemberName(), reference.getReferencedSignature());
+			default -> new SignatureKey(component, reference.getReferencedTypeName(), null, null);
+		};
 	}
 }
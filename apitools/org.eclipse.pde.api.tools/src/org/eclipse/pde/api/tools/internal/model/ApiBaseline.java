@@ -63,7 +63,6 @@ import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.ResolverError;
 import org.eclipse.osgi.service.resolver.State;
-import org.eclipse.osgi.service.resolver.StateHelper;
 import org.eclipse.osgi.service.resolver.StateObjectFactory;
 import org.eclipse.pde.api.tools.internal.AnyValue;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
@@ -140,6 +139,18 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	private final Map<String, Map<IApiComponent, IApiComponent[]>> fComponentsProvidingPackageCache;
 
+	/**
+	 * Index of the packages visible to a bundle.
+	 * <p>
+	 * Map of <code>BundleDescription -> Map(packageName -> exporter symbolic names)</code>
+	 * </p>
+	 * The index is valid for the state time stamp it was computed for, see
+	 * {@link #getVisiblePackagesIndex(BundleDescription)}.
+	 */
+	private final Map<BundleDescription, Map<String, String[]>> fVisiblePackagesIndex = new ConcurrentHashMap<>();
+
+	private volatile long fVisiblePackagesTimeStamp = -1;
+
 	/**
 	 * Maps component id's to components.
 	 * <p>
@@ -356,6 +367,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	private void clearComponentsCache() {
 		fComponentsProvidingPackageCache.clear();
+		fVisiblePackagesIndex.clear();
 	}
 
 	/**
@@ -626,17 +638,10 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		if (component instanceof BundleComponent) {
 			BundleDescription bundle = ((BundleComponent) component).getBundleDescription();
 			if (bundle != null) {
-				StateHelper helper = getState().getStateHelper();
-				ExportPackageDescription[] visiblePackages = helper.getVisiblePackages(bundle);
-				for (ExportPackageDescription pkg : visiblePackages) {
-					String pkgName = pkg.getName();
-					if (pkgName.equals(".")) { //$NON-NLS-1$
-						// translate . to default package
-						pkgName = Util.DEFAULT_PACKAGE_NAME;
-					}
-					if (packageName.equals(pkgName)) {
-						BundleDescription bundleDescription = pkg.getExporter();
-						IApiComponent exporter = getApiComponent(bundleDescription.getSymbolicName());
+				String[] exporters = getVisiblePackagesIndex(bundle).get(packageName);
+				if (exporters != null) {
+					for (String exporterName : exporters) {
+						IApiComponent exporter = getApiComponent(exporterName);
 						if (exporter != null) {
 							componentsList.add(exporter);
 						}
@@ -663,6 +668,38 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		}
 	}
 
+	/**
+	 * Returns the index of the packages visible to the given bundle. The index
+	 * is computed once per bundle and state resolution, and is dropped when
+	 * the state changes.
+	 *
+	 * @return map of visible package name to the symbolic names of the
+	 *         exporting bundles
+	 */
+	private Map<String, String[]> getVisiblePackagesIndex(BundleDescription bundle) {
+		State state = getState();
+		long timeStamp = state.getTimeStamp();
+		if (timeStamp != fVisiblePackagesTimeStamp) {
+			fVisiblePackagesIndex.clear();
+			fVisiblePackagesTimeStamp = timeStamp;
+		}
+		return fVisiblePackagesIndex.computeIfAbsent(bundle, b -> {
+			ExportPackageDescription[] visiblePackages = state.getStateHelper().getVisiblePackages(b);
+			Map<String, List<String>> exporters = new HashMap<>();
+			for (ExportPackageDescription pkg : visiblePackages) {
+				String pkgName = pkg.getName();
+				if (pkgName.equals(".")) { //$NON-NLS-1$
+					// translate . to default package
+					pkgName = Util.DEFAULT_PACKAGE_NAME;
+				}
+				exporters.computeIfAbsent(pkgName, n -> new ArrayList<>(1)).add(pkg.getExporter().getSymbolicName());
+			}
+			Map<String, String[]> index = new HashMap<>(exporters.size() * 4 / 3 + 1);
+			exporters.forEach((name, names) -> index.put(name, names.toArray(String[]::new)));
+			return index;
+		});
+	}
+
 	/**
 	 * Returns all of the visible dependent components from the current state
 	 *
@@ -13,11 +13,17 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.model;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.jdt.internal.core.util.LRUCache;
-import org.eclipse.pde.api.tools.internal.SynchronizedOverflowingLRUCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -25,46 +31,90 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 
 /**
  * Manages the caches of {@link IApiElement}s
+ * <p>
+ * The cache is bounded by the approximate memory used by the cached types
+ * rather than by their number. The bound is given in megabytes by the
+ * {@link #CACHE_SIZE_PROPERTY} system property and defaults to a sixteenth of
+ * the maximum heap size. When it is exceeded the least recently used types are
+ * evicted in one batch until the cache is down to its
+ * {@link #LOW_WATER_MARK}. Lookups do not lock.
+ * </p>
+ * <p>
+ * Hits, misses and evictions are counted and traced with the
+ * <code>org.eclipse.pde.api.tools/debug/modelcache</code> debug option.
+ * </p>
  *
  * @since 1.0.2
  */
 public final class ApiModelCache {
 
 	/**
-	 * Cache used for {@link IApiElement}s
+	 * System property for the size of the cache in megabytes
 	 */
-	static class Cache<K, V> extends SynchronizedOverflowingLRUCache<K, V> {
+	public static final String CACHE_SIZE_PROPERTY = "org.eclipse.pde.api.tools.modelCacheSize"; //$NON-NLS-1$
 
-		/**
-		 * Constructor
-		 */
-		public Cache(int size, int overflow) {
-			super(size, overflow);
-		}
+	/**
+	 * Fraction of the bound the cache is reduced to by an eviction. Finding
+	 * the least recently used types sorts the whole cache, so a quarter of it
+	 * is evicted at once to keep that cost amortized over many insertions.
+	 */
+	static final float LOW_WATER_MARK = 0.75f;
 
-		@Override
-		protected boolean close(LRUCacheEntry<K, V> entry) {
-			return true;
-		}
+	static final long MEGABYTE = 1024 * 1024;
+	static final long MIN_CACHE_SIZE = 16;
+	static final long MAX_DEFAULT_CACHE_SIZE = 1024;
+
+	/*
+	 * Rough estimates of the memory used by a type and its members, including
+	 * names, signatures and handles
+	 */
+	static final int TYPE_WEIGHT = 512;
+	static final int METHOD_WEIGHT = 256;
+	static final int FIELD_WEIGHT = 160;
+
+	/**
+	 * A cached type with its approximate weight and the time of its last
+	 * access
+	 */
+	static final class CacheEntry {
+		final IApiElement fElement;
+		final int fWeight;
+		volatile long fLastAccess;
 
-		@Override
-		protected LRUCache<K, V> newInstance(int size, int newOverflow) {
-			return new Cache<>(size, newOverflow);
+		CacheEntry(IApiElement element, int weight) {
+			fElement = element;
+			fWeight = weight;
+			fLastAccess = System.nanoTime();
 		}
+	}
 
+	/**
+	 * A cached type considered for eviction
+	 */
+	private static record Candidate(Map<String, CacheEntry> types, String name, CacheEntry entry, long lastAccess) {
 	}
 
-	static final int DEFAULT_CACHE_SIZE = 1000;
-	static final int DEFAULT_OVERFLOW = (int) (DEFAULT_CACHE_SIZE * 0.1f);
 	static ApiModelCache fInstance = null;
 
-	Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
-	Cache<String, Cache<String, ApiType>> fMemberTypeCache;
+	/**
+	 * Cached types by baseline name, component id and type name. Member types
+	 * are cached next to their root type.
+	 */
+	private final Map<String, Map<String, Map<String, CacheEntry>>> fCache = new ConcurrentHashMap<>();
+
+	private final long fMaxWeight;
+	private final AtomicLong fWeight = new AtomicLong();
+	private final ReentrantLock fEvictionLock = new ReentrantLock();
+
+	private final LongAdder fHits = new LongAdder();
+	private final LongAdder fMisses = new LongAdder();
+	private final LongAdder fEvictions = new LongAdder();
 
 	/**
 	 * Constructor - no instantiation
 	 */
-	private ApiModelCache() {
+	private ApiModelCache(long maxWeight) {
+		fMaxWeight = maxWeight;
 	}
 
 	/**
@@ -74,23 +124,16 @@ public final class ApiModelCache {
 	 */
 	public static synchronized ApiModelCache getCache() {
 		if (fInstance == null) {
-			fInstance = new ApiModelCache();
+			long defaultSize = Math.max(MIN_CACHE_SIZE, Math.min(MAX_DEFAULT_CACHE_SIZE, Runtime.getRuntime().maxMemory() / 16 / MEGABYTE));
+			long size = Long.getLong(CACHE_SIZE_PROPERTY, defaultSize).longValue();
+			fInstance = new ApiModelCache(size * MEGABYTE);
+			if (ApiPlugin.DEBUG_MODEL_CACHE) {
+				System.out.println("API model cache size: " + size + " MB"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
 		}
 		return fInstance;
 	}
 
-	/**
-	 * Returns the key to use in a cache. The key is of the form:
-	 * <code>[baselineid].[componentid].[typename]</code><br>
-	 *
-	 * @return the member type cache key to use
-	 */
-	private String getCacheKey(String baseline, String component, String typename) {
-		StringBuilder buffer = new StringBuilder();
-		buffer.append(baseline).append('.').append(component).append('.').append(typename);
-		return buffer.toString();
-	}
-
 	/**
 	 * Caches the given {@link IApiElement} in the correct cache based on its
 	 * type.
@@ -103,9 +146,6 @@ public final class ApiModelCache {
 	public void cacheElementInfo(IApiElement element) throws CoreException {
 		switch (element.getType()) {
 			case IApiElement.TYPE: {
-				if (fRootCache == null) {
-					fRootCache = new Cache<>(DEFAULT_CACHE_SIZE / 150, DEFAULT_OVERFLOW / 150);
-				}
 				IApiComponent comp = element.getApiComponent();
 				if (comp != null) {
 					IApiBaseline baseline = comp.getBaseline();
@@ -113,45 +153,13 @@ public final class ApiModelCache {
 					if (id == null) {
 						return;
 					}
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baseline.getName());
-					if (compcache == null) {
-						compcache = new Cache<>(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2);
-						fRootCache.put(baseline.getName(), compcache);
-					}
-					Cache<String, IApiElement> typecache = compcache.get(id);
-					if (typecache == null) {
-						typecache = new Cache<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW);
-						compcache.put(comp.getSymbolicName(), typecache);
-					}
-					ApiType type = (ApiType) element;
-					if (type.isMemberType() || isMemberType(type.getName()) /*
-																			 * cache
-																			 * even
-																			 * a
-																			 * root
-																			 * type
-																			 * with
-																			 * a
-																			 * '$'
-																			 * in
-																			 * its
-																			 * name
-																			 * here
-																			 * as
-																			 * well
-																			 */) {
-						if (this.fMemberTypeCache == null) {
-							this.fMemberTypeCache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-						}
-						String key = getCacheKey(baseline.getName(), id, getRootName(type.getName()));
-						Cache<String, ApiType> mcache = this.fMemberTypeCache.get(key);
-						if (mcache == null) {
-							mcache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-							this.fMemberTypeCache.put(key, mcache);
-						}
-						mcache.put(type.getName(), type);
-					} else {
-						typecache.put(element.getName(), element);
+					CacheEntry entry = new CacheEntry(element, weigh((ApiType) element));
+					Map<String, CacheEntry> types = fCache.computeIfAbsent(baseline.getName(), b -> new ConcurrentHashMap<>())
+							.computeIfAbsent(id, c -> new ConcurrentHashMap<>());
+					CacheEntry old = types.put(element.getName(), entry);
+					long weight = fWeight.addAndGet(old == null ? entry.fWeight : entry.fWeight - old.fWeight);
+					if (weight > fMaxWeight) {
+						evict();
 					}
 				}
 				break;
@@ -161,6 +169,58 @@ public final class ApiModelCache {
 		}
 	}
 
+	/**
+	 * Returns the approximate memory used by the given type
+	 */
+	private static int weigh(ApiType type) {
+		return TYPE_WEIGHT + type.getName().length() * 2 + type.getMethodCount() * METHOD_WEIGHT + type.getFieldCount() * FIELD_WEIGHT;
+	}
+
+	/**
+	 * Evicts the least recently used types until the cache is down to its
+	 * {@link #LOW_WATER_MARK}. Does nothing if another thread is already
+	 * evicting.
+	 */
+	private void evict() {
+		if (!fEvictionLock.tryLock()) {
+			return;
+		}
+		try {
+			List<Candidate> candidates = new ArrayList<>();
+			long weight = 0;
+			for (Map<String, Map<String, CacheEntry>> components : fCache.values()) {
+				for (Map<String, CacheEntry> types : components.values()) {
+					for (Entry<String, CacheEntry> type : types.entrySet()) {
+						CacheEntry entry = type.getValue();
+						candidates.add(new Candidate(types, type.getKey(), entry, entry.fLastAccess));
+						weight += entry.fWeight;
+					}
+				}
+			}
+			candidates.sort(Comparator.comparingLong(Candidate::lastAccess));
+			long target = (long) (fMaxWeight * LOW_WATER_MARK);
+			long evictedWeight = 0;
+			int evicted = 0;
+			for (int i = 0; i < candidates.size() && weight - evictedWeight > target; i++) {
+				Candidate candidate = candidates.get(i);
+				if (candidate.types().remove(candidate.name(), candidate.entry())) {
+					evictedWeight += candidate.entry().fWeight;
+					evicted++;
+				}
+			}
+			// types may be added or removed concurrently, so only the evicted
+			// weight is subtracted. Empty maps are kept, as a type could be
+			// put into a map while it is removed.
+			fWeight.addAndGet(-evictedWeight);
+			fEvictions.add(evicted);
+			if (ApiPlugin.DEBUG_MODEL_CACHE) {
+				System.out.println("API model cache evicted " + evicted + " types: " + this); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		} finally {
+			fEvictionLock.unlock();
+		}
+	}
+
 	/**
 	 * Returns the root type name assuming that the '$' char is a member type
 	 * boundary
@@ -203,37 +263,13 @@ public final class ApiModelCache {
 		if (baselineid == null || componentid == null) {
 			return null;
 		}
-		switch (type) {
-			case IApiElement.TYPE: {
-				if (isMemberType(identifier)) {
-					if (this.fMemberTypeCache != null) {
-						Cache<String, ApiType> mcache = this.fMemberTypeCache
-								.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-						if (mcache != null) {
-							return mcache.get(identifier);
-						}
-					}
-				} else {
-					if (this.fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null && identifier != null) {
-								IApiElement ele = typecache.get(identifier);
-								if (ele != null) {
-									return ele;
-								}
-
-							}
-						}
-					}
-				}
-				break;
-			}
-			default:
-				break;
+		if (type == IApiElement.TYPE) {
+			IApiElement element = getElementInfo(fCache.get(baselineid), componentid, identifier);
+			if (element != null) {
+				return element;
 			}
-		if (componentid.startsWith("JavaSE-") && this.fRootCache != null) { //$NON-NLS-1$
+		}
+		if (componentid.startsWith("JavaSE-")) { //$NON-NLS-1$
 			// for system component, retrieve element from any baseline instead
 			// of recreating the structure and caching the equivalent element info
 			IApiElement element = getElementInfoFromAnyBaseline(baselineid, componentid, identifier);
@@ -241,30 +277,40 @@ public final class ApiModelCache {
 				return element;
 			}
 		}
+		fMisses.increment();
 		return null;
 	}
 
+	private IApiElement getElementInfo(Map<String, Map<String, CacheEntry>> components, String componentid, String identifier) {
+		if (components == null || identifier == null) {
+			return null;
+		}
+		Map<String, CacheEntry> types = components.get(componentid);
+		if (types == null) {
+			return null;
+		}
+		CacheEntry entry = types.get(identifier);
+		if (entry == null) {
+			return null;
+		}
+		entry.fLastAccess = System.nanoTime();
+		fHits.increment();
+		return entry.fElement;
+	}
+
 	private IApiElement getElementInfoFromAnyBaseline(String baselineid, String componentid, String updatedIdentifier) {
-		List<String> elements = fRootCache.keysSnapshot();
-		for (String otherBaselines : elements) {
-				if (otherBaselines.equals(baselineid)) {
-					continue;
-				}
-				Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(otherBaselines);
-				if (compcache != null) {
-					Cache<String, IApiElement> typecache = compcache.get(componentid);
-					if (typecache != null && updatedIdentifier != null) {
-						IApiElement ele = typecache.get(updatedIdentifier);
-						if (ele != null) {
-							return ele;
-						}
-					}
-				}
+		for (Entry<String, Map<String, Map<String, CacheEntry>>> otherBaseline : fCache.entrySet()) {
+			if (otherBaseline.getKey().equals(baselineid)) {
+				continue;
+			}
+			IApiElement element = getElementInfo(otherBaseline.getValue(), componentid, updatedIdentifier);
+			if (element != null) {
+				return element;
 			}
+		}
 		return null;
 	}
 
-
 	/**
 	 * Removes the {@link IApiElement} from the given component (given its id)
 	 * with the given identifier and of the given type.
@@ -282,60 +328,52 @@ public final class ApiModelCache {
 		switch (type) {
 			case IApiElement.TYPE: {
 				if (componentid != null && identifier != null) {
-					boolean removed = true;
-					// clean member type cache
-					if (this.fMemberTypeCache != null) {
-						if (isMemberType(identifier)) {
-							Cache<String, ApiType> mcache = this.fMemberTypeCache.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-							if (mcache != null) {
-								return mcache.remove(identifier) != null;
+					Map<String, Map<String, CacheEntry>> components = fCache.get(baselineid);
+					if (components == null) {
+						return false;
+					}
+					Map<String, CacheEntry> types = components.get(componentid);
+					if (types == null) {
+						return false;
+					}
+					boolean removed = remove(types, identifier);
+					if (!isMemberType(identifier)) {
+						// clean member types
+						String prefix = getRootName(identifier) + '$';
+						for (String name : types.keySet()) {
+							if (name.startsWith(prefix)) {
+								remove(types, name);
 							}
-						} else {
-							this.fMemberTypeCache.remove(getCacheKey(baselineid, componentid, getRootName(identifier)));
 						}
 					}
-					if (fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null) {
-								removed &= typecache.remove(identifier) != null;
-								if (typecache.isEmpty()) {
-									removed &= compcache.remove(componentid) != null;
-								}
-								if (compcache.isEmpty()) {
-									removed &= fRootCache.remove(baselineid) != null;
-								}
-								return removed;
-							}
-
+					if (types.isEmpty()) {
+						components.remove(componentid, types);
+						if (components.isEmpty()) {
+							fCache.remove(baselineid, components);
 						}
-					} else {
-						return false;
 					}
+					return removed;
 				}
 				break;
 			}
 			case IApiElement.COMPONENT: {
-				flushMemberCache();
-				if (fRootCache != null && componentid != null) {
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-					if (compcache != null) {
-						boolean removed = compcache.remove(componentid) != null;
-						if (compcache.isEmpty()) {
-							removed &= fRootCache.remove(baselineid) != null;
+				if (componentid != null) {
+					Map<String, Map<String, CacheEntry>> components = fCache.get(baselineid);
+					if (components != null) {
+						Map<String, CacheEntry> types = components.remove(componentid);
+						if (types != null) {
+							subtract(types);
+						}
+						if (components.isEmpty()) {
+							fCache.remove(baselineid, components);
 						}
-						return removed;
+						return types != null;
 					}
 				}
 				break;
 			}
 			case IApiElement.BASELINE: {
-				flushMemberCache();
-				if (fRootCache != null) {
-					return fRootCache.remove(baselineid) != null;
-				}
-				break;
+				return removeBaseline(baselineid);
 			}
 			default:
 				break;
@@ -343,6 +381,34 @@ public final class ApiModelCache {
 		return false;
 	}
 
+	private boolean remove(Map<String, CacheEntry> types, String name) {
+		CacheEntry entry = types.remove(name);
+		if (entry == null) {
+			return false;
+		}
+		fWeight.addAndGet(-entry.fWeight);
+		return true;
+	}
+
+	private boolean removeBaseline(String baselineid) {
+		Map<String, Map<String, CacheEntry>> components = fCache.remove(baselineid);
+		if (components == null) {
+			return false;
+		}
+		for (Map<String, CacheEntry> types : components.values()) {
+			subtract(types);
+		}
+		return true;
+	}
+
+	private void subtract(Map<String, CacheEntry> types) {
+		long weight = 0;
+		for (CacheEntry entry : types.values()) {
+			weight += entry.fWeight;
+		}
+		fWeight.addAndGet(-weight);
+	}
+
 	/**
 	 * Removes the given {@link IApiElement} info from the cache and returns it
 	 * if present
@@ -359,26 +425,19 @@ public final class ApiModelCache {
 		switch (element.getType()) {
 			case IApiElement.COMPONENT:
 			case IApiElement.TYPE: {
-				if (fRootCache != null) {
-					IApiComponent comp = element.getApiComponent();
-					if (comp != null) {
-						try {
-							IApiBaseline baseline = comp.getBaseline();
-							return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
-						} catch (CoreException ce) {
-							ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
-						}
+				IApiComponent comp = element.getApiComponent();
+				if (comp != null) {
+					try {
+						IApiBaseline baseline = comp.getBaseline();
+						return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
+					} catch (CoreException ce) {
+						ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
 					}
 				}
 				break;
 			}
 			case IApiElement.BASELINE: {
-				flushMemberCache();
-				if (fRootCache != null) {
-					IApiBaseline baseline = (IApiBaseline) element;
-					return fRootCache.remove(baseline.getName()) != null;
-				}
-				break;
+				return removeBaseline(((IApiBaseline) element).getName());
 			}
 			default:
 				break;
@@ -390,18 +449,10 @@ public final class ApiModelCache {
 	 * Clears out all cached information.
 	 */
 	public void flushCaches() {
-		if (fRootCache != null) {
-			fRootCache.flush();
-		}
-		flushMemberCache();
-	}
-
-	/**
-	 * Flushes the cache of member types
-	 */
-	private void flushMemberCache() {
-		if (this.fMemberTypeCache != null) {
-			this.fMemberTypeCache.flush();
+		fCache.clear();
+		fWeight.set(0);
+		if (ApiPlugin.DEBUG_MODEL_CACHE) {
+			System.out.println("API model cache flushed: " + this); //$NON-NLS-1$
 		}
 	}
 
@@ -411,13 +462,51 @@ public final class ApiModelCache {
 	 * @return true if the cache has no entries, false otherwise
 	 */
 	public boolean isEmpty() {
-		boolean empty = true;
-		if (fRootCache != null) {
-			empty &= fRootCache.isEmpty();
-		}
-		if (this.fMemberTypeCache != null) {
-			empty &= this.fMemberTypeCache.isEmpty();
+		for (Map<String, Map<String, CacheEntry>> components : fCache.values()) {
+			for (Map<String, CacheEntry> types : components.values()) {
+				if (!types.isEmpty()) {
+					return false;
+				}
+			}
 		}
-		return empty;
+		return true;
+	}
+
+	/**
+	 * @return the number of lookups that found a cached element
+	 */
+	public long getHits() {
+		return fHits.sum();
+	}
+
+	/**
+	 * @return the number of lookups that found no cached element
+	 */
+	public long getMisses() {
+		return fMisses.sum();
+	}
+
+	/**
+	 * @return the number of types evicted to keep the cache within its bound
+	 */
+	public long getEvictions() {
+		return fEvictions.sum();
+	}
+
+	/**
+	 * @return the approximate memory used by the cached types in bytes
+	 */
+	public long getWeight() {
+		return fWeight.get();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("hits: ").append(getHits()) //$NON-NLS-1$
+				.append(", misses: ").append(getMisses()) //$NON-NLS-1$
+				.append(", evictions: ").append(getEvictions()) //$NON-NLS-1$
+				.append(", size: ").append(getWeight() / 1024).append(" / ").append(fMaxWeight / 1024).append(" KB"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return buffer.toString();
 	}
 }
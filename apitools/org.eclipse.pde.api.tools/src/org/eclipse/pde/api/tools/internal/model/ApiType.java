@@ -178,6 +178,13 @@ public class ApiType extends ApiMember implements IApiType {
 		return EMPTY_FIELDS;
 	}
 
+	/**
+	 * @return the number of fields of this type
+	 */
+	int getFieldCount() {
+		return fFields == null ? 0 : fFields.size();
+	}
+
 	@Override
 	public String getPackageName() {
 		return getName().substring(0, getName().lastIndexOf('.'));
@@ -233,6 +240,13 @@ public class ApiType extends ApiMember implements IApiType {
 		return EMPTY_METHODS;
 	}
 
+	/**
+	 * @return the number of methods of this type
+	 */
+	int getMethodCount() {
+		return fMethods == null ? 0 : fMethods.size();
+	}
+
 	@Override
 	public String[] getSuperInterfaceNames() {
 		return fSuperInterfaceNames;
@@ -433,6 +447,28 @@ public class ApiType extends ApiMember implements IApiType {
 		}
 	}
 
+	/**
+	 * Returns the name of the enclosing method as set by
+	 * {@link #setEnclosingMethodInfo(String, String)}.
+	 *
+	 * @return the method name, an empty string if there is no enclosing
+	 *         method or <code>null</code> if not yet known
+	 */
+	String getEnclosingMethodName() {
+		return fEnclosingMethodName;
+	}
+
+	/**
+	 * Returns the signature of the enclosing method as set by
+	 * {@link #setEnclosingMethodInfo(String, String)}.
+	 *
+	 * @return the method signature, an empty string if there is no enclosing
+	 *         method or <code>null</code> if not yet known
+	 */
+	String getEnclosingMethodSignature() {
+		return fEnclosingMethodSignature;
+	}
+
 	@Override
 	public IApiMethod getEnclosingMethod() {
 		if (fEnclosingMethod == null) {
@@ -521,6 +557,19 @@ public class ApiType extends ApiMember implements IApiType {
 		fMemberTypes.put(simpleName, null);
 	}
 
+	/**
+	 * Returns the simple names of the member types added by
+	 * {@link #addMemberType(String)}.
+	 *
+	 * @return the member type names or <code>null</code> if none
+	 */
+	String[] getMemberTypeNames() {
+		if (fMemberTypes == null) {
+			return null;
+		}
+		return fMemberTypes.keySet().toArray(String[]::new);
+	}
+
 	@Override
 	public IApiType getMemberType(String simpleName) throws CoreException {
 		if (fMemberTypes == null) {
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.model;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.FileSystem;
@@ -20,6 +21,7 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -29,8 +31,10 @@ import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.internal.compiler.util.JRTUtil;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureStore.ArchiveStructures;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.util.Signatures;
@@ -99,15 +103,29 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 			}
 			ArchiveApiTypeContainer archive = (ArchiveApiTypeContainer) getParent();
 			try {
-				Path location = archive.getLocation();
-				Path classLocation = location.resolve(getName());
-				fContents = Files.readAllBytes(classLocation);
+				fContents = archive.readEntry(getName());
 			} catch (IOException e) {
 				abort("Failed to open class file: " + getTypeName() + " in archive: " + archive.fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
 			}
 			return fContents;
 		}
 
+		@Override
+		protected IApiType buildStructure() throws CoreException {
+			ArchiveStructures structures = ((ArchiveApiTypeContainer) getParent()).getStructures();
+			if (structures == null) {
+				return super.buildStructure();
+			}
+			IApiType type = structures.read(getName(), getApiComponent(), this);
+			if (type == null) {
+				type = super.buildStructure();
+				if (type instanceof ApiType apiType) {
+					structures.write(getName(), apiType);
+				}
+			}
+			return type;
+		}
+
 		@Override
 		public String toString() {
 			return getTypeName();
@@ -120,15 +138,35 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	String fLocation;
 
 	/**
-	 * Cache of package names to a map of class names to class files paths in that
-	 * package, or <code>null</code> if not yet initialized.
+	 * Immutable index of the packages and types of an archive.
+	 *
+	 * @param packages map of package names to maps of qualified type names to
+	 *            class file entry names, sorted by name
+	 * @param packageNames the package names of the archive
+	 */
+	private static record Index(Map<String, Map<String, String>> packages, String[] packageNames) {
+
+		/**
+		 * Creates an index that takes ownership of the given maps, they must
+		 * not be modified afterwards.
+		 */
+		static Index of(Map<String, Map<String, String>> packages) {
+			packages.replaceAll((pkg, types) -> Collections.unmodifiableMap(types));
+			return new Index(Collections.unmodifiableMap(packages), packages.keySet().toArray(String[]::new));
+		}
+	}
+
+	/**
+	 * Index of packages and types, <code>null</code> until initialized. It is
+	 * published once and read without locking.
 	 */
-	private Map<String, Map<String, String>> fPackages;
+	private volatile Index fIndex;
 
 	/**
-	 * Cache of package names in this archive.
+	 * Persisted type structures of this archive, or <code>null</code> if not yet
+	 * looked up.
 	 */
-	private String[] fPackageNames;
+	private volatile ArchiveStructures fStructures;
 
 	/**
 	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
@@ -148,7 +186,7 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 * @return the path corresponding to the location.
 	 */
 	@SuppressWarnings("nls")
-	private Path getLocation() throws IOException {
+	Path getLocation() throws IOException {
 		Path path = Path.of(fLocation);
 		if (fLocation.endsWith("jrt-fs.jar")) {
 			AtomicReference<IOException> exception = new AtomicReference<>();
@@ -176,8 +214,7 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	@Override
 	public void accept(ApiTypeContainerVisitor visitor) throws CoreException {
 		if (visitor.visit(this)) {
-			init();
-			for (Map.Entry<String, Map<String, String>> entry : fPackages.entrySet()) {
+			for (Map.Entry<String, Map<String, String>> entry : getIndex().packages().entrySet()) {
 				String pkg = entry.getKey();
 				if (visitor.visitPackage(pkg)) {
 					Map<String, String> classes = entry.getValue();
@@ -207,7 +244,7 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 * @see org.eclipse.pde.api.tools.internal.AbstractApiTypeContainer#close()
 	 */
 	@Override
-	public synchronized void close() throws CoreException {
+	public void close() throws CoreException {
 		//
 	}
 
@@ -216,9 +253,8 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public IApiTypeRoot findTypeRoot(String qualifiedName) throws CoreException {
-		init();
 		String packageName = Signatures.getPackageName(qualifiedName);
-		Map<String, String> classFileNames = fPackages.get(packageName);
+		Map<String, String> classFileNames = getIndex().packages().get(packageName);
 		if (classFileNames != null) {
 			String fileName = classFileNames.get(qualifiedName);
 			if (fileName != null) {
@@ -233,42 +269,130 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public String[] getPackageNames() throws CoreException {
-		init();
-		synchronized (this) {
-			if (fPackageNames == null) {
-				fPackageNames = fPackages.keySet().toArray(String[]::new);
+		return getIndex().packageNames();
+	}
+
+	/**
+	 * Returns the index of packages and types, initializing it on first use.
+	 */
+	private Index getIndex() throws CoreException {
+		Index index = fIndex;
+		if (index == null) {
+			index = init();
+		}
+		return index;
+	}
+
+	/**
+	 * Initializes the index of packages and types, from the persisted index of
+	 * the archive if it is still valid.
+	 */
+	private synchronized Index init() throws CoreException {
+		if (fIndex == null) {
+			ArchiveIndexStore store = ArchiveIndexStore.getDefault();
+			File stampFile = getStampFile();
+			Map<String, Map<String, String>> packages = store == null ? null : store.read(fLocation, stampFile);
+			if (packages == null) {
+				try {
+					packages = createIndex();
+				} catch (IOException e) {
+					abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
+				}
+				if (store != null) {
+					store.write(fLocation, stampFile, packages);
+				}
 			}
-			return fPackageNames;
+			fIndex = Index.of(packages);
 		}
+		return fIndex;
 	}
 
 	/**
-	 * Initializes cache of packages and types.
+	 * Collects the class files of this archive.
+	 *
+	 * @return map of package names to maps of qualified type names to entry
+	 *         names
+	 * @throws IOException if the archive can not be read
 	 */
-	private synchronized void init() throws CoreException {
-		if (fPackages == null) {
-			fPackages = new TreeMap<>();
-			try {
-				Path location = getLocation();
-				boolean isJrt = "jrt".equals(location.toUri().getScheme()); //$NON-NLS-1$
-				try (Stream<Path> walk = Files.walk(location)) {
-					walk.forEach(it -> {
-						String name = location.relativize(it).toString();
-						if (name.endsWith(Util.DOT_CLASS_SUFFIX)) {
-							// In the JRT file system, the first segment will be the module name,
-							// which we must strip.
-							String className = name.substring(isJrt ? name.indexOf('/') + 1 : 0,
-									name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
-							String pkg = Signatures.getPackageName(className);
-							Map<String, String> fileNames = fPackages.computeIfAbsent(pkg, p -> new TreeMap<>());
-							fileNames.put(className, name);
-						}
-					});
+	Map<String, Map<String, String>> createIndex() throws IOException {
+		Map<String, Map<String, String>> packages = new TreeMap<>();
+		Path location = getLocation();
+		boolean isJrt = "jrt".equals(location.toUri().getScheme()); //$NON-NLS-1$
+		try (Stream<Path> walk = Files.walk(location)) {
+			walk.forEach(it -> {
+				String name = location.relativize(it).toString();
+				if (name.endsWith(Util.DOT_CLASS_SUFFIX)) {
+					// In the JRT file system, the first segment will be the module name,
+					// which we must strip.
+					String className = name.substring(isJrt ? name.indexOf('/') + 1 : 0,
+							name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
+					addClassFile(packages, className, name);
 				}
-			} catch (IOException e) {
-				abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
+			});
+		}
+		return packages;
+	}
+
+	/**
+	 * Adds a class file to the given index.
+	 *
+	 * @param packages map of package names to maps of qualified type names to
+	 *            entry names
+	 * @param className qualified name of the type
+	 * @param entryName name of the class file entry
+	 */
+	static void addClassFile(Map<String, Map<String, String>> packages, String className, String entryName) {
+		String pkg = Signatures.getPackageName(className);
+		Map<String, String> fileNames = packages.computeIfAbsent(pkg, p -> new TreeMap<>());
+		fileNames.put(className, entryName);
+	}
+
+	/**
+	 * Reads the contents of the given class file entry.
+	 *
+	 * @param entryName name of the class file entry
+	 * @return the class file contents
+	 * @throws IOException if the entry can not be read
+	 */
+	byte[] readEntry(String entryName) throws IOException {
+		return Files.readAllBytes(getLocation().resolve(entryName));
+	}
+
+	/**
+	 * Returns the file that changes whenever the content of the archive
+	 * changes. For the JRT file system this is the modules image next to
+	 * <code>jrt-fs.jar</code>.
+	 *
+	 * @return the file validating the persisted index of this archive
+	 */
+	File getStampFile() {
+		File file = new File(fLocation);
+		if (fLocation.endsWith("jrt-fs.jar")) { //$NON-NLS-1$
+			File modules = new File(file.getParentFile(), "modules"); //$NON-NLS-1$
+			if (modules.isFile()) {
+				return modules;
+			}
+		}
+		return file;
+	}
+
+	/**
+	 * Returns the persisted type structures of this archive.
+	 *
+	 * @return the type structures or <code>null</code> if there is no
+	 *         {@link TypeStructureStore}
+	 */
+	ArchiveStructures getStructures() {
+		ArchiveStructures structures = fStructures;
+		if (structures == null) {
+			TypeStructureStore store = TypeStructureStore.getDefault();
+			if (store == null) {
+				return null;
 			}
+			structures = store.getStructures(fLocation, getStampFile());
+			fStructures = structures;
 		}
+		return structures;
 	}
 
 	@Override
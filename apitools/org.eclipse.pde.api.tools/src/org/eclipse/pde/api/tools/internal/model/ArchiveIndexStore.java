@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Persistent index of the class files of archives, used by
+ * {@link ArchiveApiTypeContainer} to avoid walking the whole archive each time
+ * a container is created.
+ * <p>
+ * Each archive gets its own index file, which records the archive location and
+ * the size and the last modification time of a stamp file (usually the archive
+ * itself). An index is only used if all of them still match. Index files that
+ * were not used for some time are deleted by {@link #prune()}.
+ * </p>
+ */
+public class ArchiveIndexStore {
+
+	private static final String INDEX_FOLDER = ".archive_index"; //$NON-NLS-1$
+
+	private static final String INDEX_EXTENSION = ".idx"; //$NON-NLS-1$
+
+	/**
+	 * Version of the file format, must be incremented whenever the format
+	 * changes. Files of a different version are ignored.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	private static ArchiveIndexStore fgDefault;
+
+	private final File fIndexFolder;
+
+	/**
+	 * Creates a store that keeps the index files in the given folder.
+	 *
+	 * @param indexFolder folder for the index files, created on demand
+	 */
+	public ArchiveIndexStore(File indexFolder) {
+		fIndexFolder = indexFolder;
+	}
+
+	/**
+	 * Returns the store in the state location of the API tools plug-in, or
+	 * <code>null</code> if not running in a framework.
+	 *
+	 * @return the default store or <code>null</code>
+	 */
+	public static synchronized ArchiveIndexStore getDefault() {
+		if (fgDefault == null && ApiPlugin.isRunningInFramework()) {
+			fgDefault = new ArchiveIndexStore(ApiPlugin.getDefault().getStateLocation().append(INDEX_FOLDER).toFile());
+			fgDefault.prune();
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Returns the persisted index of the given archive.
+	 *
+	 * @param location location of the archive
+	 * @param stampFile the file whose size and modification time validate the
+	 *            index
+	 * @return map of package names to maps of qualified type names to entry
+	 *         names, or <code>null</code> if there is no valid index
+	 */
+	public Map<String, Map<String, String>> read(String location, File stampFile) {
+		File indexFile = getIndexFile(location);
+		if (!indexFile.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile.toPath())))) {
+			if (in.readInt() != FORMAT_VERSION || !location.equals(in.readUTF()) || in.readLong() != stampFile.length()
+					|| in.readLong() != stampFile.lastModified()) {
+				return null;
+			}
+			Map<String, Map<String, String>> packages = new TreeMap<>();
+			int packageCount = in.readInt();
+			for (int i = 0; i < packageCount; i++) {
+				String pkg = in.readUTF();
+				int typeCount = in.readInt();
+				Map<String, String> types = new TreeMap<>();
+				String prefix = pkg.isEmpty() ? pkg : pkg + '.';
+				for (int j = 0; j < typeCount; j++) {
+					// simple type names are stored, the package prefix is implied
+					types.put(prefix + in.readUTF(), in.readUTF());
+				}
+				packages.put(pkg, types);
+			}
+			Util.markCacheFileUsed(indexFile);
+			return packages;
+		} catch (IOException e) {
+			// a broken index is simply rebuilt
+			return null;
+		}
+	}
+
+	/**
+	 * Persists the index of the given archive.
+	 *
+	 * @param location location of the archive
+	 * @param stampFile the file whose size and modification time validate the
+	 *            index
+	 * @param packages map of package names to maps of qualified type names to
+	 *            entry names
+	 */
+	public void write(String location, File stampFile, Map<String, Map<String, String>> packages) {
+		long length = stampFile.length();
+		long lastModified = stampFile.lastModified();
+		if (lastModified == 0) {
+			return;
+		}
+		File indexFile = getIndexFile(location);
+		File tmp = null;
+		try {
+			Files.createDirectories(fIndexFolder.toPath());
+			// several containers of the same archive may be initialized concurrently
+			tmp = File.createTempFile(indexFile.getName(), ".tmp", fIndexFolder); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeUTF(location);
+				out.writeLong(length);
+				out.writeLong(lastModified);
+				out.writeInt(packages.size());
+				for (Entry<String, Map<String, String>> pkg : packages.entrySet()) {
+					out.writeUTF(pkg.getKey());
+					int prefixLength = pkg.getKey().isEmpty() ? 0 : pkg.getKey().length() + 1;
+					out.writeInt(pkg.getValue().size());
+					for (Entry<String, String> type : pkg.getValue().entrySet()) {
+						out.writeUTF(type.getKey().substring(prefixLength));
+						out.writeUTF(type.getValue());
+					}
+				}
+			}
+			Files.move(tmp.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+			if (tmp != null) {
+				tmp.delete();
+			}
+		}
+	}
+
+	/**
+	 * Deletes the files of archives that were not used for
+	 * {@link Util#UNUSED_CACHE_FILE_AGE}.
+	 */
+	public void prune() {
+		Util.deleteUnusedCacheFiles(fIndexFolder);
+	}
+
+	/**
+	 * Deletes all index files of this store.
+	 */
+	public void clear() {
+		File[] files = fIndexFolder.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+
+	private File getIndexFile(String location) {
+		// the location is stored in the file, so hash collisions are detected
+		String name = new File(location).getName() + '_' + Integer.toHexString(location.hashCode()) + INDEX_EXTENSION;
+		return new File(fIndexFolder, name);
+	}
+}
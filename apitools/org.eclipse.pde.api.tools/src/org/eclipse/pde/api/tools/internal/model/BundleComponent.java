@@ -15,17 +15,14 @@ package org.eclipse.pde.api.tools.internal.model;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Iterator;
@@ -33,7 +30,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
 
 import javax.xml.parsers.ParserConfigurationException;
@@ -55,6 +51,7 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
 import org.eclipse.pde.api.tools.internal.ApiDescription;
 import org.eclipse.pde.api.tools.internal.ApiDescriptionProcessor;
+import org.eclipse.pde.api.tools.internal.BundleApiDescriptionStore;
 import org.eclipse.pde.api.tools.internal.BundleVersionRange;
 import org.eclipse.pde.api.tools.internal.CompositeApiDescription;
 import org.eclipse.pde.api.tools.internal.FilterStore;
@@ -90,8 +87,6 @@ import org.xml.sax.SAXException;
  */
 public class BundleComponent extends Component {
 
-	static final String TMP_API_FILE_PREFIX = "api"; //$NON-NLS-1$
-
 	/**
 	 * Dictionary parsed from MANIFEST.MF
 	 */
@@ -411,14 +406,25 @@ public class BundleComponent extends Component {
 	 * @throws CoreException if unable to initialize
 	 */
 	protected IApiDescription createLocalApiDescription() throws CoreException {
-		IApiDescription apiDesc = new ApiDescription(getSymbolicName());
+		ApiDescription apiDesc = new ApiDescription(getSymbolicName());
 		// first mark all packages as internal
 		initializeApiDescription(apiDesc, getBundleDescription(), getLocalPackageNames());
 		try {
-			String xml = loadApiDescription(new File(fLocation));
+			File bundle = new File(fLocation);
+			File stampFile = bundle.isFile() ? bundle : new File(bundle, IApiCoreConstants.API_DESCRIPTION_XML_NAME);
+			BundleApiDescriptionStore store = BundleApiDescriptionStore.getDefault();
+			if (store != null && store.annotate(fLocation, stampFile, apiDesc)) {
+				setHasApiDescription(true);
+				return apiDesc;
+			}
+			String xml = loadApiDescription(bundle);
 			setHasApiDescription(xml != null);
 			if (xml != null) {
-				ApiDescriptionProcessor.annotateApiSettings(null, apiDesc, xml);
+				if (store != null) {
+					store.annotate(fLocation, stampFile, apiDesc, xml);
+				} else {
+					ApiDescriptionProcessor.annotateApiSettings(null, apiDesc, xml);
+				}
 			}
 		} catch (IOException e) {
 			abort("Unable to load .api_description file ", e); //$NON-NLS-1$
@@ -682,22 +688,11 @@ public class BundleComponent extends Component {
 					try (ZipFile zip = new ZipFile(fLocation)) {
 						ZipEntry entry = zip.getEntry(path);
 						if (entry != null) {
+							// the entry is read in place, without extracting it
 							if (entry.isDirectory()) {
-								// extract the dir and all children
-								File dir = Util.createTempDirectory(TMP_API_FILE_PREFIX);
-								extractDirectory(zip, entry.getName(), dir);
-								return new DirectoryApiTypeContainer(this, dir.getCanonicalPath());
-							} else {
-								if (Util.isArchive(path)) {
-									// Create a uniquely named temp-directory and extract the file inside it.
-									// Without that additional parent directory, this could clash, e.g.
-									// due to pre-existing files in the temp dir or when comparing with
-									// a baseline during API analysis: one file would simply overwrite
-									// the other one and thus a difference cannot be found.
-									File dir = Util.createTempDirectory(TMP_API_FILE_PREFIX);
-									File file = extractEntry(zip, entry, dir);
-									return new ArchiveApiTypeContainer(this, file.getCanonicalPath());
-								}
+								return new NestedArchiveApiTypeContainer(this, fLocation, entry.getName(), true);
+							} else if (Util.isArchive(path)) {
+								return new NestedArchiveApiTypeContainer(this, fLocation, entry.getName(), false);
 							}
 						}
 					}
@@ -709,71 +704,6 @@ public class BundleComponent extends Component {
 		return null;
 	}
 
-	/**
-	 * Extracts a directory from the archive given a path prefix for entries to
-	 * retrieve. <code>null</code> can be passed in as a prefix, causing all
-	 * entries to be be extracted from the archive.
-	 *
-	 * @param zip the {@link ZipFile} to extract from
-	 * @param pathprefix the prefix'ing path to include for extraction
-	 * @param parent the parent directory to extract to
-	 * @throws IOException if the {@link ZipFile} cannot be read or extraction
-	 *             fails to write the file(s)
-	 * @throws IOException, CoreException
-	 */
-	static void extractDirectory(ZipFile zip, String pathprefix, File parent) throws IOException, CoreException {
-		Enumeration<? extends ZipEntry> entries = zip.entries();
-		String prefix = (pathprefix == null ? Util.EMPTY_STRING : pathprefix);
-		while (entries.hasMoreElements()) {
-			ZipEntry entry = entries.nextElement();
-			String name = entry.getName();
-			if (name.startsWith(prefix)) {
-				String parentDirCanonicalPath = parent.getCanonicalPath();
-				File file = new File(parent, name);
-				if (!file.toPath().normalize().startsWith(parent.toPath().normalize())) {
-					throw new ZipException("Bad zip entry: " + name); //$NON-NLS-1$
-				}
-				String destCanonicalPath = file.getCanonicalPath();
-				if (!destCanonicalPath.startsWith(parentDirCanonicalPath + File.separator)) {
-					throw new CoreException(Status.error(MessageFormat.format("Entry is outside of the target dir: : {0}", name))); //$NON-NLS-1$
-				}
-				if (entry.isDirectory()) {
-					file.mkdir();
-					continue;
-				}
-				extractEntry(zip, entry, parent);
-			}
-		}
-	}
-
-	/**
-	 * Extracts a non-directory entry from a zip file and returns the File
-	 * handle
-	 *
-	 * @param zip the zip to extract from
-	 * @param entry the entry to extract
-	 * @param parent the parent directory to add the extracted entry to
-	 * @return the file handle to the extracted entry, <code>null</code>
-	 *         otherwise
-	 */
-	static File extractEntry(ZipFile zip, ZipEntry entry, File parent) throws IOException {
-		try (InputStream inputStream = zip.getInputStream(entry)) {
-			String name = entry.getName();
-			File file = new File(parent, name);
-			if (!file.toPath().normalize().startsWith(parent.toPath().normalize())) {
-				throw new ZipException("Bad zip entry: " + name); //$NON-NLS-1$
-			}
-			File lparent = file.getParentFile();
-			if (!lparent.exists()) {
-				lparent.mkdirs();
-			}
-			try (FileOutputStream outputStream = new FileOutputStream(file)) {
-				inputStream.transferTo(outputStream);
-			}
-			return file;
-		}
-	}
-
 	public static void closingZipFileAndStream(InputStream stream, ZipFile jarFile) {
 		try {
 			if (stream != null) {
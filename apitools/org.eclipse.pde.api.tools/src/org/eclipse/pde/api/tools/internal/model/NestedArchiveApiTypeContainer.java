@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import org.eclipse.jdt.internal.compiler.util.JRTUtil;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * {@link ArchiveApiTypeContainer} for a <code>Bundle-ClassPath</code> entry of
+ * a jarred bundle, which is either a nested archive or a directory in the
+ * bundle archive. The entry is read in place instead of being extracted.
+ * <p>
+ * The class files of nested archives are held in memory and shared by all
+ * containers of the same entry, for example of different baselines, as long as
+ * the bundle archive does not change.
+ * </p>
+ */
+public class NestedArchiveApiTypeContainer extends ArchiveApiTypeContainer {
+
+	/**
+	 * The class files of a nested archive and the size and modification time
+	 * of the bundle archive they were read from
+	 */
+	private static record NestedArchive(long length, long lastModified, Map<String, byte[]> classFiles) {
+	}
+
+	/**
+	 * Nested archives by {@link #fLocation}, softly referenced so they can be
+	 * reclaimed when memory gets low
+	 */
+	private static final Map<String, SoftReference<NestedArchive>> NESTED_ARCHIVES = new ConcurrentHashMap<>();
+
+	private final String fArchive;
+	private final String fEntryName;
+	private final boolean fDirectory;
+
+	/**
+	 * Constructs a container for an entry of a bundle archive.
+	 *
+	 * @param parent the parent {@link IApiElement} or <code>null</code> if none
+	 * @param archive location of the bundle archive in the local file system
+	 * @param entryName name of the nested archive or directory entry
+	 * @param directory whether the entry is a directory
+	 */
+	public NestedArchiveApiTypeContainer(IApiElement parent, String archive, String entryName, boolean directory) {
+		super(parent, archive + "!/" + entryName); //$NON-NLS-1$
+		fArchive = archive;
+		fEntryName = entryName;
+		fDirectory = directory;
+	}
+
+	@Override
+	Path getLocation() throws IOException {
+		if (fDirectory) {
+			return JRTUtil.getJarFileSystem(Path.of(fArchive)).getPath("/", fEntryName); //$NON-NLS-1$
+		}
+		return super.getLocation();
+	}
+
+	@Override
+	Map<String, Map<String, String>> createIndex() throws IOException {
+		if (fDirectory) {
+			return super.createIndex();
+		}
+		Map<String, Map<String, String>> packages = new TreeMap<>();
+		for (String name : getNestedArchive().classFiles().keySet()) {
+			String className = name.substring(0, name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
+			addClassFile(packages, className, name);
+		}
+		return packages;
+	}
+
+	@Override
+	byte[] readEntry(String entryName) throws IOException {
+		if (fDirectory) {
+			return super.readEntry(entryName);
+		}
+		byte[] contents = getNestedArchive().classFiles().get(entryName);
+		if (contents == null) {
+			throw new IOException("Missing entry " + entryName + " in " + fLocation); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return contents;
+	}
+
+	@Override
+	File getStampFile() {
+		return new File(fArchive);
+	}
+
+	@Override
+	public int getContainerType() {
+		return fDirectory ? DIRECTORY : ARCHIVE;
+	}
+
+	/**
+	 * Returns the class files of the nested archive, reading them from the
+	 * bundle archive if they are not cached or the bundle archive changed.
+	 */
+	private NestedArchive getNestedArchive() throws IOException {
+		File archive = new File(fArchive);
+		long length = archive.length();
+		long lastModified = archive.lastModified();
+		SoftReference<NestedArchive> reference = NESTED_ARCHIVES.get(fLocation);
+		NestedArchive nested = reference == null ? null : reference.get();
+		if (nested != null && nested.length() == length && nested.lastModified() == lastModified) {
+			return nested;
+		}
+		Map<String, byte[]> classFiles = new HashMap<>();
+		try (ZipFile zip = new ZipFile(archive)) {
+			ZipEntry entry = zip.getEntry(fEntryName);
+			if (entry == null) {
+				throw new IOException("Missing entry " + fEntryName + " in " + fArchive); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			try (InputStream stream = zip.getInputStream(entry); ZipInputStream nestedZip = new ZipInputStream(stream)) {
+				ZipEntry nestedEntry;
+				while ((nestedEntry = nestedZip.getNextEntry()) != null) {
+					String name = nestedEntry.getName();
+					if (!nestedEntry.isDirectory() && name.endsWith(Util.DOT_CLASS_SUFFIX)) {
+						classFiles.put(name, nestedZip.readAllBytes());
+					}
+				}
+			}
+		}
+		nested = new NestedArchive(length, lastModified, classFiles);
+		NESTED_ARCHIVES.put(fLocation, new SoftReference<>(nested));
+		return nested;
+	}
+}
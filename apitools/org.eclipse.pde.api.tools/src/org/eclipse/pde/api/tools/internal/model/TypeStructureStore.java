@@ -0,0 +1,815 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Persistent cache of the type structures of archives, used by
+ * {@link ArchiveApiTypeContainer} to avoid parsing the class files of
+ * unchanged archives, like the ones of API baselines, again in each session.
+ * <p>
+ * Each archive gets its own file, which records the archive location and the
+ * size and the last modification time of a stamp file, followed by a table of
+ * the class file entries and their encoded {@link ApiType}s. The table is read
+ * on first use and only softly kept, structures are read from the file and
+ * decoded when they are requested. Structures built during a session are kept
+ * in encoded form until they are written by {@link #save()}, which happens
+ * when the workspace is saved or once they exceed a size limit. Files that
+ * were not used for some time are deleted by {@link #prune()}.
+ * </p>
+ */
+public class TypeStructureStore {
+
+	private static final String STORE_FOLDER = ".type_structures"; //$NON-NLS-1$
+
+	private static final String STORE_EXTENSION = ".str"; //$NON-NLS-1$
+
+	/**
+	 * Version of the file format, must be incremented whenever the format
+	 * changes. Files of a different version are ignored.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	/**
+	 * Size in bytes of the structures built in a session after which they are
+	 * written to the files
+	 */
+	private static final long PENDING_LIMIT = 4 * 1024 * 1024;
+
+	/**
+	 * Size in bytes of the first read of the entry table of a file
+	 */
+	private static final int TABLE_READ_SIZE = 16 * 1024;
+
+	private static final int ANONYMOUS = 0x1;
+	private static final int LOCAL = 0x2;
+	private static final int MEMBER = 0x4;
+	private static final int ENCLOSING_METHOD = 0x8;
+
+	private static final int VALUE_NONE = 0;
+	private static final int VALUE_INTEGER = 1;
+	private static final int VALUE_LONG = 2;
+	private static final int VALUE_FLOAT = 3;
+	private static final int VALUE_DOUBLE = 4;
+	private static final int VALUE_STRING = 5;
+
+	private static TypeStructureStore fgDefault;
+
+	private final File fStoreFolder;
+
+	private final long fPendingLimit;
+
+	/**
+	 * Structures by archive location
+	 */
+	private final Map<String, ArchiveStructures> fArchives = new ConcurrentHashMap<>();
+
+	/**
+	 * Size in bytes of the structures that are not persisted yet
+	 */
+	private final AtomicLong fPendingSize = new AtomicLong();
+
+	private final AtomicBoolean fSaving = new AtomicBoolean();
+
+	/**
+	 * Creates a store that keeps its files in the given folder.
+	 *
+	 * @param storeFolder folder for the structure files, created on demand
+	 */
+	public TypeStructureStore(File storeFolder) {
+		this(storeFolder, PENDING_LIMIT);
+	}
+
+	/**
+	 * Creates a store that keeps its files in the given folder and writes the
+	 * structures built in a session once they exceed the given size.
+	 *
+	 * @param storeFolder folder for the structure files, created on demand
+	 * @param pendingLimit size in bytes of the structures after which they are
+	 *            written
+	 */
+	public TypeStructureStore(File storeFolder, long pendingLimit) {
+		fStoreFolder = storeFolder;
+		fPendingLimit = pendingLimit;
+	}
+
+	/**
+	 * Returns the store in the state location of the API tools plug-in, or
+	 * <code>null</code> if not running in a framework.
+	 *
+	 * @return the default store or <code>null</code>
+	 */
+	public static synchronized TypeStructureStore getDefault() {
+		if (fgDefault == null && ApiPlugin.isRunningInFramework()) {
+			fgDefault = new TypeStructureStore(ApiPlugin.getDefault().getStateLocation().append(STORE_FOLDER).toFile());
+			fgDefault.prune();
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Saves the default store, if it was used. Called when the workspace is
+	 * saved.
+	 */
+	public static void saveDefault() {
+		TypeStructureStore store;
+		synchronized (TypeStructureStore.class) {
+			store = fgDefault;
+		}
+		if (store != null) {
+			store.save();
+		}
+	}
+
+	/**
+	 * Saves the default store, if it was used. Called when the API tools
+	 * plug-in is stopped.
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			fgDefault.save();
+			fgDefault = null;
+		}
+	}
+
+	/**
+	 * Returns the structures of the given archive. Structures persisted for a
+	 * different size or modification time of the stamp file are discarded.
+	 *
+	 * @param location location of the archive
+	 * @param stampFile the file whose size and modification time validate the
+	 *            persisted structures
+	 * @return the structures of the archive
+	 */
+	public ArchiveStructures getStructures(String location, File stampFile) {
+		long length = stampFile.length();
+		long lastModified = stampFile.lastModified();
+		return fArchives.compute(location, (key, structures) -> {
+			if (structures != null && structures.fLength == length && structures.fLastModified == lastModified) {
+				return structures;
+			}
+			if (structures != null) {
+				structures.discard();
+			}
+			return new ArchiveStructures(location, stampFile, length, lastModified);
+		});
+	}
+
+	/**
+	 * Writes the structures that were added since they were loaded. The
+	 * structures of archives that changed since they were requested are
+	 * dropped.
+	 */
+	public void save() {
+		for (Iterator<ArchiveStructures> iterator = fArchives.values().iterator(); iterator.hasNext();) {
+			ArchiveStructures structures = iterator.next();
+			if (structures.isStale()) {
+				iterator.remove();
+				structures.discard();
+			} else {
+				structures.save();
+			}
+		}
+	}
+
+	/**
+	 * Called when structures were added, writes them if they exceed the limit
+	 * and no other thread is writing them already.
+	 */
+	private void added(int size) {
+		if (fPendingSize.addAndGet(size) > fPendingLimit && fSaving.compareAndSet(false, true)) {
+			try {
+				save();
+			} finally {
+				fSaving.set(false);
+			}
+		}
+	}
+
+	/**
+	 * Deletes the files of archives that were not used for
+	 * {@link Util#UNUSED_CACHE_FILE_AGE}.
+	 */
+	public void prune() {
+		Util.deleteUnusedCacheFiles(fStoreFolder);
+	}
+
+	/**
+	 * Deletes all files of this store.
+	 */
+	public void clear() {
+		fArchives.values().forEach(ArchiveStructures::discard);
+		fArchives.clear();
+		File[] files = fStoreFolder.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+
+	private File getStoreFile(String location) {
+		// the location is stored in the file, so hash collisions are detected
+		String name = new File(location).getName() + '_' + Integer.toHexString(location.hashCode()) + STORE_EXTENSION;
+		return new File(fStoreFolder, name);
+	}
+
+	/**
+	 * The entry table of the structure file of an archive: the size of the
+	 * file it was read from and the position and length of the encoded
+	 * structure of each class file entry
+	 */
+	private static record Contents(long size, Map<String, long[]> entries) {
+		static final Contents EMPTY = new Contents(-1, Map.of());
+	}
+
+	/**
+	 * The type structures of one archive.
+	 */
+	public final class ArchiveStructures {
+
+		final String fLocation;
+		final File fStampFile;
+		final long fLength;
+		final long fLastModified;
+
+		/**
+		 * The entry table of the structure file, <code>null</code> until first
+		 * used and released when memory is low
+		 */
+		private volatile SoftReference<Contents> fContents;
+
+		/**
+		 * Encoded structures by entry name that are not persisted yet
+		 */
+		private final Map<String, byte[]> fPending = new ConcurrentHashMap<>();
+
+		/**
+		 * Whether the structures were dropped from the store
+		 */
+		private volatile boolean fDiscarded;
+
+		ArchiveStructures(String location, File stampFile, long length, long lastModified) {
+			fLocation = location;
+			fStampFile = stampFile;
+			fLength = length;
+			fLastModified = lastModified;
+		}
+
+		/**
+		 * Returns the persisted structure of the given class file entry.
+		 *
+		 * @param entryName name of the class file entry
+		 * @param component the component of the type or <code>null</code>
+		 * @param root the type root of the type
+		 * @return the structure or <code>null</code> if there is none
+		 */
+		public IApiType read(String entryName, IApiComponent component, IApiTypeRoot root) {
+			byte[] pending = fPending.get(entryName);
+			if (pending != null) {
+				return decode(ByteBuffer.wrap(pending), component, root);
+			}
+			Contents contents = getContents();
+			long[] position = contents.entries().get(entryName);
+			if (position == null) {
+				return null;
+			}
+			try (FileChannel channel = FileChannel.open(getStoreFile(fLocation).toPath(), StandardOpenOption.READ)) {
+				if (channel.size() != contents.size()) {
+					// replaced since the table was read
+					return null;
+				}
+				ByteBuffer buffer = ByteBuffer.allocate((int) position[1]);
+				readFully(channel, buffer, position[0]);
+				return decode(buffer.flip(), component, root);
+			} catch (IOException e) {
+				// built again from the class file
+				return null;
+			}
+		}
+
+		/**
+		 * Adds the structure of the given class file entry, it is persisted
+		 * with the next {@link TypeStructureStore#save()}. Structures that can
+		 * not be encoded are ignored.
+		 *
+		 * @param entryName name of the class file entry
+		 * @param type the structure built from the class file
+		 */
+		public void write(String entryName, ApiType type) {
+			if (fLastModified == 0 || fDiscarded) {
+				return;
+			}
+			byte[] bytes;
+			try {
+				bytes = new Encoder().encode(type);
+			} catch (IOException e) {
+				// not cached, built again from the class file
+				if (ApiPlugin.DEBUG_BUILDER) {
+					System.out.println("Type structure not cached: " + type.getName() + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				return;
+			}
+			byte[] previous = fPending.put(entryName, bytes);
+			added(previous == null ? bytes.length : bytes.length - previous.length);
+		}
+
+		/**
+		 * @return whether the stamp file changed since the structures were
+		 *         requested
+		 */
+		boolean isStale() {
+			return fStampFile.length() != fLength || fStampFile.lastModified() != fLastModified;
+		}
+
+		/**
+		 * Drops the structures that are not persisted yet, later ones are
+		 * ignored.
+		 */
+		synchronized void discard() {
+			fDiscarded = true;
+			fContents = null;
+			for (Iterator<byte[]> iterator = fPending.values().iterator(); iterator.hasNext();) {
+				fPendingSize.addAndGet(-iterator.next().length);
+				iterator.remove();
+			}
+		}
+
+		private Contents getContents() {
+			SoftReference<Contents> reference = fContents;
+			Contents contents = reference != null ? reference.get() : null;
+			if (contents == null) {
+				synchronized (this) {
+					reference = fContents;
+					contents = reference != null ? reference.get() : null;
+					if (contents == null) {
+						contents = load();
+						fContents = new SoftReference<>(contents);
+					}
+				}
+			}
+			return contents;
+		}
+
+		/**
+		 * Reads the entry table of the structure file. The table is read in
+		 * growing chunks, so the structures themselves are not read.
+		 */
+		private Contents load() {
+			File file = getStoreFile(fLocation);
+			if (fLastModified == 0 || !file.isFile()) {
+				return Contents.EMPTY;
+			}
+			try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+				long size = channel.size();
+				int chunk = (int) Math.min(size, TABLE_READ_SIZE);
+				while (true) {
+					ByteBuffer buffer = ByteBuffer.allocate(chunk);
+					readFully(channel, buffer, 0);
+					buffer.flip();
+					try {
+						Contents contents = readTable(buffer, size);
+						if (contents != Contents.EMPTY) {
+							Util.markCacheFileUsed(file);
+						}
+						return contents;
+					} catch (BufferUnderflowException e) {
+						if (chunk >= size || chunk >= Integer.MAX_VALUE / 2) {
+							throw new IOException("Truncated file: " + file); //$NON-NLS-1$
+						}
+						chunk = (int) Math.min(size, chunk * 2L);
+					}
+				}
+			} catch (IOException | RuntimeException e) {
+				// a broken file is simply rebuilt
+				return Contents.EMPTY;
+			}
+		}
+
+		/**
+		 * @throws BufferUnderflowException if the table exceeds the buffer
+		 */
+		private Contents readTable(ByteBuffer buffer, long size) throws IOException {
+			if (buffer.getInt() != FORMAT_VERSION || !fLocation.equals(readString(buffer))
+					|| buffer.getLong() != fLength || buffer.getLong() != fLastModified) {
+				return Contents.EMPTY;
+			}
+			int count = buffer.getInt();
+			// every entry takes at least a byte for its name and two ints
+			if (count < 0 || count > (size - buffer.position()) / 9) {
+				throw new IOException("Invalid entry count: " + count); //$NON-NLS-1$
+			}
+			if (count > buffer.remaining() / 9) {
+				throw new BufferUnderflowException();
+			}
+			Map<String, long[]> entries = new HashMap<>(count * 4 / 3 + 1);
+			for (int i = 0; i < count; i++) {
+				entries.put(readString(buffer), new long[] { buffer.getInt(), buffer.getInt() });
+			}
+			int dataStart = buffer.position();
+			for (long[] position : entries.values()) {
+				position[0] += dataStart;
+				if (position[1] < 0 || position[0] + position[1] > size) {
+					throw new IOException("Invalid entry position"); //$NON-NLS-1$
+				}
+			}
+			return new Contents(size, entries);
+		}
+
+		/**
+		 * Writes the persisted structures together with the pending ones to a
+		 * new file. The persisted structures are copied from the current file
+		 * one at a time.
+		 */
+		synchronized void save() {
+			if (fPending.isEmpty() || fDiscarded) {
+				return;
+			}
+			Map<String, byte[]> pending = new HashMap<>(fPending);
+			Contents contents = getContents();
+			Map<String, long[]> persisted = new HashMap<>(contents.entries());
+			persisted.keySet().removeAll(pending.keySet());
+			File file = getStoreFile(fLocation);
+			File tmp = null;
+			try {
+				Files.createDirectories(fStoreFolder.toPath());
+				// several workspaces may share an archive
+				tmp = File.createTempFile(file.getName(), ".tmp", fStoreFolder); //$NON-NLS-1$
+				try (FileChannel current = persisted.isEmpty() ? null : FileChannel.open(file.toPath(), StandardOpenOption.READ);
+						DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+					if (current != null && current.size() != contents.size()) {
+						// replaced since the table was read
+						persisted.clear();
+					}
+					SortedSet<String> names = new TreeSet<>(persisted.keySet());
+					names.addAll(pending.keySet());
+					out.writeInt(FORMAT_VERSION);
+					writeString(out, fLocation);
+					out.writeLong(fLength);
+					out.writeLong(fLastModified);
+					out.writeInt(names.size());
+					int offset = 0;
+					for (String name : names) {
+						byte[] bytes = pending.get(name);
+						int length = bytes != null ? bytes.length : (int) persisted.get(name)[1];
+						writeString(out, name);
+						out.writeInt(offset);
+						out.writeInt(length);
+						offset += length;
+					}
+					for (String name : names) {
+						byte[] bytes = pending.get(name);
+						if (bytes == null) {
+							long[] position = persisted.get(name);
+							ByteBuffer buffer = ByteBuffer.allocate((int) position[1]);
+							readFully(current, buffer, position[0]);
+							bytes = buffer.array();
+						}
+						out.write(bytes);
+					}
+				}
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} catch (IOException e) {
+				ApiPlugin.log(e);
+				if (tmp != null) {
+					tmp.delete();
+				}
+				return;
+			}
+			// read the new table on next use
+			fContents = null;
+			for (Entry<String, byte[]> entry : pending.entrySet()) {
+				if (fPending.remove(entry.getKey(), entry.getValue())) {
+					fPendingSize.addAndGet(-entry.getValue().length);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Fills the given buffer from the given position of the channel.
+	 */
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		long current = position;
+		while (buffer.hasRemaining()) {
+			int read = channel.read(buffer, current);
+			if (read < 0) {
+				throw new EOFException();
+			}
+			current += read;
+		}
+	}
+
+	/**
+	 * Encodes an {@link ApiType} with its fields and methods. Strings are
+	 * written once per type and referenced by index afterwards.
+	 */
+	private static final class Encoder {
+		private final ByteArrayOutputStream fBytes = new ByteArrayOutputStream(512);
+		private final DataOutputStream fOut = new DataOutputStream(fBytes);
+		private final Map<String, Integer> fPool = new HashMap<>();
+		private final CharsetEncoder fEncoder = StandardCharsets.UTF_8.newEncoder();
+
+		byte[] encode(ApiType type) throws IOException {
+			string(type.getName());
+			string(type.getSignature());
+			string(type.getGenericSignature());
+			varint(type.getModifiers());
+			string(type.getSuperclassName());
+			strings(type.getSuperInterfaceNames());
+			int kind = 0;
+			if (type.isAnonymous()) {
+				kind |= ANONYMOUS;
+			}
+			if (type.isLocal()) {
+				kind |= LOCAL;
+			}
+			if (type.isMemberType()) {
+				kind |= MEMBER;
+			}
+			if (type.getEnclosingMethodName() != null) {
+				kind |= ENCLOSING_METHOD;
+			}
+			varint(kind);
+			if ((kind & (LOCAL | MEMBER)) != 0) {
+				string(type.getSimpleName());
+			}
+			if ((kind & ENCLOSING_METHOD) != 0) {
+				string(type.getEnclosingMethodName());
+				string(type.getEnclosingMethodSignature());
+			}
+			strings(type.getMemberTypeNames());
+			IApiField[] fields = type.getFields();
+			varint(fields.length);
+			for (IApiField field : fields) {
+				string(field.getName());
+				string(field.getSignature());
+				string(field.getGenericSignature());
+				varint(field.getModifiers());
+				value(field.getConstantValue());
+			}
+			IApiMethod[] methods = type.getMethods();
+			varint(methods.length);
+			for (IApiMethod method : methods) {
+				string(method.getName());
+				string(method.getSignature());
+				string(method.getGenericSignature());
+				varint(method.getModifiers());
+				strings(method.getExceptionNames());
+				string(method.getDefaultValue());
+			}
+			fOut.flush();
+			return fBytes.toByteArray();
+		}
+
+		private void value(Object value) throws IOException {
+			if (value == null) {
+				fOut.writeByte(VALUE_NONE);
+			} else if (value instanceof Integer i) {
+				fOut.writeByte(VALUE_INTEGER);
+				fOut.writeInt(i.intValue());
+			} else if (value instanceof Long l) {
+				fOut.writeByte(VALUE_LONG);
+				fOut.writeLong(l.longValue());
+			} else if (value instanceof Float f) {
+				fOut.writeByte(VALUE_FLOAT);
+				fOut.writeInt(Float.floatToRawIntBits(f.floatValue()));
+			} else if (value instanceof Double d) {
+				fOut.writeByte(VALUE_DOUBLE);
+				fOut.writeLong(Double.doubleToRawLongBits(d.doubleValue()));
+			} else if (value instanceof String s) {
+				fOut.writeByte(VALUE_STRING);
+				string(s);
+			} else {
+				throw new IOException("Unsupported constant value: " + value.getClass().getName()); //$NON-NLS-1$
+			}
+		}
+
+		private void strings(String[] values) throws IOException {
+			if (values == null) {
+				varint(0);
+				return;
+			}
+			varint(values.length + 1);
+			for (String value : values) {
+				string(value);
+			}
+		}
+
+		/*
+		 * 0 is null, 1 is a new string that follows, any other value n
+		 * references the (n - 2)th string of the pool
+		 */
+		private void string(String value) throws IOException {
+			if (value == null) {
+				varint(0);
+				return;
+			}
+			Integer index = fPool.get(value);
+			if (index != null) {
+				varint(index.intValue() + 2);
+				return;
+			}
+			fPool.put(value, Integer.valueOf(fPool.size()));
+			varint(1);
+			// fails for unpaired surrogates, which UTF-8 can not represent
+			ByteBuffer bytes = fEncoder.encode(CharBuffer.wrap(value));
+			varint(bytes.remaining());
+			fOut.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+		}
+
+		private void varint(int value) throws IOException {
+			writeVarint(fOut, value);
+		}
+	}
+
+	/**
+	 * Decodes an {@link ApiType} written by {@link Encoder}.
+	 *
+	 * @return the type or <code>null</code> if the structure is broken
+	 */
+	private static ApiType decode(ByteBuffer buffer, IApiComponent component, IApiTypeRoot root) {
+		try {
+			List<String> pool = new ArrayList<>();
+			String name = string(buffer, pool);
+			String signature = string(buffer, pool);
+			String genericSignature = string(buffer, pool);
+			int modifiers = varint(buffer);
+			int index = name.lastIndexOf('$');
+			String enclosingName = index > -1 ? name.substring(0, index) : null;
+			ApiType type = new ApiType(component, name, signature, genericSignature, modifiers, enclosingName, root);
+			type.setSuperclassName(string(buffer, pool));
+			type.setSuperInterfaceNames(strings(buffer, pool));
+			int kind = varint(buffer);
+			if ((kind & ANONYMOUS) != 0) {
+				type.setAnonymous();
+			}
+			if ((kind & LOCAL) != 0) {
+				type.setLocal();
+			}
+			if ((kind & MEMBER) != 0) {
+				type.setMemberType();
+			}
+			if ((kind & (LOCAL | MEMBER)) != 0) {
+				type.setSimpleName(string(buffer, pool));
+			}
+			if ((kind & ENCLOSING_METHOD) != 0) {
+				// empty strings tag a type without enclosing method
+				String methodName = string(buffer, pool);
+				String methodSignature = string(buffer, pool);
+				type.setEnclosingMethodInfo(methodName.isEmpty() ? null : methodName, methodSignature.isEmpty() ? null : methodSignature);
+			}
+			String[] memberTypes = strings(buffer, pool);
+			if (memberTypes != null) {
+				for (String memberType : memberTypes) {
+					type.addMemberType(memberType);
+				}
+			}
+			int fieldCount = varint(buffer);
+			for (int i = 0; i < fieldCount; i++) {
+				String fieldName = string(buffer, pool);
+				String fieldSignature = string(buffer, pool);
+				String fieldGenericSignature = string(buffer, pool);
+				int fieldModifiers = varint(buffer);
+				type.addField(fieldName, fieldSignature, fieldGenericSignature, fieldModifiers, value(buffer, pool));
+			}
+			int methodCount = varint(buffer);
+			for (int i = 0; i < methodCount; i++) {
+				String methodName = string(buffer, pool);
+				String methodSignature = string(buffer, pool);
+				String methodGenericSignature = string(buffer, pool);
+				int methodModifiers = varint(buffer);
+				ApiMethod method = type.addMethod(methodName, methodSignature, methodGenericSignature, methodModifiers, strings(buffer, pool));
+				method.setDefaultValue(string(buffer, pool));
+			}
+			return type;
+		} catch (RuntimeException e) {
+			// a broken structure is built again from the class file
+			return null;
+		}
+	}
+
+	private static Object value(ByteBuffer buffer, List<String> pool) {
+		return switch (buffer.get()) {
+			case VALUE_NONE -> null;
+			case VALUE_INTEGER -> Integer.valueOf(buffer.getInt());
+			case VALUE_LONG -> Long.valueOf(buffer.getLong());
+			case VALUE_FLOAT -> Float.valueOf(Float.intBitsToFloat(buffer.getInt()));
+			case VALUE_DOUBLE -> Double.valueOf(Double.longBitsToDouble(buffer.getLong()));
+			case VALUE_STRING -> string(buffer, pool);
+			default -> throw new IllegalArgumentException("Unknown constant value kind"); //$NON-NLS-1$
+		};
+	}
+
+	private static String[] strings(ByteBuffer buffer, List<String> pool) {
+		int length = varint(buffer);
+		if (length == 0) {
+			return null;
+		}
+		String[] values = new String[length - 1];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = string(buffer, pool);
+		}
+		return values;
+	}
+
+	private static String string(ByteBuffer buffer, List<String> pool) {
+		int index = varint(buffer);
+		if (index == 0) {
+			return null;
+		}
+		if (index > 1) {
+			return pool.get(index - 2);
+		}
+		String value = readString(buffer);
+		pool.add(value);
+		return value;
+	}
+
+	private static int varint(ByteBuffer buffer) {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			byte b = buffer.get();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Malformed varint"); //$NON-NLS-1$
+	}
+
+	/*
+	 * Strings of the file header and the entry table, the length followed by
+	 * the UTF-8 bytes
+	 */
+	private static String readString(ByteBuffer buffer) {
+		int length = varint(buffer);
+		if (length < 0 || length > buffer.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarint(out, bytes.length);
+		out.write(bytes);
+	}
+
+	private static void writeVarint(DataOutputStream out, int value) throws IOException {
+		int v = value;
+		while ((v & ~0x7F) != 0) {
+			out.writeByte((v & 0x7F) | 0x80);
+			v >>>= 7;
+		}
+		out.writeByte(v);
+	}
+}
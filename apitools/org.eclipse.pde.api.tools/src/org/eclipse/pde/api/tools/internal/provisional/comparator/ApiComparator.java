@@ -13,12 +13,19 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.pde.api.tools.internal.builder.AbstractProblemDetector;
@@ -52,6 +59,13 @@ public class ApiComparator {
 	 */
 	public static final IDelta NO_DELTA = new Delta();
 
+	/**
+	 * System property to compare the components of two baselines concurrently
+	 * by default, see
+	 * {@link #compare(IApiBaseline, IApiBaseline, int, boolean, boolean, IProgressMonitor)}
+	 */
+	public static final boolean PARALLEL_COMPARISON = Boolean.getBoolean("org.eclipse.pde.api.tools.parallelComparison"); //$NON-NLS-1$
+
 	/**
 	 * Returns a delta for a API component version change
 	 */
@@ -99,6 +113,30 @@ public class ApiComparator {
 	 * @throws IllegalArgumentException if one of the two baselines is null
 	 */
 	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		return compare(referenceBaseline, baseline, visibilityModifiers, force, PARALLEL_COMPARISON, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the difference between the given
+	 * baseline and the reference.
+	 *
+	 * @param referenceBaseline the given API baseline which is used as the
+	 *            reference
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param parallel whether the API components are compared concurrently,
+	 *            the resulting delta is the same as for a sequential comparison
+	 * @param monitor
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 * @since 1.3.300
+	 */
+	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean parallel, final IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		if (referenceBaseline == null || baseline == null) {
 			throw new IllegalArgumentException("None of the baselines must be null"); //$NON-NLS-1$
@@ -108,41 +146,17 @@ public class ApiComparator {
 		Set<String> apiComponentsIds = new HashSet<>();
 		final Delta globalDelta = new Delta();
 		SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents.length);
-		for (IApiComponent apiComponentMainLoop : apiComponents) {
-			apiLoopMonitor.split(1);
-			IApiComponent apiComponent = apiComponentMainLoop;
-			if (!apiComponent.isSystemComponent()) {
-				String id = apiComponent.getSymbolicName();
-				IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
-				IDelta delta = null;
-				if (apiComponentBaseline == null) {
-					// report removal of an API component
-					delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
-							null, id, id);
-				} else {
-					apiComponentsIds.add(id);
-					String versionString = apiComponent.getVersion();
-					String versionString2 = apiComponentBaseline.getVersion();
-					IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
-							versionString, versionString2);
-					if (bundleVersionChangesDelta != null) {
-						globalDelta.add(bundleVersionChangesDelta);
-					}
-					if (!versionString.equals(versionString2) || force) {
-						long time = System.currentTimeMillis();
-						try {
-							delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
-									visibilityModifiers, localmonitor.split(1));
-						} finally {
-							if (ApiPlugin.DEBUG_API_COMPARATOR) {
-								System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-										+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
-							}
-						}
-					}
-				}
-				if (delta != null && delta != NO_DELTA) {
-					globalDelta.add(delta);
+		if (parallel) {
+			for (ComponentComparison comparison : compareConcurrently(apiComponents, referenceBaseline, baseline,
+					visibilityModifiers, force, apiLoopMonitor)) {
+				addComparison(globalDelta, comparison, apiComponentsIds);
+			}
+		} else {
+			for (IApiComponent apiComponent : apiComponents) {
+				apiLoopMonitor.split(1);
+				if (!apiComponent.isSystemComponent()) {
+					addComparison(globalDelta, compareComponent(apiComponent, referenceBaseline, baseline,
+							visibilityModifiers, force, localmonitor.split(1)), apiComponentsIds);
 				}
 			}
 		}
@@ -162,6 +176,117 @@ public class ApiComparator {
 		return globalDelta.isEmpty() ? NO_DELTA : globalDelta;
 	}
 
+	/**
+	 * The result of comparing an API component of the reference baseline with
+	 * the other baseline
+	 *
+	 * @param id the symbolic name of the component
+	 * @param existing whether the other baseline contains the component
+	 * @param versionDelta the delta of the component version or
+	 *            <code>null</code>
+	 * @param delta the delta of the component contents or <code>null</code>
+	 */
+	private static record ComponentComparison(String id, boolean existing, IDelta versionDelta, IDelta delta) {
+	}
+
+	/**
+	 * Compares the given component of the reference baseline with the same
+	 * component of the other baseline.
+	 */
+	private static ComponentComparison compareComponent(IApiComponent apiComponent, IApiBaseline referenceBaseline, IApiBaseline baseline, int visibilityModifiers, boolean force, IProgressMonitor monitor) {
+		String id = apiComponent.getSymbolicName();
+		IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
+		if (apiComponentBaseline == null) {
+			// report removal of an API component
+			return new ComponentComparison(id, false, null,
+					new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT, null, id, id));
+		}
+		String versionString = apiComponent.getVersion();
+		String versionString2 = apiComponentBaseline.getVersion();
+		IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id, versionString,
+				versionString2);
+		IDelta delta = null;
+		if (!versionString.equals(versionString2) || force) {
+			long time = System.currentTimeMillis();
+			try {
+				delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline, visibilityModifiers,
+						monitor);
+			} finally {
+				if (ApiPlugin.DEBUG_API_COMPARATOR) {
+					System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+							+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+				}
+			}
+		}
+		return new ComponentComparison(id, true, bundleVersionChangesDelta, delta);
+	}
+
+	private static void addComparison(Delta globalDelta, ComponentComparison comparison, Set<String> apiComponentsIds) {
+		if (comparison.existing()) {
+			apiComponentsIds.add(comparison.id());
+		}
+		if (comparison.versionDelta() != null) {
+			globalDelta.add(comparison.versionDelta());
+		}
+		if (comparison.delta() != null && comparison.delta() != NO_DELTA) {
+			globalDelta.add(comparison.delta());
+		}
+	}
+
+	/**
+	 * Compares the non-system components of the reference baseline on a pool
+	 * of threads.
+	 *
+	 * @return the comparisons in the order of the given components, so merging
+	 *         them gives the same delta as a sequential comparison
+	 */
+	private static List<ComponentComparison> compareConcurrently(IApiComponent[] apiComponents, IApiBaseline referenceBaseline, IApiBaseline baseline, int visibilityModifiers, boolean force, SubMonitor monitor) {
+		int threads = Math.min(Runtime.getRuntime().availableProcessors(), Math.max(1, apiComponents.length));
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "API comparator"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<ComponentComparison>> futures = new ArrayList<>(apiComponents.length);
+			for (IApiComponent apiComponent : apiComponents) {
+				if (apiComponent.isSystemComponent()) {
+					futures.add(null);
+				} else {
+					futures.add(executor.submit(() -> {
+						if (monitor.isCanceled()) {
+							throw new OperationCanceledException();
+						}
+						return compareComponent(apiComponent, referenceBaseline, baseline, visibilityModifiers, force,
+								null);
+					}));
+				}
+			}
+			List<ComponentComparison> comparisons = new ArrayList<>(futures.size());
+			for (Future<ComponentComparison> future : futures) {
+				// progress is reported in component order
+				monitor.split(1);
+				if (future != null) {
+					comparisons.add(future.get());
+				}
+			}
+			return comparisons;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 	/**
 	 * Returns a delta that corresponds to the difference between the given
 	 * component and the reference baseline.
@@ -259,11 +259,15 @@ public final class ApiSearchEngine {
 					loopstart = System.currentTimeMillis();
 					System.out.println("Searching " + scopeelements[i].getApiComponent().getSymbolicName() + "..."); //$NON-NLS-1$ //$NON-NLS-2$
 				}
-				searchReferences(requestor, scopeelements[i], reporter, localmonitor.split(1));
-				localmonitor.setTaskName(taskname);
-				if (localmonitor.isCanceled()) {
-					reporter.reportResults(scopeelements[i], NO_REFERENCES);
-					return;
+				try {
+					searchReferences(requestor, scopeelements[i], reporter, localmonitor.split(1));
+					localmonitor.setTaskName(taskname);
+					if (localmonitor.isCanceled()) {
+						reporter.reportResults(scopeelements[i], NO_REFERENCES);
+						return;
+					}
+				} finally {
+					reporter.endReportResults(scopeelements[i]);
 				}
 				localmonitor.worked(1);
 				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
@@ -33,6 +33,18 @@ public interface IApiSearchReporter {
 	 */
 	public void reportResults(IApiElement element, final IReference[] references);
 
+	/**
+	 * Notifies the reporter that all results of the given element have been
+	 * reported, allowing reporters to buffer the results of an element and to
+	 * write them out at once. Does nothing by default.
+	 *
+	 * @param element the element that was searched
+	 * @since 1.3.300
+	 */
+	public default void endReportResults(IApiElement element) {
+		// nothing to do by default
+	}
+
 	/**
 	 * Reports the current listing of objects that were not searched for whatever
 	 * reason.
@@ -18,10 +18,18 @@ import java.io.FileFilter;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -36,6 +44,7 @@ import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescrip
 import org.eclipse.pde.api.tools.internal.util.Util;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
 import org.xml.sax.helpers.DefaultHandler;
 
 /**
@@ -55,32 +64,7 @@ public class UseScanParser {
 	private boolean visitMembers = true;
 	private boolean visitReferences = true;
 
-	/**
-	 * Handler to resolve a reference
-	 */
-	class ReferenceHandler extends DefaultHandler {
-
-		// type of file being analyzed - type reference, method reference, field
-		// reference
-		private int type = 0;
-
-		/**
-		 * Constructor
-		 *
-		 * @param type one of IReference.T_TYPE_REFERENCE,
-		 *            IReference.T_METHOD_REFERENCE,
-		 *            IReference.T_FIELD_REFERENCE
-		 */
-		public ReferenceHandler(int type) {
-			this.type = type;
-		}
-
-		@Override
-		public void startElement(String uri, String localName, String name, Attributes attributes) throws SAXException {
-			processElement(uri, localName, name, attributes, type);
-		}
-
-	}
+	private int fParallelism = Runtime.getRuntime().availableProcessors();
 
 	protected String[] getIdVersion(String value) {
 		int index = value.indexOf(' ');
@@ -232,70 +216,205 @@ public class UseScanParser {
 		}
 		SubMonitor localmonitor = SubMonitor.convert(monitor, SearchMessages.UseScanParser_parsing, 8);
 		localmonitor.subTask(SearchMessages.UseReportConverter_collecting_dir_info);
-		File[] referees = getDirectories(reportsRoot);
+		List<RefereeFiles> referees = listScan(reportsRoot);
 		localmonitor.split(1);
-		File[] origins = null;
-		File[] xmlfiles = null;
-		localmonitor.setWorkRemaining(referees.length);
+		localmonitor.setWorkRemaining(referees.size());
 		visitor.visitScan();
-		try {
-			@SuppressWarnings("restriction")
-			SAXParser parser = org.eclipse.core.internal.runtime.XmlProcessorFactory
-					.createSAXParserWithErrorOnDOCTYPE();
+		List<File> allFiles = new ArrayList<>();
+		for (RefereeFiles referee : referees) {
+			for (OriginFiles origin : referee.origins()) {
+				Collections.addAll(allFiles, origin.xmlfiles());
+			}
+		}
+		try (XmlFileReader reader = new XmlFileReader(allFiles, fParallelism)) {
 			// Treat each top level directory as a producer component
-			for (File referee : referees) {
-				if (referee.isDirectory()) {
-					String[] idv = getIdVersion(referee.getName());
-					IComponentDescriptor tcomp = Factory.componentDescriptor(idv[0], idv[1]);
-					enterTargetComponent(tcomp);
-					if (visitReferencingComponent) {
-
-						// If the visitor returned true, treat sub-directories
-						// as consumer components
-						origins = getDirectories(referee);
-						origins = sort(origins); // sort to visit in determined
-													// order
-						for (File origin : origins) {
-							if (origin.isDirectory()) {
-								idv = getIdVersion(origin.getName());
-								IComponentDescriptor rcomp = Factory.componentDescriptor(idv[0], idv[1]);
-								enterReferencingComponent(rcomp);
-								if (visitMembers) {
-
-									// If the visitor returned true, open all
-									// xml files in the directory and process
-									// them to find members
-									localmonitor.subTask(NLS.bind(SearchMessages.UseScanParser_analyzing_references, new String[] { origin.getName() }));
-									xmlfiles = Util.getAllFiles(origin, pathname -> pathname.isDirectory() || pathname.getName().endsWith(".xml")); //$NON-NLS-1$
-									if (xmlfiles != null && xmlfiles.length > 0) {
-										xmlfiles = sort(xmlfiles); // sort to
-																	// visit in
-																	// determined
-																	// order
-										for (File xmlfile : xmlfiles) {
-											ReferenceHandler handler = new ReferenceHandler(getTypeFromFileName(xmlfile));
-											try (InputStream inputFile = new FileInputStream(xmlfile.getAbsoluteFile());) {
-												parser.parse(inputFile, handler);
-											} catch (SAXException | IOException e) {
-												ApiPlugin.log(e);
-											}
-										}
-									}
-									endMember();
+			for (RefereeFiles referee : referees) {
+				String[] idv = getIdVersion(referee.referee().getName());
+				IComponentDescriptor tcomp = Factory.componentDescriptor(idv[0], idv[1]);
+				enterTargetComponent(tcomp);
+				if (visitReferencingComponent) {
+					// If the visitor returned true, treat sub-directories
+					// as consumer components
+					for (OriginFiles origin : referee.origins()) {
+						idv = getIdVersion(origin.origin().getName());
+						IComponentDescriptor rcomp = Factory.componentDescriptor(idv[0], idv[1]);
+						enterReferencingComponent(rcomp);
+						if (visitMembers) {
+							// If the visitor returned true, process all xml
+							// files in the directory to find members
+							localmonitor.subTask(NLS.bind(SearchMessages.UseScanParser_analyzing_references, new String[] { origin.origin().getName() }));
+							for (File xmlfile : origin.xmlfiles()) {
+								ParsedFile parsed = reader.read(xmlfile);
+								int type = getTypeFromFileName(xmlfile);
+								for (ParsedElement element : parsed.elements()) {
+									processElement(element.uri(), element.localName(), element.name(), element.attributes(), type);
+								}
+								if (parsed.error() != null) {
+									ApiPlugin.log(parsed.error());
 								}
-								endReferencingComponent();
 							}
+							endMember();
 						}
+						endReferencingComponent();
 					}
-					localmonitor.split(1);
-					endComponent();
 				}
+				localmonitor.split(1);
+				endComponent();
 			}
 		} finally {
 			visitor.endVisitScan();
 		}
 	}
 
+	/**
+	 * Sets the number of threads used to parse the XML files of a scan. The
+	 * files are parsed ahead of the visit, the visitor is still called from the
+	 * calling thread in the sorted order of the files.
+	 *
+	 * @param threads number of parsing threads, <code>1</code> parses the files
+	 *            while they are visited
+	 */
+	public void setParallelism(int threads) {
+		fParallelism = Math.max(1, threads);
+	}
+
+	/**
+	 * Lists the referee and origin directories and the XML files of a scan in
+	 * the order they are visited in.
+	 */
+	private List<RefereeFiles> listScan(File reportsRoot) {
+		File[] referees = getDirectories(reportsRoot);
+		List<RefereeFiles> result = new ArrayList<>(referees.length);
+		for (File referee : referees) {
+			// sort to visit in determined order
+			File[] origins = sort(getDirectories(referee));
+			List<OriginFiles> originFiles = new ArrayList<>(origins.length);
+			for (File origin : origins) {
+				File[] xmlfiles = Util.getAllFiles(origin, pathname -> pathname.isDirectory() || pathname.getName().endsWith(".xml")); //$NON-NLS-1$
+				originFiles.add(new OriginFiles(origin, xmlfiles == null ? new File[0] : sort(xmlfiles)));
+			}
+			result.add(new RefereeFiles(referee, originFiles));
+		}
+		return result;
+	}
+
+	private static record RefereeFiles(File referee, List<OriginFiles> origins) {
+	}
+
+	private static record OriginFiles(File origin, File[] xmlfiles) {
+	}
+
+	/**
+	 * The elements of a parsed XML file in document order, and the error that
+	 * stopped parsing the file or <code>null</code>
+	 */
+	private static record ParsedFile(List<ParsedElement> elements, Exception error) {
+	}
+
+	private static record ParsedElement(String uri, String localName, String name, Attributes attributes) {
+	}
+
+	/**
+	 * Parses the XML files of a scan on a bounded number of threads, ahead of
+	 * the files being read in scan order. Files that are not read, because
+	 * the visitor is not interested in them, are skipped.
+	 */
+	private static final class XmlFileReader implements AutoCloseable {
+
+		private static record PendingFile(File file, Future<ParsedFile> result) {
+		}
+
+		private final Iterator<File> fFiles;
+		private final Deque<PendingFile> fPending = new ArrayDeque<>();
+		private final ExecutorService fExecutor;
+		private final int fWindow;
+		private final ThreadLocal<SAXParser> fParsers = new ThreadLocal<>();
+
+		XmlFileReader(List<File> files, int threads) {
+			fFiles = files.iterator();
+			if (threads > 1) {
+				fExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+					Thread thread = new Thread(runnable, "API use scan parser"); //$NON-NLS-1$
+					thread.setDaemon(true);
+					return thread;
+				});
+				// bounds the memory held by parsed but not yet visited files
+				fWindow = threads * 4;
+			} else {
+				fExecutor = null;
+				fWindow = 0;
+			}
+		}
+
+		/**
+		 * Returns the parsed content of the given file, which must be one of
+		 * the scan files following the last file read.
+		 */
+		ParsedFile read(File file) throws InterruptedException {
+			if (fExecutor != null) {
+				fill();
+				while (!fPending.isEmpty()) {
+					PendingFile pending = fPending.poll();
+					fill();
+					if (pending.file().equals(file)) {
+						try {
+							return pending.result().get();
+						} catch (ExecutionException e) {
+							return new ParsedFile(List.of(), e.getCause() instanceof Exception cause ? cause : e);
+						}
+					}
+					// skipped by the visitor
+					pending.result().cancel(false);
+				}
+			}
+			return parse(file);
+		}
+
+		private void fill() {
+			while (fPending.size() < fWindow && fFiles.hasNext()) {
+				File next = fFiles.next();
+				fPending.add(new PendingFile(next, fExecutor.submit(() -> parse(next))));
+			}
+		}
+
+		private ParsedFile parse(File file) {
+			List<ParsedElement> elements = new ArrayList<>();
+			DefaultHandler handler = new DefaultHandler() {
+				@Override
+				public void startElement(String uri, String localName, String name, Attributes attributes) {
+					// the attributes object is reused by the parser
+					elements.add(new ParsedElement(uri, localName, name, new AttributesImpl(attributes)));
+				}
+			};
+			try (InputStream inputFile = new FileInputStream(file.getAbsoluteFile())) {
+				getParser().parse(inputFile, handler);
+			} catch (SAXException | IOException | ParserConfigurationException e) {
+				return new ParsedFile(elements, e);
+			}
+			return new ParsedFile(elements, null);
+		}
+
+		private SAXParser getParser() throws ParserConfigurationException, SAXException {
+			SAXParser parser = fParsers.get();
+			if (parser == null) {
+				@SuppressWarnings("restriction")
+				SAXParser newParser = org.eclipse.core.internal.runtime.XmlProcessorFactory
+						.createSAXParserWithErrorOnDOCTYPE();
+				parser = newParser;
+				fParsers.set(parser);
+			}
+			return parser;
+		}
+
+		@Override
+		public void close() {
+			fParsers.remove();
+			if (fExecutor != null) {
+				fExecutor.shutdownNow();
+			}
+		}
+	}
+
 	/**
 	 * @return the referencingComponent or <code>null</code>
 	 */
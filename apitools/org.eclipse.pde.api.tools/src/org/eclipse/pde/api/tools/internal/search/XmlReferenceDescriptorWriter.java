@@ -19,10 +19,14 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -30,6 +34,9 @@ import java.util.Set;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.FactoryConfigurationError;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.IApiXmlConstants;
@@ -97,13 +104,37 @@ public class XmlReferenceDescriptorWriter {
 	 * Writes the given references to XML files.
 	 */
 	public void writeReferences(IReferenceDescriptor[] references) {
+		addReferences(references);
+		flush();
+	}
+
+	/**
+	 * Buffers the given references until the next {@link #flush()}, so that
+	 * references reported in several batches are written to their XML files at
+	 * once.
+	 *
+	 * @param references the references to add
+	 */
+	public void addReferences(IReferenceDescriptor[] references) {
 		if (fLocation != null) {
+			try {
+				collateResults(references);
+			} catch (CoreException e) {
+				ApiPlugin.log(e);
+			}
+		}
+	}
+
+	/**
+	 * Writes all buffered references to XML files.
+	 */
+	public void flush() {
+		if (fLocation != null && fReferenceMap != null) {
 			try {
 				File parent = new File(fLocation);
 				if (!parent.exists()) {
 					parent.mkdirs();
 				}
-				collateResults(references);
 				writeXML(parent);
 			} catch (Exception e) {
 				ApiPlugin.log(e);
@@ -199,7 +230,7 @@ public class XmlReferenceDescriptorWriter {
 	 * Writes out the XML for the given api element using the collated
 	 * {@link IReference}s
 	 */
-	private void writeXML(File parent) throws CoreException, IOException {
+	private void writeXML(File parent) throws CoreException, IOException, XMLStreamException {
 		for (var entry : fReferenceMap.entrySet()) {
 			String referee = entry.getKey();
 			File base = new File(parent, referee);
@@ -236,6 +267,117 @@ public class XmlReferenceDescriptorWriter {
 	 * @param referee the name of the bundle that is referenced
 	 */
 	private void writeGroup(String origin, String referee, File parent, String name,
+			Map<String, Set<IReferenceDescriptor>> map, int visibility)
+			throws CoreException, IOException, XMLStreamException {
+		if (!parent.exists()) {
+			return;
+		}
+		File out = new File(parent, name + ".xml"); //$NON-NLS-1$
+		if (out.exists()) {
+			// references of an earlier run have to be merged
+			mergeGroup(origin, referee, parent, name, map, visibility);
+			return;
+		}
+		int count = 0;
+		for (Set<IReferenceDescriptor> refs : map.values()) {
+			count += refs.size();
+		}
+		try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(out), StandardCharsets.UTF_8))) {
+			XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+			xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0"); //$NON-NLS-1$
+			xml.writeStartElement(IApiXmlConstants.REFERENCES);
+			xml.writeAttribute(IApiXmlConstants.ATTR_REFERENCE_COUNT, Integer.toString(count));
+			xml.writeAttribute(IApiXmlConstants.ATTR_REFERENCE_VISIBILITY, Integer.toString(visibility));
+			xml.writeAttribute(IApiXmlConstants.ATTR_ORIGIN, origin);
+			xml.writeAttribute(IApiXmlConstants.ATTR_REFEREE, referee);
+			xml.writeAttribute(IApiXmlConstants.ATTR_NAME, getFormattedTypeName(name));
+			if (alternate != null) {
+				xml.writeAttribute(IApiXmlConstants.ATTR_ALTERNATE, getId(alternate));
+			}
+			for (Entry<String, Set<IReferenceDescriptor>> entry : map.entrySet()) {
+				Set<IReferenceDescriptor> refs = entry.getValue();
+				xml.writeStartElement(IApiXmlConstants.ELEMENT_TARGET);
+				xml.writeAttribute(IApiXmlConstants.ATTR_NAME, entry.getKey());
+				// all references of a target share the referenced member
+				Map<Integer, List<IReferenceDescriptor>> kinds = new LinkedHashMap<>();
+				IMemberDescriptor resolved = null;
+				for (IReferenceDescriptor ref : refs) {
+					kinds.computeIfAbsent(Integer.valueOf(ref.getReferenceKind()), k -> new ArrayList<>()).add(ref);
+					resolved = ref.getReferencedMember();
+				}
+				if (resolved != null) {
+					writeMemberDetails(xml, resolved);
+				}
+				for (Entry<Integer, List<IReferenceDescriptor>> kind : kinds.entrySet()) {
+					List<IReferenceDescriptor> kindRefs = kind.getValue();
+					xml.writeStartElement(IApiXmlConstants.REFERENCE_KIND);
+					xml.writeAttribute(IApiXmlConstants.ATTR_REFERENCE_KIND_NAME, Reference.getReferenceText(kind.getKey().intValue()));
+					xml.writeAttribute(IApiXmlConstants.ATTR_KIND, kind.getKey().toString());
+					xml.writeAttribute(IApiXmlConstants.ATTR_FLAGS, Integer.toString(kindRefs.get(0).getReferenceFlags()));
+					for (IReferenceDescriptor ref : kindRefs) {
+						writeReference(xml, ref);
+					}
+					xml.writeEndElement();
+				}
+				xml.writeEndElement();
+			}
+			xml.writeEndElement();
+			xml.writeEndDocument();
+			xml.close();
+		}
+	}
+
+	/**
+	 * Writes the attributes from the given {@link IReference} as a new
+	 * reference element.
+	 */
+	private void writeReference(XMLStreamWriter xml, IReferenceDescriptor reference) throws CoreException, XMLStreamException {
+		if (reference.getReferencedMember() == null) {
+			return;
+		}
+		IMemberDescriptor member = reference.getMember();
+		xml.writeEmptyElement(IApiXmlConstants.ATTR_REFERENCE);
+		xml.writeAttribute(IApiXmlConstants.ATTR_ORIGIN, getText(member));
+		String[] messages = reference.getProblemMessages();
+		if (messages != null) {
+			xml.writeAttribute(IApiXmlConstants.ELEMENT_PROBLEM_MESSAGE_ARGUMENTS, getText(messages));
+		}
+		// add detailed information about origin
+		writeMemberDetails(xml, member);
+		xml.writeAttribute(IApiXmlConstants.ATTR_LINE_NUMBER, Integer.toString(reference.getLineNumber()));
+	}
+
+	/**
+	 * Writes the member descriptor details as attributes of the current
+	 * element.
+	 *
+	 * @param xml XML writer
+	 * @param member member to add details for
+	 */
+	private void writeMemberDetails(XMLStreamWriter xml, IMemberDescriptor member) throws XMLStreamException {
+		switch (member.getElementType()) {
+			case IElementDescriptor.TYPE -> xml.writeAttribute(IApiXmlConstants.ATTR_TYPE,
+					((IReferenceTypeDescriptor) member).getQualifiedName());
+			case IElementDescriptor.FIELD -> {
+				xml.writeAttribute(IApiXmlConstants.ATTR_TYPE, member.getEnclosingType().getQualifiedName());
+				xml.writeAttribute(IApiXmlConstants.ATTR_MEMBER_NAME, member.getName());
+			}
+			case IElementDescriptor.METHOD -> {
+				xml.writeAttribute(IApiXmlConstants.ATTR_TYPE, member.getEnclosingType().getQualifiedName());
+				xml.writeAttribute(IApiXmlConstants.ATTR_MEMBER_NAME, member.getName());
+				xml.writeAttribute(IApiXmlConstants.ATTR_SIGNATURE, ((IMethodDescriptor) member).getSignature());
+			}
+			default -> { /**/ }
+		}
+	}
+
+	/**
+	 * Merges a group of references into the existing XML file of the group
+	 *
+	 * @param origin the name of the bundle that has the references in it
+	 * @param referee the name of the bundle that is referenced
+	 */
+	private void mergeGroup(String origin, String referee, File parent, String name,
 			Map<String, Set<IReferenceDescriptor>> map, int visibility)
 			throws CoreException, IOException {
 		if (parent.exists()) {
@@ -57,6 +57,13 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	private int illegalCount = 0;
 	private int internalCount = 0;
 
+	/**
+	 * Writer buffering the references of {@link #fWriterElement} until all of
+	 * its results have been reported, or <code>null</code>
+	 */
+	private XmlReferenceDescriptorWriter fWriter = null;
+	private IApiElement fWriterElement = null;
+
 	/**
 	 * Constructor
 	 *
@@ -86,7 +93,13 @@ public class XmlSearchReporter implements IApiSearchReporter {
 		// Use a hashset for counting to remove any duplicate references that
 		// the writer would remove
 		HashSet<IReferenceDescriptor> writtenReferences = new HashSet<>();
-		XmlReferenceDescriptorWriter writer = new XmlReferenceDescriptorWriter(fLocation);
+		if (fWriter != null && !element.equals(fWriterElement)) {
+			flushWriter();
+		}
+		if (fWriter == null) {
+			fWriter = new XmlReferenceDescriptorWriter(fLocation);
+			fWriterElement = element;
+		}
 		List<IReferenceDescriptor> descriptors = new ArrayList<>(references.length + 1);
 		for (IReference referenceInterface : references) {
 			Reference reference = (Reference) referenceInterface;
@@ -114,7 +127,24 @@ public class XmlSearchReporter implements IApiSearchReporter {
 			}
 		}
 
-		writer.writeReferences(descriptors.toArray(new IReferenceDescriptor[descriptors.size()]));
+		fWriter.addReferences(descriptors.toArray(new IReferenceDescriptor[descriptors.size()]));
+	}
+
+	@Override
+	public void endReportResults(IApiElement element) {
+		flushWriter();
+	}
+
+	/**
+	 * Writes the buffered references of the current element, each XML file is
+	 * written once per element instead of once per reported batch.
+	 */
+	private void flushWriter() {
+		if (fWriter != null) {
+			fWriter.flush();
+			fWriter = null;
+			fWriterElement = null;
+		}
 	}
 
 	/**
@@ -196,6 +226,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 
 	@Override
 	public void reportCounts() {
+		flushWriter();
 		if (this.debug) {
 			System.out.println("Writing file for counting total references..."); //$NON-NLS-1$
 		}
@@ -52,6 +52,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -285,6 +286,12 @@ public final class Util {
 	public static final String ISO_8859_1 = "ISO-8859-1"; //$NON-NLS-1$
 	public static final String REGULAR_EXPRESSION_START = "R:"; //$NON-NLS-1$
 
+	/**
+	 * Time in milliseconds after which an unused file of a persistent cache is
+	 * deleted
+	 */
+	public static final long UNUSED_CACHE_FILE_AGE = TimeUnit.DAYS.toMillis(30);
+
 	// Trace for delete operation
 	/*
 	 * Maximum time wasted repeating delete operations while running JDT/Core
@@ -2087,6 +2094,42 @@ public final class Util {
 		}
 	}
 
+	/**
+	 * Deletes the files of a persistent cache folder that were not used for
+	 * {@link #UNUSED_CACHE_FILE_AGE}, like the ones of archives that are no
+	 * longer part of any baseline or target. The caches mark their files as
+	 * used with {@link #markCacheFileUsed(File)}.
+	 *
+	 * @param folder the cache folder
+	 */
+	public static void deleteUnusedCacheFiles(File folder) {
+		File[] files = folder.listFiles();
+		if (files == null) {
+			return;
+		}
+		long oldest = System.currentTimeMillis() - UNUSED_CACHE_FILE_AGE;
+		for (File file : files) {
+			long lastModified = file.lastModified();
+			if (lastModified != 0 && lastModified < oldest) {
+				file.delete();
+			}
+		}
+	}
+
+	/**
+	 * Marks a file of a persistent cache as used by updating its modification
+	 * time, at most once a day.
+	 *
+	 * @param file the cache file
+	 * @see #deleteUnusedCacheFiles(File)
+	 */
+	public static void markCacheFileUsed(File file) {
+		long now = System.currentTimeMillis();
+		if (file.lastModified() < now - TimeUnit.DAYS.toMillis(1)) {
+			file.setLastModified(now);
+		}
+	}
+
 	/**
 	 * Wait until the file is _really_ deleted on file system.
 	 *
@@ -29,6 +29,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.tools.ant.BuildException;
 import org.eclipse.core.runtime.CoreException;
@@ -167,6 +171,12 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 	 */
 	private boolean processUnresolvedBundles = true;
 
+	/**
+	 * Number of components analyzed concurrently, <code>0</code> for the
+	 * number of available processors. Set to <code>1</code> by default.
+	 */
+	private int threads = 1;
+
 	private Summary[] createAllSummaries(Map<String, IApiProblem[]> allProblems) {
 		Set<Map.Entry<String, IApiProblem[]>> entrySet = allProblems.entrySet();
 		int size = entrySet.size();
@@ -375,6 +385,7 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 			IApiComponent[] apiComponents = currentBaseline.getApiComponents();
 			int length = apiComponents.length;
 			Set<String> visitedApiComponentNames = new HashSet<>();
+			List<IApiComponent> componentsToAnalyze = new ArrayList<>();
 			for (int i = 0; i < length; i++) {
 				IApiComponent apiComponent = apiComponents[i];
 				String name = apiComponent.getSymbolicName();
@@ -411,23 +422,18 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 				}
 
 				allApiBundles.add(name);
-				BaseApiAnalyzer analyzer = new BaseApiAnalyzer();
-				try {
-					analyzer.setContinueOnResolverError(true);
-					analyzer.analyzeComponent(null, getFilterStore(name), this.properties, referenceBaseline, apiComponent, new BuildContext(), new NullProgressMonitor());
-					IApiProblem[] problems = analyzer.getProblems();
-					// remove duplicates
-					problems = removeDuplicates(problems);
-					if (problems.length != 0) {
-						allProblems.put(name, problems);
-					} else if (this.debug) {
-						System.out.println(name + " has no problems"); //$NON-NLS-1$
-					}
-				} catch (RuntimeException e) {
-					ApiPlugin.log(e);
-					throw e;
-				} finally {
-					analyzer.dispose();
+				componentsToAnalyze.add(apiComponent);
+			}
+			// problems are collected in component order, whether the
+			// components are analyzed concurrently or not
+			List<IApiProblem[]> componentProblems = analyzeComponents(referenceBaseline, componentsToAnalyze);
+			for (int i = 0; i < componentsToAnalyze.size(); i++) {
+				String name = componentsToAnalyze.get(i).getSymbolicName();
+				IApiProblem[] problems = componentProblems.get(i);
+				if (problems.length != 0) {
+					allProblems.put(name, problems);
+				} else if (this.debug) {
+					System.out.println(name + " has no problems"); //$NON-NLS-1$
 				}
 			}
 			if (debug) {
@@ -505,6 +511,79 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 		}
 	}
 
+	/**
+	 * Analyzes the given components against the reference baseline, using
+	 * {@link #threads} threads.
+	 *
+	 * @param referenceBaseline the baseline to compare against
+	 * @param components the components to analyze
+	 * @return the problems of each component, in the order of the components
+	 */
+	private List<IApiProblem[]> analyzeComponents(IApiBaseline referenceBaseline, List<IApiComponent> components) {
+		int count = this.threads > 0 ? this.threads : Runtime.getRuntime().availableProcessors();
+		List<IApiProblem[]> results = new ArrayList<>(components.size());
+		if (count <= 1 || components.size() <= 1) {
+			for (IApiComponent component : components) {
+				results.add(analyzeComponent(referenceBaseline, component));
+			}
+			return results;
+		}
+		if (this.debug) {
+			System.out.println("Analyzing " + components.size() + " components with " + count + " threads"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(count, components.size()), runnable -> {
+			Thread thread = new Thread(runnable, "API analysis"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<IApiProblem[]>> futures = new ArrayList<>(components.size());
+			for (IApiComponent component : components) {
+				futures.add(executor.submit(() -> analyzeComponent(referenceBaseline, component)));
+			}
+			for (Future<IApiProblem[]> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BuildException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new BuildException(e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Analyzes one component with its own analyzer.
+	 *
+	 * @param referenceBaseline the baseline to compare against
+	 * @param apiComponent the component to analyze
+	 * @return the problems of the component without duplicates
+	 */
+	private IApiProblem[] analyzeComponent(IApiBaseline referenceBaseline, IApiComponent apiComponent) {
+		BaseApiAnalyzer analyzer = new BaseApiAnalyzer();
+		try {
+			analyzer.setContinueOnResolverError(true);
+			analyzer.analyzeComponent(null, getFilterStore(apiComponent.getSymbolicName()), this.properties, referenceBaseline, apiComponent, new BuildContext(), new NullProgressMonitor());
+			IApiProblem[] problems = analyzer.getProblems();
+			// remove duplicates
+			return removeDuplicates(problems);
+		} catch (RuntimeException e) {
+			ApiPlugin.log(e);
+			throw e;
+		} finally {
+			analyzer.dispose();
+		}
+	}
+
 	/**
 	 * Returns <code>true</code> if the given component should be filtered from
 	 * results of this task. This may be because the name is a match or partial
@@ -888,4 +967,20 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 		this.processUnresolvedBundles = processUnresolvedBundles;
 	}
 
+	/**
+	 * Set the number of api components (bundles) that are analyzed
+	 * concurrently. Each component is analyzed by its own analyzer against the
+	 * shared reference baseline, and the report is the same as for an analysis
+	 * of one component after the other.
+	 * <p>
+	 * Default is <code>1</code>, <code>0</code> uses the number of available
+	 * processors.
+	 * </p>
+	 *
+	 * @param threads the number of components analyzed concurrently
+	 */
+	public void setThreads(int threads) {
+		this.threads = threads;
+	}
+
 }
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.osgi.service.resolver.BundleDelta;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+
+/**
+ * Index of the packages exported by the bundles of a {@link State}. An index
+ * is never modified, {@link #update(StateDelta)} returns a new index, so it can
+ * be shared by concurrent readers. It is only valid for the time stamp of the
+ * state it was created or last updated for.
+ *
+ * @see PluginModelManager#getExportedPackageIndex(State)
+ */
+public final class ExportedPackageIndex {
+
+	private final State fState;
+	private final long fTimeStamp;
+
+	/**
+	 * The exports of each package name, in the order the exporting bundles were
+	 * added to the index
+	 */
+	private final Map<String, List<ExportPackageDescription>> fExports;
+
+	/**
+	 * The names of the packages exported by each bundle id
+	 */
+	private final Map<Long, String[]> fBundlePackages;
+
+	private ExportedPackageIndex(State state, Map<String, List<ExportPackageDescription>> exports, Map<Long, String[]> bundlePackages) {
+		fState = state;
+		fTimeStamp = state.getTimeStamp();
+		fExports = exports;
+		fBundlePackages = bundlePackages;
+	}
+
+	/**
+	 * Creates the index of all bundles of the given state.
+	 *
+	 * @param state the state to index
+	 * @return the index
+	 */
+	public static ExportedPackageIndex create(State state) {
+		Map<String, List<ExportPackageDescription>> exports = new HashMap<>();
+		Map<Long, String[]> bundlePackages = new HashMap<>();
+		for (BundleDescription bundle : state.getBundles()) {
+			addBundle(bundle, exports, bundlePackages);
+		}
+		return new ExportedPackageIndex(state, exports, bundlePackages);
+	}
+
+	/**
+	 * Returns whether this index reflects the current contents of the given
+	 * state.
+	 *
+	 * @param state the state
+	 * @return whether the index can be used for the state
+	 */
+	public boolean isValid(State state) {
+		return fState == state && fTimeStamp == state.getTimeStamp();
+	}
+
+	/**
+	 * Returns the export of the given package that an import resolves
+	 * against: the last export of a resolved bundle or, if no exporting bundle
+	 * is resolved, the first export.
+	 *
+	 * @param packageName name of the package
+	 * @return the export or <code>null</code> if no bundle exports the package
+	 */
+	public ExportPackageDescription getExport(String packageName) {
+		List<ExportPackageDescription> exports = fExports.get(packageName);
+		if (exports == null) {
+			return null;
+		}
+		ExportPackageDescription result = exports.get(0);
+		for (ExportPackageDescription export : exports) {
+			if (export.getSupplier().isResolved()) {
+				result = export;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns an index that additionally reflects the bundles added, removed
+	 * or updated by the given delta. Only the packages of those bundles are
+	 * re-indexed.
+	 *
+	 * @param delta the delta of a resolution of the indexed state
+	 * @return the updated index or <code>null</code> if the delta is not of the
+	 *         indexed state
+	 */
+	public ExportedPackageIndex update(StateDelta delta) {
+		if (delta == null || delta.getState() != fState) {
+			return null;
+		}
+		BundleDelta[] changes = delta.getChanges(BundleDelta.ADDED | BundleDelta.REMOVED | BundleDelta.UPDATED, false);
+		if (changes.length == 0) {
+			return new ExportedPackageIndex(fState, fExports, fBundlePackages);
+		}
+		Map<String, List<ExportPackageDescription>> exports = new HashMap<>(fExports);
+		Map<Long, String[]> bundlePackages = new HashMap<>(fBundlePackages);
+		for (BundleDelta change : changes) {
+			BundleDescription bundle = change.getBundle();
+			String[] names = bundlePackages.remove(bundle.getBundleId());
+			if (names != null) {
+				for (String name : names) {
+					List<ExportPackageDescription> remaining = new ArrayList<>(exports.get(name));
+					remaining.removeIf(export -> export.getSupplier().getBundleId() == bundle.getBundleId());
+					if (remaining.isEmpty()) {
+						exports.remove(name);
+					} else {
+						exports.put(name, remaining);
+					}
+				}
+			}
+			if ((change.getType() & BundleDelta.REMOVED) == 0 && fState.getBundle(bundle.getBundleId()) == bundle) {
+				addBundle(bundle, exports, bundlePackages);
+			}
+		}
+		return new ExportedPackageIndex(fState, exports, bundlePackages);
+	}
+
+	private static void addBundle(BundleDescription bundle, Map<String, List<ExportPackageDescription>> exports, Map<Long, String[]> bundlePackages) {
+		ExportPackageDescription[] bundleExports = bundle.getExportPackages();
+		if (bundleExports.length == 0) {
+			return;
+		}
+		String[] names = new String[bundleExports.length];
+		for (int i = 0; i < bundleExports.length; i++) {
+			ExportPackageDescription export = bundleExports[i];
+			names[i] = export.getName();
+			List<ExportPackageDescription> current = exports.getOrDefault(names[i], Collections.emptyList());
+			List<ExportPackageDescription> updated = new ArrayList<>(current.size() + 1);
+			updated.addAll(current);
+			updated.add(export);
+			exports.put(names[i], updated);
+		}
+		bundlePackages.put(bundle.getBundleId(), names);
+	}
+}
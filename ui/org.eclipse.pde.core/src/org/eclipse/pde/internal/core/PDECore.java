@@ -47,6 +47,7 @@ import org.eclipse.pde.internal.core.project.BundleProjectService;
 import org.eclipse.pde.internal.core.schema.SchemaRegistry;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
 import org.eclipse.pde.internal.core.target.TargetPlatformService;
+import org.eclipse.pde.internal.core.util.JavaTypeCache;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.Constants;
 import org.osgi.framework.FrameworkUtil;
@@ -176,6 +177,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	private TracingOptionsManager fTracingOptionsManager;
 	private BundleContext fBundleContext;
 	private JavaElementChangeListener fJavaElementChangeListener;
+	private JavaTypeCache fJavaTypeCache;
 
 	private FeatureRebuilder fFeatureRebuilder;
 
@@ -245,6 +247,14 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		return fJavaElementChangeListener;
 	}
 
+	/**
+	 * @return the cache of Java type lookups or <code>null</code> if the
+	 *         plug-in is not started
+	 */
+	public JavaTypeCache getJavaTypeCache() {
+		return fJavaTypeCache;
+	}
+
 	public synchronized SchemaRegistry getSchemaRegistry() {
 		if (fSchemaRegistry == null) {
 			fSchemaRegistry = new SchemaRegistry();
@@ -312,6 +322,8 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 
 		fJavaElementChangeListener = new JavaElementChangeListener();
 		fJavaElementChangeListener.start();
+		fJavaTypeCache = new JavaTypeCache();
+		fJavaTypeCache.start();
 		fPluginRebuilder = new PluginRebuilder();
 		fPluginRebuilder.start();
 		fFeatureRebuilder = new FeatureRebuilder();
@@ -369,6 +381,8 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		}
 
 		fJavaElementChangeListener.shutdown();
+		fJavaTypeCache.shutdown();
+		fJavaTypeCache = null;
 		fPluginRebuilder.stop();
 		fFeatureRebuilder.stop();
 
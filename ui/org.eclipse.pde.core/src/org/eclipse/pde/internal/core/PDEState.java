@@ -21,7 +21,14 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 
 import org.eclipse.core.filesystem.URIUtil;
@@ -30,6 +37,7 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.service.resolver.BaseDescription;
 import org.eclipse.osgi.service.resolver.BundleDescription;
@@ -45,6 +53,13 @@ import org.osgi.framework.Version;
 
 public class PDEState extends MinimalState {
 
+	/**
+	 * Number of threads reading target manifests. Reading manifests mostly
+	 * waits for the file system, so this does not depend on the number of
+	 * processors.
+	 */
+	private static final int MANIFEST_READER_THREADS = 8;
+
 	private final PDEAuxiliaryState fAuxiliaryState;
 	private final ArrayList<IPluginModelBase> fTargetModels = new ArrayList<>();
 
@@ -60,8 +75,16 @@ public class PDEState extends MinimalState {
 		long start = System.currentTimeMillis();
 		fAuxiliaryState = new PDEAuxiliaryState();
 
-		// We no longer try and restore from a cached state as it had no performance benefit
-		createNewTargetState(addResolver, target, monitor);
+		// We no longer try and restore from a cached state as it had no performance benefit,
+		// only the manifests of unchanged bundles are restored from the manifest cache
+		TargetManifestCache manifestCache = TargetManifestCache.create();
+		manifestCache.load();
+		createNewTargetState(addResolver, target, manifestCache, monitor);
+		manifestCache.save();
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Manifests restored from cache: " + manifestCache.getHits() + ", read: " //$NON-NLS-1$ //$NON-NLS-2$
+					+ manifestCache.getMisses());
+		}
 
 		if (removeDuplicates) {
 			removeDuplicatesFromState(fState);
@@ -76,7 +99,8 @@ public class PDEState extends MinimalState {
 		}
 	}
 
-	private void createNewTargetState(boolean resolve, URI[] uris, IProgressMonitor monitor) {
+	private void createNewTargetState(boolean resolve, URI[] uris, TargetManifestCache manifestCache,
+			IProgressMonitor monitor) {
 		fState = stateObjectFactory.createState(resolve);
 		if (resolve) {
 			final String systemBSN = getSystemBundle();
@@ -86,15 +110,48 @@ public class PDEState extends MinimalState {
 			fState.getResolver().setSelectionPolicy(policy);
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
-				uris.length);
-		for (URI uri : uris) {
-			File file = toFile(uri);
-			if (file == null) {
-				continue;
+				uris.length * 2);
+		// Reading the manifests is I/O bound and independent per bundle, so
+		// it is done concurrently by a pool of its own. The results are
+		// collected in the order of the target URIs, so the descriptions are
+		// added to the state (and get their bundle ids assigned) in a
+		// deterministic order. The monitor is not thread-safe, workers only
+		// check it for cancellation.
+		List<LoadedManifest> manifests = new ArrayList<>(uris.length);
+		int threads = Math.min(uris.length, MANIFEST_READER_THREADS);
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+			Thread thread = new Thread(runnable, "Target manifest reader"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<LoadedManifest>> futures = new ArrayList<>(uris.length);
+			for (URI uri : uris) {
+				futures.add(executor.submit(() -> {
+					if (subMonitor.isCanceled()) {
+						throw new OperationCanceledException();
+					}
+					return loadManifest(uri, manifestCache);
+				}));
+			}
+			for (Future<LoadedManifest> future : futures) {
+				LoadedManifest manifest = waitFor(future, subMonitor);
+				if (manifest != null) {
+					manifests.add(manifest);
+				}
 			}
+		} finally {
+			executor.shutdownNow();
+		}
+		subMonitor.split(uris.length);
+		subMonitor.setWorkRemaining(manifests.size());
+		for (LoadedManifest manifest : manifests) {
 			try {
-				subMonitor.subTask(file.getName());
-				addBundle(file, -1);
+				if (manifest.error() != null) {
+					throw manifest.error();
+				}
+				subMonitor.subTask(manifest.file().getName());
+				addBundle(manifest.file(), -1, manifest.headers());
 			} catch (CoreException e) {
 				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
 					PDECore.log(e);
@@ -104,6 +161,54 @@ public class PDEState extends MinimalState {
 		}
 	}
 
+	/**
+	 * Waits for the given manifest to be loaded, checking the monitor for
+	 * cancellation in the meantime.
+	 */
+	private static LoadedManifest waitFor(Future<LoadedManifest> future, IProgressMonitor monitor) {
+		while (true) {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			try {
+				return future.get(100, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// poll for cancellation
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException runtime) {
+					throw runtime;
+				}
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * The manifest headers of a target bundle or the error that occurred while
+	 * reading them.
+	 */
+	private static record LoadedManifest(File file, Map<String, String> headers, CoreException error) {
+	}
+
+	/**
+	 * @return the loaded manifest or {@code null} if the URI can't be
+	 *         converted to a file
+	 */
+	private static LoadedManifest loadManifest(URI uri, TargetManifestCache manifestCache) {
+		File file = toFile(uri);
+		if (file == null) {
+			return null;
+		}
+		try {
+			return new LoadedManifest(file, manifestCache.getManifest(file), null);
+		} catch (CoreException e) {
+			return new LoadedManifest(file, null, e);
+		}
+	}
+
 	private Comparator<BaseDescription> systemBundlesFirst(String systemBSN) {
 		Function<BaseDescription, Boolean> isSystemBundle = b -> systemBSN.equals(b.getSupplier().getSymbolicName());
 		return Comparator.comparing(isSystemBundle).reversed(); // false<true
@@ -53,6 +53,7 @@ import org.eclipse.osgi.service.resolver.BundleDelta;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.PlatformAdmin;
+import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.pde.core.IModel;
 import org.eclipse.pde.core.IModelProviderEvent;
@@ -201,6 +202,7 @@ public class PluginModelManager implements IModelProviderListener {
 
 	private ArrayList<IPluginModelListener> fListeners; // a list of listeners interested in changes to the plug-in models
 	private ArrayList<IStateDeltaListener> fStateListeners; // a list of listeners interested in changes to the PDE/resolver State
+	private volatile ExportedPackageIndex fExportedPackages; // the packages exported by the bundles of the resolver State
 	private boolean fCancelled = false;
 
 	/**
@@ -302,6 +304,7 @@ public class PluginModelManager implements IModelProviderListener {
 			// trigger a classpath update for all workspace plug-ins affected by the
 			// processed batch of changes, run asynch for manifest changes
 			updateAffectedEntries(stateDelta, (e.getEventTypes() & IModelProviderEvent.MODELS_CHANGED) != 0);
+			updateExportedPackages(stateDelta);
 			fireStateDelta(stateDelta);
 
 		}
@@ -401,6 +404,42 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 	}
 
+	/**
+	 * Re-indexes the packages exported by the bundles changed by the given
+	 * delta, if an index has been created.
+	 *
+	 * @param delta the delta from the resolver State, may be <code>null</code>
+	 */
+	private void updateExportedPackages(StateDelta delta) {
+		ExportedPackageIndex index = fExportedPackages;
+		if (index != null) {
+			fExportedPackages = index.update(delta);
+		}
+	}
+
+	/**
+	 * Returns the index of the packages exported by the bundles of the given
+	 * state. The index of the resolver State is kept and updated incrementally
+	 * as the State changes, so it is shared by all callers until it has to be
+	 * recreated because the State changed without a delta. The returned index
+	 * must not be kept, as it does not reflect later changes.
+	 *
+	 * @param state the state, usually the resolver State of this manager
+	 * @return the index of the exported packages of the state
+	 */
+	public ExportedPackageIndex getExportedPackageIndex(State state) {
+		ExportedPackageIndex index = fExportedPackages;
+		if (index != null && index.isValid(state)) {
+			return index;
+		}
+		index = ExportedPackageIndex.create(state);
+		PDEState pdeState = fState;
+		if (pdeState != null && pdeState.getState() == state) {
+			fExportedPackages = index;
+		}
+		return index;
+	}
+
 	/**
 	 * Notify all interested listeners in changes made to the master table
 	 *
@@ -593,6 +632,7 @@ public class PluginModelManager implements IModelProviderListener {
 			//Workspace target contains unresolved p2 repositories,
 			//set empty fState, fExternalManager, fEntries- scheduling target platform resolve
 			fState = new PDEState(new URI[0], true, true, subMon);
+			fExportedPackages = null;
 			fExternalManager.setModels(new IPluginModelBase[0]);
 			fEntries = entries;
 			LoadTargetDefinitionJob.load(unresolvedRepoBasedtarget);
@@ -613,6 +653,7 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 
 		fState = new PDEState(externalUris, true, true, subMon.split(15));
+		fExportedPackages = null;
 		fExternalManager.setModels(fState.getTargetModels());
 		addToTable(entries, fExternalManager.getAllModels());
 
@@ -0,0 +1,300 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+
+/**
+ * Persistent cache of the bundle manifests of the target platform. Entries are
+ * keyed by the absolute bundle location and validated against the size and the
+ * last modification time of the bundle archive (or of the
+ * <code>META-INF/MANIFEST.MF</code> for directory bundles), so only bundles
+ * that changed since the last workbench session have to be re-read by
+ * {@link ManifestUtils#loadManifest(File)}.
+ * <p>
+ * The auxiliary {@link PDEAuxiliaryState.PluginInfo} data is derived from the
+ * manifest headers and is therefore covered by this cache as well.
+ * </p>
+ * <p>
+ * Entries of bundles that were not part of any target for
+ * {@link #UNUSED_ENTRY_AGE}, or that no longer exist, are dropped when the
+ * cache is saved.
+ * </p>
+ */
+public class TargetManifestCache {
+
+	private static final String CACHE_FILE_NAME = ".targetManifests"; //$NON-NLS-1$
+
+	/**
+	 * Version of the file format, must be incremented whenever the format
+	 * changes. Files of a different version are discarded.
+	 */
+	private static final int FORMAT_VERSION = 2;
+
+	/**
+	 * Time in milliseconds after which entries that were not used are dropped
+	 */
+	public static final long UNUSED_ENTRY_AGE = TimeUnit.DAYS.toMillis(30);
+
+	/**
+	 * Interval in milliseconds in which the last use of an entry is updated
+	 */
+	private static final long LAST_USED_RESOLUTION = TimeUnit.DAYS.toMillis(1);
+
+	private static final class CachedManifest {
+		final long length;
+		final long lastModified;
+		final Map<String, String> headers;
+		volatile long lastUsed;
+
+		CachedManifest(long length, long lastModified, Map<String, String> headers, long lastUsed) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.headers = headers;
+			this.lastUsed = lastUsed;
+		}
+	}
+
+	private final File fCacheFile;
+	private final Map<String, CachedManifest> fEntries = new ConcurrentHashMap<>();
+	private volatile boolean fDirty;
+	private final AtomicInteger fHits = new AtomicInteger();
+	private final AtomicInteger fMisses = new AtomicInteger();
+
+	/**
+	 * Creates a cache that is persisted to the given file. Call {@link #load()}
+	 * to read previously persisted entries.
+	 *
+	 * @param cacheFile the file the cache is persisted to
+	 */
+	public TargetManifestCache(File cacheFile) {
+		fCacheFile = cacheFile;
+	}
+
+	/**
+	 * @return a cache persisted in the state location of the PDE core plug-in
+	 */
+	public static TargetManifestCache create() {
+		return new TargetManifestCache(new File(PDECore.getDefault().getStateLocation().toFile(), CACHE_FILE_NAME));
+	}
+
+	/**
+	 * Returns the manifest headers of the bundle at the given location. If the
+	 * bundle did not change since the manifest was cached the cached headers
+	 * are returned, otherwise the manifest is read through
+	 * {@link ManifestUtils#loadManifest(File)} and stored in this cache.
+	 * <p>
+	 * The returned map is a modifiable copy owned by the caller, with case
+	 * insensitive header names whether it was cached or not.
+	 * </p>
+	 *
+	 * @param bundleLocation root location of the bundle, an archive or a
+	 *            directory
+	 * @return map of bundle manifest headers
+	 * @throws CoreException if the manifest can not be read, see
+	 *             {@link ManifestUtils#loadManifest(File)}
+	 */
+	public Map<String, String> getManifest(File bundleLocation) throws CoreException {
+		String key = bundleLocation.getAbsolutePath();
+		File stampFile = getStampFile(bundleLocation);
+		long length = stampFile.length();
+		long lastModified = stampFile.lastModified();
+		CachedManifest cached = fEntries.get(key);
+		long now = System.currentTimeMillis();
+		if (cached != null && lastModified != 0 && cached.length == length && cached.lastModified == lastModified) {
+			fHits.incrementAndGet();
+			if (cached.lastUsed < now - LAST_USED_RESOLUTION) {
+				cached.lastUsed = now;
+				fDirty = true;
+			}
+			return newHeaders(cached.headers);
+		}
+		fMisses.incrementAndGet();
+		Map<String, String> manifest = newHeaders(ManifestUtils.loadManifest(bundleLocation));
+		if (lastModified != 0) {
+			// store an unmodifiable snapshot, callers may weave the returned map
+			CachedManifest entry = new CachedManifest(length, lastModified, Collections.unmodifiableMap(newHeaders(manifest)), now);
+			fEntries.put(key, entry);
+			fDirty = true;
+		}
+		return manifest;
+	}
+
+	/**
+	 * Returns a modifiable copy of the given headers. Header names are case
+	 * insensitive, like the ones parsed from bundle archives by
+	 * {@link ManifestUtils#loadManifest(File)}.
+	 */
+	private static Map<String, String> newHeaders(Map<String, String> headers) {
+		Map<String, String> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		copy.putAll(headers);
+		return copy;
+	}
+
+	private static File getStampFile(File bundleLocation) {
+		if (bundleLocation.isDirectory()) {
+			return new File(bundleLocation, JarFile.MANIFEST_NAME);
+		}
+		return bundleLocation;
+	}
+
+	/**
+	 * Reads the persisted cache. A missing, corrupt or outdated cache file
+	 * results in an empty cache.
+	 */
+	public void load() {
+		if (!fCacheFile.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(fCacheFile.toPath())))) {
+			read(in);
+		} catch (IOException e) {
+			// a broken cache is simply rebuilt
+			fEntries.clear();
+			if (PDECore.DEBUG_MODEL) {
+				System.out.println("Discarding target manifest cache: " + e.getMessage()); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Persists the cache if manifests were added or used since it was loaded.
+	 * Entries of bundles that no longer exist or that were not used for
+	 * {@link #UNUSED_ENTRY_AGE} are dropped.
+	 */
+	public void save() {
+		if (!fDirty) {
+			return;
+		}
+		long oldest = System.currentTimeMillis() - UNUSED_ENTRY_AGE;
+		fEntries.entrySet().removeIf(entry -> entry.getValue().lastUsed < oldest || !new File(entry.getKey()).exists());
+		File tmp = null;
+		try {
+			// several states may be created and saved concurrently
+			tmp = File.createTempFile(fCacheFile.getName(), ".tmp", fCacheFile.getParentFile()); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+				write(out);
+			}
+			Files.move(tmp.toPath(), fCacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			fDirty = false;
+		} catch (IOException e) {
+			PDECore.log(e);
+			if (tmp != null) {
+				tmp.delete();
+			}
+		}
+	}
+
+	/**
+	 * Deletes the persisted cache file.
+	 */
+	public void delete() {
+		fEntries.clear();
+		fCacheFile.delete();
+	}
+
+	/**
+	 * @return number of manifests served from this cache
+	 */
+	public int getHits() {
+		return fHits.get();
+	}
+
+	/**
+	 * @return number of manifests that had to be read from the bundle
+	 */
+	public int getMisses() {
+		return fMisses.get();
+	}
+
+	void read(InputStream stream) throws IOException {
+		DataInputStream in = stream instanceof DataInputStream data ? data : new DataInputStream(stream);
+		if (in.readInt() != FORMAT_VERSION) {
+			return;
+		}
+		int size = in.readInt();
+		for (int i = 0; i < size; i++) {
+			String location = readString(in);
+			long length = in.readLong();
+			long lastModified = in.readLong();
+			long lastUsed = in.readLong();
+			int headerCount = in.readInt();
+			Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+			for (int j = 0; j < headerCount; j++) {
+				headers.put(readString(in), readString(in));
+			}
+			fEntries.put(location, new CachedManifest(length, lastModified, Collections.unmodifiableMap(headers), lastUsed));
+		}
+	}
+
+	void write(OutputStream stream) throws IOException {
+		DataOutputStream out = stream instanceof DataOutputStream data ? data : new DataOutputStream(stream);
+		out.writeInt(FORMAT_VERSION);
+		out.writeInt(fEntries.size());
+		for (Entry<String, CachedManifest> entry : fEntries.entrySet()) {
+			CachedManifest manifest = entry.getValue();
+			writeString(out, entry.getKey());
+			out.writeLong(manifest.length);
+			out.writeLong(manifest.lastModified);
+			out.writeLong(manifest.lastUsed);
+			out.writeInt(manifest.headers.size());
+			for (Entry<String, String> header : manifest.headers.entrySet()) {
+				writeString(out, header.getKey());
+				writeString(out, header.getValue());
+			}
+		}
+		out.flush();
+	}
+
+	/*
+	 * DataOutput#writeUTF is limited to 64k, which is exceeded by the
+	 * Export-Package header of some bundles
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > in.available()) {
+			throw new IOException("Invalid string length: " + length); //$NON-NLS-1$
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -24,7 +24,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
@@ -62,7 +61,6 @@ import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.ImportPackageSpecification;
 import org.eclipse.osgi.service.resolver.ResolverError;
-import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.service.resolver.StateObjectFactory;
 import org.eclipse.osgi.service.resolver.VersionConstraint;
 import org.eclipse.osgi.util.ManifestElement;
@@ -72,6 +70,7 @@ import org.eclipse.pde.core.plugin.IPluginBase;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.AbstractNLModel;
+import org.eclipse.pde.internal.core.ExportedPackageIndex;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.NLResourceHelper;
 import org.eclipse.pde.internal.core.PDECore;
@@ -1172,7 +1171,7 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 			}
 		}
 
-		HashMap<String, ExportPackageDescription> exported = getAvailableExportedPackages(desc.getContainingState());
+		ExportedPackageIndex exported = PDECore.getDefault().getModelManager().getExportedPackageIndex(desc.getContainingState());
 
 		ImportPackageSpecification[] imports = desc.getImportPackages();
 		if (desc.hasDynamicImports()) {
@@ -1210,7 +1209,7 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 				boolean optional = isOptional(element);
 				int severity = getRequireBundleSeverity(element, optional);
 
-				ExportPackageDescription export = exported.get(name);
+				ExportPackageDescription export = exported.getExport(name);
 				if (export != null) {
 					if (export.getSupplier().isResolved()) {
 						Version version = export.getVersion();
@@ -1241,26 +1240,6 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 		}
 	}
 
-	private HashMap<String, ExportPackageDescription> getAvailableExportedPackages(State state) {
-		BundleDescription[] bundles = state.getBundles();
-
-		HashMap<String, ExportPackageDescription> exported = new HashMap<>();
-		for (BundleDescription bundle : bundles) {
-			ExportPackageDescription[] exports = bundle.getExportPackages();
-			for (ExportPackageDescription export : exports) {
-				String name = export.getName();
-				if (exported.containsKey(name)) {
-					if (export.getSupplier().isResolved()) {
-						exported.put(name, export);
-					}
-				} else {
-					exported.put(name, export);
-				}
-			}
-		}
-		return exported;
-	}
-
 	protected void validateExportPackage(IProgressMonitor monitor) {
 		IHeader header = getHeader(Constants.EXPORT_PACKAGE);
 		if (header == null) {
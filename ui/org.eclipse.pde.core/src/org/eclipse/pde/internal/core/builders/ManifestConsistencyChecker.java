@@ -18,10 +18,25 @@ package org.eclipse.pde.internal.core.builders;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.resources.IBuildConfiguration;
+import org.eclipse.core.resources.ICommand;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IMarker;
@@ -29,10 +44,14 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.MultiRule;
@@ -41,6 +60,7 @@ import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDECoreMessages;
 import org.eclipse.pde.internal.core.WorkspaceModelManager;
+import org.eclipse.pde.internal.core.natures.PDE;
 import org.eclipse.pde.internal.core.project.PDEProject;
 import org.osgi.framework.Bundle;
 
@@ -54,6 +74,12 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 
 	private static IProject[] EMPTY_LIST = new IProject[0];
 
+	/**
+	 * Projects validated by the workspace validation pass of the current full
+	 * build, their builders skip the validation
+	 */
+	private static final Set<IProject> fgValidatedProjects = ConcurrentHashMap.newKeySet();
+
 	private final SelfVisitor fSelfVisitor = new SelfVisitor();
 
 	/*
@@ -187,7 +213,14 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		}
 
 		IProject project = getProject();
+		if (kind == FULL_BUILD && fgValidatedProjects.remove(project)) {
+			// validated by the workspace validation pass of this build
+			return EMPTY_LIST;
+		}
 		if (!WorkspaceModelManager.isBinaryProject(project)) {
+			if (kind == FULL_BUILD && validateRequestedProjects(monitor)) {
+				return EMPTY_LIST;
+			}
 			int type = getDeltaType(project);
 			if (type != 0) {
 				validateProject(type, monitor);
@@ -245,181 +278,339 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 	}
 
 	private void validateProject(int type, IProgressMonitor monitor) {
-		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.ManifestConsistencyChecker_builderTaskName, getWorkAmount(type));
-		if ((type & STRUCTURE) != 0) {
-			validateProjectStructure(type, subMonitor.split(1));
-		}
+		new ProjectValidator(getProject(), type, null).validate(monitor);
+	}
 
-		if ((type & (MANIFEST | EXTENSIONS)) != 0) {
-			IProject project = getProject();
-			IFile file = PDEProject.getPluginXml(project);
-			if (!file.exists()) {
-				file = PDEProject.getFragmentXml(project);
+	/**
+	 * Validates the requested projects of a full build concurrently, if there
+	 * are several of them. The markers of all projects are updated afterwards
+	 * in one workspace operation, and the builders of the other projects skip
+	 * their validation in this build. Projects whose validation failed are
+	 * left to their own builders.
+	 *
+	 * @return whether the project of this builder has been validated
+	 */
+	private boolean validateRequestedProjects(IProgressMonitor monitor) throws CoreException {
+		Set<IProject> projects = new LinkedHashSet<>();
+		for (IBuildConfiguration config : getContext().getRequestedConfigs()) {
+			IProject project = config.getProject();
+			if (PDEBuilderHelper.isPDEProject(project) && hasBuilder(project)
+					&& !WorkspaceModelManager.isBinaryProject(project) && !fgValidatedProjects.contains(project)) {
+				projects.add(project);
 			}
-
-			if (file.exists()) {
-				validateFiles(file, type, monitor);
-			} else if ((type & MANIFEST) != 0) {
-				IFile manifestFile = PDEProject.getManifest(project);
-				if (manifestFile.exists()) {
-					validateManifestFile(manifestFile, subMonitor.split(1));
+		}
+		if (projects.size() < 2 || !projects.contains(getProject())) {
+			return false;
+		}
+		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.ManifestConsistencyChecker_builderTaskName, projects.size() + 1);
+		IProgressMonitor workerMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return subMonitor.isCanceled();
+			}
+		};
+		int threads = Math.min(projects.size(), Math.max(1, Runtime.getRuntime().availableProcessors()));
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "Manifest validation"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		List<Runnable> markerUpdates = new ArrayList<>();
+		Set<IProject> validatedProjects = new LinkedHashSet<>();
+		try {
+			Map<IProject, Future<List<Runnable>>> futures = new LinkedHashMap<>();
+			for (IProject project : projects) {
+				futures.put(project, executor.submit(() -> {
+					List<Runnable> updates = new ArrayList<>();
+					new ProjectValidator(project, MANIFEST | EXTENSIONS | BUILD | STRUCTURE, updates).validate(workerMonitor);
+					return updates;
+				}));
+			}
+			for (Entry<IProject, Future<List<Runnable>>> future : futures.entrySet()) {
+				List<Runnable> updates = waitFor(future.getValue(), subMonitor);
+				if (updates != null) {
+					markerUpdates.addAll(updates);
+					validatedProjects.add(future.getKey());
 				}
+				subMonitor.worked(1);
 			}
+		} finally {
+			executor.shutdownNow();
 		}
-		if ((type & BUILD) != 0) {
-			validateBuildProperties(subMonitor.split(1));
+		IWorkspaceRunnable update = updateMonitor -> markerUpdates.forEach(Runnable::run);
+		getProject().getWorkspace().run(update, MultiRule.combine(projects.toArray(ISchedulingRule[]::new)), IWorkspace.AVOID_UPDATE, subMonitor.split(1));
+		if (PDECore.DEBUG_VALIDATION) {
+			System.out.println("Validated " + validatedProjects.size() + " of " + projects.size() + " projects concurrently"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		}
+		boolean validated = validatedProjects.remove(getProject());
+		fgValidatedProjects.addAll(validatedProjects);
+		return validated;
 	}
 
-	private int getWorkAmount(int type) {
-		int work = 1;
-		if ((type & (MANIFEST | EXTENSIONS)) != 0) {
-			++work;
-		}
-		if ((type & BUILD) != 0) {
-			++work;
+	/**
+	 * @return the marker updates of the validation or <code>null</code> if it
+	 *         failed
+	 */
+	private static List<Runnable> waitFor(Future<List<Runnable>> future, SubMonitor monitor) {
+		while (true) {
+			monitor.checkCanceled();
+			try {
+				return future.get(100, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// poll for cancellation
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof OperationCanceledException canceled) {
+					throw canceled;
+				}
+				// a failure must not prevent the other projects from being
+				// validated
+				PDECore.logException(e.getCause());
+				return null;
+			}
 		}
-		return work;
 	}
 
-	private void validateProjectStructure(int type, IProgressMonitor monitor) {
-		if (monitor.isCanceled()) {
-			return;
-		}
-		// clear markers from project
-		IProject project = getProject();
+	private static boolean hasBuilder(IProject project) {
 		try {
-			project.deleteMarkers(PDEMarkerFactory.MARKER_ID, false, IResource.DEPTH_ZERO);
+			for (ICommand command : project.getDescription().getBuildSpec()) {
+				if (PDE.MANIFEST_BUILDER_ID.equals(command.getBuilderName())) {
+					return true;
+				}
+			}
 		} catch (CoreException e) {
 		}
+		return false;
+	}
 
-		// make sure build.properties exists
-		validateBuildPropertiesExists(project);
-
-		// if META-INF exists, make sure MANIFEST.MF exists in correct casing
-		validateManifestCasing(project);
+	/**
+	 * Called when a workspace build starts, so projects validated by the
+	 * workspace validation pass of an earlier build are validated again.
+	 */
+	static void buildStarting() {
+		fgValidatedProjects.clear();
 	}
 
-	private void validateManifestFile(IFile file, IProgressMonitor monitor) {
-		if (monitor.isCanceled()) {
-			return;
+	/**
+	 * Validates the manifest files of a project. Markers are either updated
+	 * right away or collected, so they can be updated later from the thread
+	 * holding the scheduling rule of the build.
+	 */
+	private static final class ProjectValidator {
+		private final IProject fProject;
+		private final int fType;
+		private final List<Runnable> fMarkerUpdates;
+
+		/**
+		 * @param project the project to validate
+		 * @param type the kinds of files to validate
+		 * @param markerUpdates collects the marker updates, or
+		 *            <code>null</code> to update the markers right away
+		 */
+		ProjectValidator(IProject project, int type, List<Runnable> markerUpdates) {
+			fProject = project;
+			fType = type;
+			fMarkerUpdates = markerUpdates;
 		}
-		String message = NLS.bind(PDECoreMessages.Builders_verifying, file.getFullPath().toString());
-		monitor.subTask(message);
 
-		BundleErrorReporter reporter = new BundleErrorReporter(file);
-		reporter.validateContent(monitor);
-		monitor.subTask(PDECoreMessages.Builders_updating);
-		monitor.done();
-	}
+		void validate(IProgressMonitor monitor) {
+			SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.ManifestConsistencyChecker_builderTaskName, getWorkAmount(fType));
+			if ((fType & STRUCTURE) != 0) {
+				validateProjectStructure(subMonitor.split(1));
+			}
+
+			if ((fType & (MANIFEST | EXTENSIONS)) != 0) {
+				IFile file = PDEProject.getPluginXml(fProject);
+				if (!file.exists()) {
+					file = PDEProject.getFragmentXml(fProject);
+				}
 
-	private void validateFiles(IFile file, int type, IProgressMonitor monitor) {
-		if (monitor.isCanceled()) {
-			return;
+				if (file.exists()) {
+					validateFiles(file, monitor);
+				} else if ((fType & MANIFEST) != 0) {
+					IFile manifestFile = PDEProject.getManifest(fProject);
+					if (manifestFile.exists()) {
+						validateManifestFile(manifestFile, subMonitor.split(1));
+					}
+				}
+			}
+			if ((fType & BUILD) != 0) {
+				validateBuildProperties(subMonitor.split(1));
+			}
 		}
-		String message = NLS.bind(PDECoreMessages.Builders_verifying, file.getFullPath().toString());
-		monitor.subTask(message);
 
-		IFile bundleManifest = PDEProject.getManifest(getProject());
-		XMLErrorReporter reporter = null;
-		BundleErrorReporter bundleReporter = null;
-		if (bundleManifest.exists()) {
-			if ((type & EXTENSIONS) != 0) {
-				reporter = new ExtensionsErrorReporter(file);
+		private void updateMarkers(Runnable update) {
+			if (fMarkerUpdates == null) {
+				update.run();
+			} else {
+				fMarkerUpdates.add(update);
 			}
-			if ((type & MANIFEST) != 0) {
-				bundleReporter = new BundleErrorReporter(bundleManifest);
+		}
+
+		private void validateContent(ErrorReporter reporter, IProgressMonitor monitor) {
+			if (fMarkerUpdates == null) {
+				reporter.validateContent(monitor);
+			} else {
+				fMarkerUpdates.add(reporter.validateContentDeferred(monitor)::applyMarkers);
 			}
-		} else if ((type & MANIFEST) != 0 || (type & EXTENSIONS) != 0) {
-			if (file.equals(PDEProject.getPluginXml(getProject()))) {
-				reporter = new PluginErrorReporter(file);
-			} else if (file.equals(PDEProject.getFragmentXml(getProject()))) {
-				reporter = new FragmentErrorReporter(file);
+		}
+
+		private void validateContent(XMLErrorReporter reporter, IProgressMonitor monitor) {
+			if (fMarkerUpdates == null) {
+				reporter.validateContent(monitor);
+			} else {
+				fMarkerUpdates.add(reporter.validateContentDeferred(monitor)::applyMarkers);
 			}
 		}
-		if (reporter != null) {
-			DefaultSAXParser.parse(file, reporter);
-			reporter.validateContent(monitor);
-			monitor.subTask(PDECoreMessages.Builders_updating);
+
+		private void validateProjectStructure(IProgressMonitor monitor) {
+			if (monitor.isCanceled()) {
+				return;
+			}
+			// clear markers from project
+			updateMarkers(() -> {
+				try {
+					fProject.deleteMarkers(PDEMarkerFactory.MARKER_ID, false, IResource.DEPTH_ZERO);
+				} catch (CoreException e) {
+				}
+			});
+
+			// make sure build.properties exists
+			validateBuildPropertiesExists();
+
+			// if META-INF exists, make sure MANIFEST.MF exists in correct casing
+			validateManifestCasing();
 		}
-		if (bundleReporter != null) {
-			bundleReporter.validateContent(monitor);
+
+		private void validateManifestFile(IFile file, IProgressMonitor monitor) {
+			if (monitor.isCanceled()) {
+				return;
+			}
+			String message = NLS.bind(PDECoreMessages.Builders_verifying, file.getFullPath().toString());
+			monitor.subTask(message);
+
+			BundleErrorReporter reporter = new BundleErrorReporter(file);
+			validateContent(reporter, monitor);
 			monitor.subTask(PDECoreMessages.Builders_updating);
+			monitor.done();
 		}
-		monitor.done();
-	}
 
-	private void validateBuildProperties(IProgressMonitor monitor) {
-		if (monitor.isCanceled()) {
-			return;
-		}
-		IProject project = getProject();
-		IFile file = PDEProject.getBuildProperties(project);
-		if (file.exists()) {
-			monitor.subTask(PDECoreMessages.ManifestConsistencyChecker_buildPropertiesSubtask);
-			BuildErrorReporter ber = new BuildErrorReporter(file);
-			ber.validateContent(monitor);
+		private void validateFiles(IFile file, IProgressMonitor monitor) {
+			if (monitor.isCanceled()) {
+				return;
+			}
+			String message = NLS.bind(PDECoreMessages.Builders_verifying, file.getFullPath().toString());
+			monitor.subTask(message);
+
+			IFile bundleManifest = PDEProject.getManifest(fProject);
+			XMLErrorReporter reporter = null;
+			BundleErrorReporter bundleReporter = null;
+			if (bundleManifest.exists()) {
+				if ((fType & EXTENSIONS) != 0) {
+					reporter = new ExtensionsErrorReporter(file);
+				}
+				if ((fType & MANIFEST) != 0) {
+					bundleReporter = new BundleErrorReporter(bundleManifest);
+				}
+			} else if ((fType & MANIFEST) != 0 || (fType & EXTENSIONS) != 0) {
+				if (file.equals(PDEProject.getPluginXml(fProject))) {
+					reporter = new PluginErrorReporter(file);
+				} else if (file.equals(PDEProject.getFragmentXml(fProject))) {
+					reporter = new FragmentErrorReporter(file);
+				}
+			}
+			if (reporter != null) {
+				DefaultSAXParser.parse(file, reporter);
+				validateContent(reporter, monitor);
+				monitor.subTask(PDECoreMessages.Builders_updating);
+			}
+			if (bundleReporter != null) {
+				validateContent(bundleReporter, monitor);
+				monitor.subTask(PDECoreMessages.Builders_updating);
+			}
+			monitor.done();
 		}
-	}
 
-	// Will place a marker on the project if the build.properties does not exist
-	private void validateBuildPropertiesExists(IProject project) {
-		IFile file = PDEProject.getBuildProperties(project);
-		if (!file.exists()) {
-			int severity = CompilerFlags.getFlag(project, CompilerFlags.P_BUILD);
-			if (severity == CompilerFlags.IGNORE) {
+		private void validateBuildProperties(IProgressMonitor monitor) {
+			if (monitor.isCanceled()) {
 				return;
 			}
-			// if build.properties doesn't exist and build problems != IGNORE, create a marker on the project bug 172451
-			try {
+			IFile file = PDEProject.getBuildProperties(fProject);
+			if (file.exists()) {
+				monitor.subTask(PDECoreMessages.ManifestConsistencyChecker_buildPropertiesSubtask);
+				BuildErrorReporter ber = new BuildErrorReporter(file);
+				validateContent(ber, monitor);
+			}
+		}
+
+		// Will place a marker on the project if the build.properties does not exist
+		private void validateBuildPropertiesExists() {
+			IFile file = PDEProject.getBuildProperties(fProject);
+			if (!file.exists()) {
+				int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_BUILD);
+				if (severity == CompilerFlags.IGNORE) {
+					return;
+				}
+				// if build.properties doesn't exist and build problems != IGNORE, create a marker on the project bug 172451
 				Map<String, Object> attributes = new HashMap<>();
 				attributes.put(IMarker.SEVERITY, CompilerFlags.ERROR == severity ? IMarker.SEVERITY_ERROR : IMarker.SEVERITY_WARNING);
 				attributes.put(IMarker.MESSAGE, PDECoreMessages.ManifestConsistencyChecker_buildDoesNotExist);
 				attributes.put(PDEMarkerFactory.compilerKey, CompilerFlags.P_BUILD);
-
-				project.createMarker(PDEMarkerFactory.MARKER_ID, attributes);
-			} catch (CoreException e) {
+				updateMarkers(() -> {
+					try {
+						fProject.createMarker(PDEMarkerFactory.MARKER_ID, attributes);
+					} catch (CoreException e) {
+					}
+				});
 			}
 		}
-	}
-
-	// Will place a marker on either the project (if META-INF exist but not a MANIFEST.MF) or on the MANIFEST.MF file with incorrect casing.
-	private void validateManifestCasing(IProject project) {
-		IFolder manifestFolder = PDEProject.getMetaInf(project);
-		if (manifestFolder.exists()) {
-			try {
-				manifestFolder.deleteMarkers(PDEMarkerFactory.MARKER_ID, false, IResource.DEPTH_ONE);
-			} catch (CoreException e1) {
-			}
-			// exit if the proper casing exists (should be majority of the time)
-			if (PDEProject.getManifest(project).exists()) {
-				return;
-			}
-
-			IPath location = manifestFolder.getLocation();
-			if (location != null) {
-				File metaFolder = location.toFile();
-				String[] fileList = metaFolder.list(new ManifestFilter());
 
-				if (fileList == null || fileList.length == 0) {
-					// no MANIFEST.MF at all -> flag the project
+		// Will place a marker on either the project (if META-INF exist but not a MANIFEST.MF) or on the MANIFEST.MF file with incorrect casing.
+		private void validateManifestCasing() {
+			IFolder manifestFolder = PDEProject.getMetaInf(fProject);
+			if (manifestFolder.exists()) {
+				updateMarkers(() -> {
 					try {
-						project.createMarker(PDEMarkerFactory.MARKER_ID,
-								Map.of(//
-										IMarker.SEVERITY, IMarker.SEVERITY_ERROR, //
-										IMarker.MESSAGE,
-										PDECoreMessages.ManifestConsistencyChecker_manifestDoesNotExist));
-					} catch (CoreException e) {
+						manifestFolder.deleteMarkers(PDEMarkerFactory.MARKER_ID, false, IResource.DEPTH_ONE);
+					} catch (CoreException e1) {
 					}
-				} else {
-					// check for misspelled MANIFEST.MF files
-					for (String fileName : fileList) {
-						IFile currentFile = manifestFolder.getFile(fileName);
-						try {
-							IMarker marker = currentFile.createMarker(PDEMarkerFactory.MARKER_ID);
-							marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
-							marker.setAttribute(IMarker.MESSAGE, PDECoreMessages.ManifestConsistencyChecker_manifestMisspelled);
-						} catch (CoreException e) {
+				});
+				// exit if the proper casing exists (should be majority of the time)
+				if (PDEProject.getManifest(fProject).exists()) {
+					return;
+				}
+
+				IPath location = manifestFolder.getLocation();
+				if (location != null) {
+					File metaFolder = location.toFile();
+					String[] fileList = metaFolder.list(new ManifestFilter());
+
+					if (fileList == null || fileList.length == 0) {
+						// no MANIFEST.MF at all -> flag the project
+						updateMarkers(() -> {
+							try {
+								fProject.createMarker(PDEMarkerFactory.MARKER_ID,
+										Map.of(//
+												IMarker.SEVERITY, IMarker.SEVERITY_ERROR, //
+												IMarker.MESSAGE,
+												PDECoreMessages.ManifestConsistencyChecker_manifestDoesNotExist));
+							} catch (CoreException e) {
+							}
+						});
+					} else {
+						// check for misspelled MANIFEST.MF files
+						for (String fileName : fileList) {
+							IFile currentFile = manifestFolder.getFile(fileName);
+							updateMarkers(() -> {
+								try {
+									IMarker marker = currentFile.createMarker(PDEMarkerFactory.MARKER_ID);
+									marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
+									marker.setAttribute(IMarker.MESSAGE, PDECoreMessages.ManifestConsistencyChecker_manifestMisspelled);
+								} catch (CoreException e) {
+								}
+							});
 						}
 					}
 				}
@@ -427,6 +618,17 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		}
 	}
 
+	private static int getWorkAmount(int type) {
+		int work = 1;
+		if ((type & (MANIFEST | EXTENSIONS)) != 0) {
+			++work;
+		}
+		if ((type & BUILD) != 0) {
+			++work;
+		}
+		return work;
+	}
+
 	static class ManifestFilter implements FilenameFilter {
 
 		@Override
@@ -33,6 +33,7 @@ import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.IStateDeltaListener;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.WorkspaceModelManager;
+import org.eclipse.pde.internal.core.util.JavaTypeCache;
 import org.osgi.resource.Resource;
 
 public class PluginRebuilder implements IStateDeltaListener, IResourceChangeListener {
@@ -54,6 +55,11 @@ public class PluginRebuilder implements IStateDeltaListener, IResourceChangeList
 	@Override
 	public void resourceChanged(IResourceChangeEvent event) {
 		if (event.getType() == IResourceChangeEvent.PRE_BUILD) {
+			ManifestConsistencyChecker.buildStarting();
+			JavaTypeCache typeCache = PDECore.getDefault().getJavaTypeCache();
+			if (typeCache != null) {
+				typeCache.clear();
+			}
 			IWorkspaceRoot root = PDECore.getWorkspace().getRoot();
 			if (fTouchWorkspace) {
 				IProject[] projects = root.getProjects();
@@ -380,6 +380,18 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 		fErrorReporter.applyMarkers();
 	}
 
+	/**
+	 * Validates the content like {@link #validateContent(IProgressMonitor)}
+	 * but leaves updating the markers to the caller, so the markers of many
+	 * files can be updated in one workspace operation.
+	 *
+	 * @return the reporter holding the markers to apply
+	 */
+	final IncrementalErrorReporter validateContentDeferred(IProgressMonitor monitor) {
+		validate(monitor);
+		return fErrorReporter;
+	}
+
 	protected abstract void validate(IProgressMonitor monitor);
 
 	public Element getDocumentRoot() {
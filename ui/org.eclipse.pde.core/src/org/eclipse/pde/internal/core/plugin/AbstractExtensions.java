@@ -37,7 +37,7 @@ import org.eclipse.pde.core.plugin.IPluginObject;
 import org.eclipse.pde.core.plugin.ISharedPluginModel;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDECoreMessages;
-import org.w3c.dom.Node;
+import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 
 public abstract class AbstractExtensions extends PluginObject implements IExtensions {
@@ -198,12 +198,10 @@ public abstract class AbstractExtensions extends PluginObject implements IExtens
 				IResource res = model.getUnderlyingResource();
 				if (res instanceof IFile file) {
 					try (InputStream stream = new BufferedInputStream(file.getContents(true))) {
-						PluginHandler handler = new PluginHandler(true);
 						@SuppressWarnings("restriction")
 						SAXParser parser = org.eclipse.core.internal.runtime.XmlProcessorFactory
 								.createSAXParserWithErrorOnDOCTYPE();
-						parser.parse(stream, handler);
-						return handler.getSchemaVersion();
+						return PluginHandler.readSchemaVersion(parser, stream);
 					} catch (CoreException | SAXException | IOException | ParserConfigurationException e) {
 					}
 				}
@@ -251,11 +249,19 @@ public abstract class AbstractExtensions extends PluginObject implements IExtens
 		return fExtensionPoints;
 	}
 
-	/*
-	 * If this function is used to load the model, the extension registry cache will not be used when querying model.
+	/**
+	 * Loads an extension or extension point from a child of the root element
+	 * of the <code>plugin.xml</code>. If this function is used to load the
+	 * model, the extension registry cache will not be used when querying
+	 * model.
+	 *
+	 * @param name the name of the XML element
+	 * @param attributes the attributes of the XML element
+	 * @param line the line of the XML element
+	 * @return the loaded extension or extension point or <code>null</code> if
+	 *         the element is neither
 	 */
-	protected void processChild(Node child) {
-		String name = child.getNodeName();
+	PluginObject loadChild(String name, Attributes attributes, int line) {
 		if (fExtensions == null) {
 			fExtensions = new ArrayList<>();
 		}
@@ -269,14 +275,17 @@ public abstract class AbstractExtensions extends PluginObject implements IExtens
 			extension.setParent(this);
 			fExtensions.add(extension);
 			extension.setInTheModel(true);
-			extension.load(child);
+			extension.load(attributes, line);
+			return extension;
 		} else if (name.equals("extension-point")) { //$NON-NLS-1$
 			PluginExtensionPoint point = new PluginExtensionPoint();
 			point.setModel(getModel());
 			point.setParent(this);
 			point.setInTheModel(true);
 			fExtensionPoints.add(point);
-			point.load(child);
+			point.load(attributes, line);
+			return point;
 		}
+		return null;
 	}
 }
@@ -97,13 +97,15 @@ public abstract class AbstractPluginModelBase extends AbstractNLModel implements
 		setLoaded(false);
 		try {
 			SAXParser parser = getSaxParser();
+			handler.setPluginBase((PluginBase) fPluginBase);
 			parser.parse(stream, handler);
-			((PluginBase) fPluginBase).load(handler.getDocumentElement(), handler.getSchemaVersion());
 			setLoaded(true);
 			if (!outOfSync) {
 				updateTimeStamp();
 			}
 		} catch (Exception e) {
+			// don't keep what was loaded before the error
+			((PluginBase) fPluginBase).reset();
 			PDECore.log(e);
 		}
 	}
@@ -24,7 +24,7 @@ import org.eclipse.pde.core.plugin.IMatchRules;
 import org.eclipse.pde.core.plugin.IPluginExtension;
 import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
 import org.eclipse.pde.internal.core.PDEState;
-import org.w3c.dom.Node;
+import org.xml.sax.Attributes;
 
 public class Fragment extends PluginBase implements IFragment {
 	private static final long serialVersionUID = 1L;
@@ -78,10 +78,10 @@ public class Fragment extends PluginBase implements IFragment {
 	}
 
 	@Override
-	void load(Node node, String schemaVersion) {
-		fPluginId = getNodeAttribute(node, "plugin-id"); //$NON-NLS-1$
-		fPluginVersion = getNodeAttribute(node, "plugin-version"); //$NON-NLS-1$
-		String match = getNodeAttribute(node, "match"); //$NON-NLS-1$
+	void load(Attributes attributes, String schemaVersion) {
+		fPluginId = attributes.getValue("plugin-id"); //$NON-NLS-1$
+		fPluginVersion = attributes.getValue("plugin-version"); //$NON-NLS-1$
+		String match = attributes.getValue("match"); //$NON-NLS-1$
 		if (match != null) {
 			String[] table = IMatchRules.RULE_NAME_TABLE;
 			for (int i = 0; i < table.length; i++) {
@@ -91,7 +91,7 @@ public class Fragment extends PluginBase implements IFragment {
 				}
 			}
 		}
-		super.load(node, schemaVersion);
+		super.load(attributes, schemaVersion);
 	}
 
 	@Override
@@ -21,7 +21,7 @@ import org.eclipse.pde.core.plugin.IPlugin;
 import org.eclipse.pde.core.plugin.IPluginExtension;
 import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
 import org.eclipse.pde.internal.core.PDEState;
-import org.w3c.dom.Node;
+import org.xml.sax.Attributes;
 
 public class Plugin extends PluginBase implements IPlugin {
 	private static final long serialVersionUID = 1L;
@@ -49,9 +49,9 @@ public class Plugin extends PluginBase implements IPlugin {
 	}
 
 	@Override
-	void load(Node node, String schemaVersion) {
-		fClassname = getNodeAttribute(node, "class"); //$NON-NLS-1$
-		super.load(node, schemaVersion);
+	void load(Attributes attributes, String schemaVersion) {
+		fClassname = attributes.getValue("class"); //$NON-NLS-1$
+		super.load(attributes, schemaVersion);
 	}
 
 	@Override
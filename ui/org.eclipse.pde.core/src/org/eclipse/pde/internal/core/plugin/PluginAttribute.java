@@ -20,7 +20,6 @@ import org.eclipse.pde.core.plugin.IPluginAttribute;
 import org.eclipse.pde.internal.core.ischema.ISchema;
 import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
 import org.eclipse.pde.internal.core.ischema.ISchemaElement;
-import org.w3c.dom.Node;
 
 public class PluginAttribute extends PluginObject implements IPluginAttribute {
 	private static final long serialVersionUID = 1L;
@@ -86,11 +85,6 @@ public class PluginAttribute extends PluginObject implements IPluginAttribute {
 		return fValue;
 	}
 
-	void load(Node node) {
-		fName = node.getNodeName();
-		fValue = node.getNodeValue();
-	}
-
 	void load(String name, String value) {
 		fName = name;
 		fValue = value;
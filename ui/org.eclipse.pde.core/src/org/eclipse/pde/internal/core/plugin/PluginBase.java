@@ -15,7 +15,6 @@
 package org.eclipse.pde.internal.core.plugin;
 
 import java.util.ArrayList;
-import java.util.Locale;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.osgi.service.resolver.BundleDescription;
@@ -32,8 +31,7 @@ import org.eclipse.pde.internal.core.PDECoreMessages;
 import org.eclipse.pde.internal.core.PDEState;
 import org.eclipse.pde.internal.core.bundle.BundlePluginBase;
 import org.osgi.framework.Version;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
+import org.xml.sax.Attributes;
 
 public abstract class PluginBase extends AbstractExtensions implements IPluginBase {
 	private static final long serialVersionUID = 1L;
@@ -146,23 +144,16 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 		super.restoreProperty(name, oldValue, newValue);
 	}
 
-	void load(Node node, String schemaVersion) {
-		if (node == null) {
-			return;
-		}
+	/**
+	 * Loads the attributes of the root element of the <code>plugin.xml</code>.
+	 * Its children are loaded by {@link PluginHandler}.
+	 */
+	void load(Attributes attributes, String schemaVersion) {
 		fSchemaVersion = schemaVersion;
-		fId = getNodeAttribute(node, "id"); //$NON-NLS-1$
-		fName = getNodeAttribute(node, "name"); //$NON-NLS-1$
-		fProviderName = getNodeAttribute(node, "provider-name"); //$NON-NLS-1$
-		fVersion = getNodeAttribute(node, "version"); //$NON-NLS-1$
-
-		NodeList children = node.getChildNodes();
-		for (int i = 0; i < children.getLength(); i++) {
-			Node child = children.item(i);
-			if (child.getNodeType() == Node.ELEMENT_NODE) {
-				processChild(child);
-			}
-		}
+		fId = attributes.getValue("id"); //$NON-NLS-1$
+		fName = attributes.getValue("name"); //$NON-NLS-1$
+		fProviderName = attributes.getValue("provider-name"); //$NON-NLS-1$
+		fVersion = attributes.getValue("version"); //$NON-NLS-1$
 	}
 
 	void loadRuntime(BundleDescription description, PDEState state) {
@@ -177,19 +168,14 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 		}
 	}
 
-	void loadRuntime(Node node) {
-		NodeList children = node.getChildNodes();
-		for (int i = 0; i < children.getLength(); i++) {
-			Node child = children.item(i);
-			if (child.getNodeType() == Node.ELEMENT_NODE && child.getNodeName().toLowerCase(Locale.ENGLISH).equals("library")) { //$NON-NLS-1$
-				PluginLibrary library = new PluginLibrary();
-				library.setModel(getModel());
-				library.setInTheModel(true);
-				library.setParent(this);
-				fLibraries.add(library);
-				library.load(child);
-			}
-		}
+	PluginLibrary loadLibrary(Attributes attributes) {
+		PluginLibrary library = new PluginLibrary();
+		library.setModel(getModel());
+		library.setInTheModel(true);
+		library.setParent(this);
+		fLibraries.add(library);
+		library.load(attributes);
+		return library;
 	}
 
 	void loadImports(BundleDescription description) {
@@ -236,35 +222,24 @@ public abstract class PluginBase extends AbstractExtensions implements IPluginBa
 		return resolvedImports.toArray(new BundleDescription[resolvedImports.size()]);
 	}
 
-	void loadImports(Node node) {
-		NodeList children = node.getChildNodes();
-		for (int i = 0; i < children.getLength(); i++) {
-			Node child = children.item(i);
-			if (child.getNodeType() == Node.ELEMENT_NODE && child.getNodeName().toLowerCase(Locale.ENGLISH).equals("import")) { //$NON-NLS-1$
-				PluginImport importElement = new PluginImport();
-				importElement.setModel(getModel());
-				importElement.setInTheModel(true);
-				importElement.setParent(this);
-				fImports.add(importElement);
-				importElement.load(child);
-			}
-		}
+	void loadImport(Attributes attributes) {
+		PluginImport importElement = new PluginImport();
+		importElement.setModel(getModel());
+		importElement.setInTheModel(true);
+		importElement.setParent(this);
+		fImports.add(importElement);
+		importElement.load(attributes);
 	}
 
 	@Override
-	protected void processChild(Node child) {
-		String name = child.getNodeName().toLowerCase(Locale.ENGLISH);
-		if (name.equals("runtime")) { //$NON-NLS-1$
-			loadRuntime(child);
-		} else if (name.equals("requires")) { //$NON-NLS-1$
-			loadImports(child);
-
-			// check to see if this model is a workspace model.  If so, don't load extensions/extension points through Node.
-			// Instead, the extensions/extension points will be control by the extension registry.
-			// One instance of where we want to load an external model's extensions/extension points from a Node is the convertSchemaToHTML ANT task.
-		} else if (getModel().getUnderlyingResource() == null) {
-			super.processChild(child);
+	PluginObject loadChild(String name, Attributes attributes, int line) {
+		// check to see if this model is a workspace model.  If so, don't load extensions/extension points from the plugin.xml.
+		// Instead, the extensions/extension points will be control by the extension registry.
+		// One instance of where we want to load an external model's extensions/extension points from the plugin.xml is the convertSchemaToHTML ANT task.
+		if (getModel().getUnderlyingResource() == null) {
+			return super.loadChild(name, attributes, line);
 		}
+		return null;
 	}
 
 	@Override
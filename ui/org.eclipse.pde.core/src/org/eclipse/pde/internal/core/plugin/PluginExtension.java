@@ -26,8 +26,7 @@ import org.eclipse.pde.core.plugin.IPluginObject;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.ischema.ISchema;
 import org.eclipse.pde.internal.core.schema.SchemaRegistry;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
+import org.xml.sax.Attributes;
 
 public class PluginExtension extends PluginParent implements IPluginExtension {
 
@@ -70,27 +69,15 @@ public class PluginExtension extends PluginParent implements IPluginExtension {
 	/*
 	 * If this function is used to load the model, the extension registry cache will not be used when querying model.
 	 */
-	void load(Node node) {
-		this.fID = getNodeAttribute(node, "id"); //$NON-NLS-1$
-		fName = getNodeAttribute(node, "name"); //$NON-NLS-1$
-		fPoint = getNodeAttribute(node, "point"); //$NON-NLS-1$
+	void load(Attributes attributes, int line) {
+		this.fID = attributes.getValue("id"); //$NON-NLS-1$
+		fName = attributes.getValue("name"); //$NON-NLS-1$
+		fPoint = attributes.getValue("point"); //$NON-NLS-1$
 
 		if (fChildren == null) {
 			fChildren = new ArrayList<>();
 		}
-		NodeList children = node.getChildNodes();
-		for (int i = 0; i < children.getLength(); i++) {
-			Node child = children.item(i);
-			if (child.getNodeType() == Node.ELEMENT_NODE) {
-				PluginElement childElement = new PluginElement();
-				childElement.setModel(getModel());
-				childElement.setInTheModel(true);
-				childElement.setParent(this);
-				this.fChildren.add(childElement);
-				childElement.load(child);
-			}
-		}
-		fStartLine = Integer.parseInt(getNodeAttribute(node, "line")); //$NON-NLS-1$
+		fStartLine = line;
 	}
 
 	@Override
@@ -21,7 +21,7 @@ import org.eclipse.pde.core.plugin.IFragment;
 import org.eclipse.pde.core.plugin.IPluginBase;
 import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
-import org.w3c.dom.Node;
+import org.xml.sax.Attributes;
 
 public class PluginExtensionPoint extends IdentifiablePluginObject implements IPluginExtensionPoint {
 
@@ -72,11 +72,11 @@ public class PluginExtensionPoint extends IdentifiablePluginObject implements IP
 		return fSchema;
 	}
 
-	void load(Node node) {
-		this.fID = getNodeAttribute(node, "id"); //$NON-NLS-1$
-		fName = getNodeAttribute(node, "name"); //$NON-NLS-1$
-		fSchema = getNodeAttribute(node, "schema"); //$NON-NLS-1$
-		fStartLine = Integer.parseInt(getNodeAttribute(node, "line")); //$NON-NLS-1$
+	void load(Attributes attributes, int line) {
+		this.fID = attributes.getValue("id"); //$NON-NLS-1$
+		fName = attributes.getValue("name"); //$NON-NLS-1$
+		fSchema = attributes.getValue("schema"); //$NON-NLS-1$
+		fStartLine = line;
 	}
 
 	@Override
@@ -13,35 +13,67 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.plugin;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
-import java.util.Stack;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
 
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.eclipse.pde.internal.core.util.IdUtil;
-import org.w3c.dom.DOMException;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.Text;
 import org.xml.sax.Attributes;
 import org.xml.sax.InputSource;
 import org.xml.sax.Locator;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
+/**
+ * Loads a <code>plugin.xml</code> or <code>fragment.xml</code> into a
+ * {@link PluginBase} while it is parsed, without building a document of the
+ * file first. Without a plug-in base, only the schema version is read and
+ * parsing stops at the root element.
+ */
 public class PluginHandler extends DefaultHandler {
-	private Document fDocument;
-	private Element fRootElement;
-	private final Stack<Element> fOpenElements = new Stack<>();
+
+	/**
+	 * Marks the open elements whose content is not loaded
+	 */
+	private static final Object IGNORED = new Object();
+	private static final Object RUNTIME = new Object();
+	private static final Object REQUIRES = new Object();
+
+	/**
+	 * Thrown to stop parsing once the header of the file was read
+	 */
+	private static final class HeaderParsedException extends SAXException {
+		private static final long serialVersionUID = 1L;
+	}
+
+	private PluginBase fPluginBase;
+
+	/**
+	 * The model objects of the open elements
+	 */
+	private final Deque<Object> fOpenObjects = new ArrayDeque<>();
+
+	/**
+	 * Character data of the open element since its last child element
+	 */
+	private final StringBuilder fText = new StringBuilder();
+
+	/**
+	 * Whether the children of the open extension are skipped
+	 */
+	private boolean fSkipExtensionContent;
 
 	private String fSchemaVersion;
 	private final boolean fAbbreviated;
 	private Locator fLocator;
-	private boolean fPop;
 
 	private static final Pattern VERSION_RE = Pattern.compile("version\\s*=\\s*\"([^\"]+)\""); //$NON-NLS-1$
 
@@ -49,46 +81,101 @@ public class PluginHandler extends DefaultHandler {
 		fAbbreviated = abbreviated;
 	}
 
-	@Override
-	public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+	/**
+	 * Reads the schema version from the header of a <code>plugin.xml</code> or
+	 * <code>fragment.xml</code>, without parsing the rest of the file.
+	 *
+	 * @param parser the parser to use
+	 * @param stream contents of the file
+	 * @return the schema version or <code>null</code> if the file does not
+	 *         declare one
+	 */
+	public static String readSchemaVersion(SAXParser parser, InputStream stream) throws SAXException, IOException {
+		PluginHandler handler = new PluginHandler(true);
+		try {
+			parser.parse(stream, handler);
+		} catch (HeaderParsedException e) {
+			// the rest of the file is not needed
+		}
+		return handler.getSchemaVersion();
+	}
 
-		fPop = true;
+	/**
+	 * Sets the plug-in base to load the parsed file into.
+	 *
+	 * @param pluginBase the reset plug-in base of the model being loaded
+	 */
+	void setPluginBase(PluginBase pluginBase) {
+		fPluginBase = pluginBase;
+	}
 
-		if (fAbbreviated && fOpenElements.size() == 2) {
-			Element parent = fOpenElements.peek();
-			if (parent.getNodeName().equals("extension") && !isInterestingExtension(fOpenElements.peek())) { //$NON-NLS-1$
-				fPop = false;
-				return;
-			}
+	@Override
+	public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+		if (fPluginBase == null) {
+			throw new HeaderParsedException();
 		}
-
-		Element element = fDocument.createElement(qName);
-		for (int i = 0; i < attributes.getLength(); i++) {
-			element.setAttribute(attributes.getQName(i), attributes.getValue(i));
-			if ("extension".equals(qName) || "extension-point".equals(qName)) { //$NON-NLS-1$ //$NON-NLS-2$
-				element.setAttribute("line", Integer.toString(fLocator.getLineNumber())); //$NON-NLS-1$
+		flushText();
+		Object parent = fOpenObjects.peek();
+		Object object;
+		if (parent == null) {
+			fPluginBase.load(attributes, fSchemaVersion);
+			object = fPluginBase;
+		} else if (parent == fPluginBase) {
+			object = loadPluginChild(qName, attributes);
+		} else if (parent == RUNTIME) {
+			object = qName.toLowerCase(Locale.ENGLISH).equals("library") ? fPluginBase.loadLibrary(attributes) : IGNORED; //$NON-NLS-1$
+		} else if (parent == REQUIRES) {
+			if (qName.toLowerCase(Locale.ENGLISH).equals("import")) { //$NON-NLS-1$
+				fPluginBase.loadImport(attributes);
 			}
-		}
-
-		if (fRootElement == null) {
-			fRootElement = element;
+			object = IGNORED;
+		} else if (parent instanceof PluginLibrary library) {
+			if (qName.toLowerCase(Locale.ENGLISH).equals("export")) { //$NON-NLS-1$
+				library.loadExport(attributes.getValue("name")); //$NON-NLS-1$
+			}
+			object = IGNORED;
+		} else if (parent instanceof PluginExtension extension) {
+			object = fSkipExtensionContent ? IGNORED : extension.loadChild(qName, attributes);
+		} else if (parent instanceof PluginElement element) {
+			object = element.loadChild(qName, attributes);
 		} else {
-			fOpenElements.peek().appendChild(element);
+			object = IGNORED;
 		}
+		fOpenObjects.push(object);
+	}
 
-		fOpenElements.push(element);
+	private Object loadPluginChild(String name, Attributes attributes) {
+		String lowerCaseName = name.toLowerCase(Locale.ENGLISH);
+		if (lowerCaseName.equals("runtime")) { //$NON-NLS-1$
+			return RUNTIME;
+		}
+		if (lowerCaseName.equals("requires")) { //$NON-NLS-1$
+			return REQUIRES;
+		}
+		PluginObject child = fPluginBase.loadChild(name, attributes, fLocator.getLineNumber());
+		if (child instanceof PluginExtension extension) {
+			String point = extension.getPoint();
+			fSkipExtensionContent = fAbbreviated && !isInterestingExtension(point == null ? "" : point); //$NON-NLS-1$
+			return extension;
+		}
+		return IGNORED;
 	}
 
-	protected boolean isInterestingExtension(Element element) {
-		String point = element.getAttribute("point"); //$NON-NLS-1$
+	/**
+	 * Returns whether the elements of an extension to the given extension
+	 * point are loaded when only abbreviated data is loaded.
+	 *
+	 * @param point the id of the extension point
+	 * @return whether to load the extension completely
+	 */
+	protected boolean isInterestingExtension(String point) {
 		return IdUtil.isInterestingExtensionPoint(point);
 	}
 
 	@Override
 	public void endElement(String uri, String localName, String qName) throws SAXException {
-		if (fPop || (qName.equals("extension") && fOpenElements.size() == 2)) { //$NON-NLS-1$
-			fOpenElements.pop();
-		}
+		flushText();
+		fOpenObjects.pop();
 	}
 
 	@Override
@@ -96,20 +183,6 @@ public class PluginHandler extends DefaultHandler {
 		fLocator = locator;
 	}
 
-	@Override
-	@SuppressWarnings("restriction")
-	public void startDocument() throws SAXException {
-		try {
-			fDocument = org.eclipse.core.internal.runtime.XmlProcessorFactory.newDocumentWithErrorOnDOCTYPE();
-		} catch (ParserConfigurationException e) {
-		}
-	}
-
-	@Override
-	public void endDocument() throws SAXException {
-		fDocument.appendChild(fRootElement);
-	}
-
 	@Override
 	public void processingInstruction(String target, String data) throws SAXException {
 		if ("eclipse".equals(target)) { //$NON-NLS-1$
@@ -133,24 +206,23 @@ public class PluginHandler extends DefaultHandler {
 		processCharacters(characters, start, length);
 	}
 
-	protected void processCharacters(char[] characters, int start, int length) throws DOMException {
-		StringBuilder buff = new StringBuilder();
-		for (int i = 0; i < length; i++) {
-			buff.append(characters[start + i]);
-		}
-		Text text = fDocument.createTextNode(buff.toString());
-		if (fRootElement == null) {
-			fDocument.appendChild(text);
-		} else {
-			fOpenElements.peek().appendChild(text);
+	protected void processCharacters(char[] characters, int start, int length) {
+		if (fOpenObjects.peek() instanceof PluginElement) {
+			fText.append(characters, start, length);
 		}
 	}
 
-	public Node getDocumentElement() {
-		if (fRootElement != null) {
-			fRootElement.normalize();
+	/**
+	 * Passes the character data read since the last start or end of an element
+	 * to the open element.
+	 */
+	private void flushText() {
+		if (fText.length() > 0) {
+			if (fOpenObjects.peek() instanceof PluginElement element) {
+				element.loadText(fText.toString());
+			}
+			fText.setLength(0);
 		}
-		return fRootElement;
 	}
 
 	public String getSchemaVersion() {
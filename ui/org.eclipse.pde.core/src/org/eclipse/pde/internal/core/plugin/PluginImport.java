@@ -36,7 +36,7 @@ import org.eclipse.pde.internal.core.ibundle.IManifestHeader;
 import org.eclipse.pde.internal.core.text.bundle.ManifestHeader;
 import org.eclipse.pde.internal.core.text.bundle.RequireBundleObject;
 import org.osgi.framework.Constants;
-import org.w3c.dom.Node;
+import org.xml.sax.Attributes;
 
 public class PluginImport extends IdentifiablePluginObject implements IPluginImport, Serializable {
 
@@ -143,12 +143,12 @@ public class PluginImport extends IdentifiablePluginObject implements IPluginImp
 		return false;
 	}
 
-	void load(Node node) {
-		String id = getNodeAttribute(node, "plugin"); //$NON-NLS-1$
-		String export = getNodeAttribute(node, "export"); //$NON-NLS-1$
-		String option = getNodeAttribute(node, "optional"); //$NON-NLS-1$
-		String version = getNodeAttribute(node, "version"); //$NON-NLS-1$
-		String match = getNodeAttribute(node, "match"); //$NON-NLS-1$
+	void load(Attributes attributes) {
+		String id = attributes.getValue("plugin"); //$NON-NLS-1$
+		String export = attributes.getValue("export"); //$NON-NLS-1$
+		String option = attributes.getValue("optional"); //$NON-NLS-1$
+		String version = attributes.getValue("version"); //$NON-NLS-1$
+		String match = attributes.getValue("match"); //$NON-NLS-1$
 		boolean reexport = export != null && export.toLowerCase(Locale.ENGLISH).equals("true"); //$NON-NLS-1$
 		boolean optional = option != null && option.toLowerCase(Locale.ENGLISH).equals("true"); //$NON-NLS-1$
 		this.match = NONE;
@@ -15,9 +15,9 @@ package org.eclipse.pde.internal.core.plugin;
 
 import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.osgi.service.resolver.BundleDescription;
@@ -29,8 +29,7 @@ import org.eclipse.pde.core.plugin.ISharedPluginModel;
 import org.eclipse.pde.internal.core.ClasspathUtilCore;
 import org.eclipse.pde.internal.core.ibundle.IBundlePluginModelBase;
 import org.eclipse.pde.internal.core.util.PDEXMLHelper;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
+import org.xml.sax.Attributes;
 
 public class PluginLibrary extends PluginObject implements IPluginLibrary {
 
@@ -100,34 +99,32 @@ public class PluginLibrary extends PluginObject implements IPluginLibrary {
 		fExported = true;
 	}
 
-	void load(Node node) {
-		fName = getNodeAttribute(node, "name"); //$NON-NLS-1$
-		fType = getNodeAttribute(node, "type"); //$NON-NLS-1$
-		NodeList children = node.getChildNodes();
-		ArrayList<String> exports = new ArrayList<>();
-		boolean all = false;
-		for (int i = 0; i < children.getLength(); i++) {
-			Node child = children.item(i);
-			if (child.getNodeType() == Node.ELEMENT_NODE) {
-				String tag = child.getNodeName().toLowerCase(Locale.ENGLISH);
-				if (tag.equals("export")) { //$NON-NLS-1$
-					String ename = getNodeAttribute(child, "name"); //$NON-NLS-1$
-					if (ename != null) {
-						ename = ename.trim();
-						if (ename.equals("*")) { //$NON-NLS-1$
-							all = true;
-						} else {
-							exports.add(ename);
-						}
-					}
-				}
-			}
+	void load(Attributes attributes) {
+		fName = attributes.getValue("name"); //$NON-NLS-1$
+		fType = attributes.getValue("type"); //$NON-NLS-1$
+		fContentFilters = null;
+		fExported = false;
+	}
+
+	/**
+	 * Loads an <code>export</code> element of this library.
+	 *
+	 * @param name the exported name, <code>*</code> to export everything
+	 */
+	void loadExport(String name) {
+		if (name == null) {
+			return;
 		}
-		if (!exports.isEmpty()) {
-			fContentFilters = new String[exports.size()];
-			exports.toArray(fContentFilters);
+		name = name.trim();
+		if (!name.equals("*")) { //$NON-NLS-1$
+			if (fContentFilters == null) {
+				fContentFilters = new String[] {name};
+			} else {
+				fContentFilters = Arrays.copyOf(fContentFilters, fContentFilters.length + 1);
+				fContentFilters[fContentFilters.length - 1] = name;
+			}
 		}
-		fExported = all || !exports.isEmpty();
+		fExported = true;
 	}
 
 	@Override
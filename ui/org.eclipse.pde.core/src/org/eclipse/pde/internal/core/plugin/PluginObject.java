@@ -135,14 +135,6 @@ public abstract class PluginObject extends PlatformObject implements IPluginObje
 		return fTranslatedName;
 	}
 
-	String getNodeAttribute(Node node, String name) {
-		Node attribute = node.getAttributes().getNamedItem(name);
-		if (attribute != null) {
-			return attribute.getNodeValue();
-		}
-		return null;
-	}
-
 	@Override
 	public IPluginObject getParent() {
 		return fParent;
@@ -21,6 +21,7 @@ import org.eclipse.pde.core.plugin.IPluginElement;
 import org.eclipse.pde.core.plugin.IPluginObject;
 import org.eclipse.pde.core.plugin.IPluginParent;
 import org.eclipse.pde.internal.core.PDECoreMessages;
+import org.xml.sax.Attributes;
 
 public abstract class PluginParent extends IdentifiablePluginObject implements IPluginParent {
 	private static final long serialVersionUID = 1L;
@@ -47,6 +48,24 @@ public abstract class PluginParent extends IdentifiablePluginObject implements I
 		getChildrenList().add(child);
 	}
 
+	/**
+	 * Creates and adds the child element read from an XML element of the
+	 * <code>plugin.xml</code>.
+	 *
+	 * @param name the name of the XML element
+	 * @param attributes the attributes of the XML element
+	 * @return the new child
+	 */
+	PluginElement loadChild(String name, Attributes attributes) {
+		PluginElement childElement = new PluginElement();
+		childElement.setModel(getModel());
+		childElement.setInTheModel(true);
+		childElement.setParent(this);
+		getChildrenList().add(childElement);
+		childElement.load(name, attributes);
+		return childElement;
+	}
+
 	protected void postAdd(IPluginObject child) {
 		((PluginObject) child).setInTheModel(true);
 		((PluginObject) child).setParent(this);
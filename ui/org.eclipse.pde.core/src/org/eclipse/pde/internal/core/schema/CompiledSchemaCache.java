@@ -0,0 +1,376 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.schema;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.internal.core.PDECore;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Persistent cache of the parsed <code>.exsd</code> files of extension point
+ * schemas. The element and attribute tree that {@link Schema#load()} builds
+ * from the XML is stored in a compact binary form, one file per schema URL,
+ * and restored instead of opening the bundle and parsing the XML again in
+ * later sessions.
+ * <p>
+ * Entries are keyed by the schema URL and whether documentation was included,
+ * and validated against the size and the last modification time of the bundle
+ * archive (for <code>jar:</code> URLs) or of the schema file. Schemas of other
+ * URLs are not cached. Files that were not used for some time, like the ones
+ * of bundles that are no longer part of the target, are deleted by
+ * {@link #prune()}.
+ * </p>
+ */
+public class CompiledSchemaCache {
+
+	private static final String CACHE_FOLDER = ".schemas"; //$NON-NLS-1$
+
+	private static final String CACHE_EXTENSION = ".bin"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x45585344; // EXSD
+
+	/**
+	 * Version of the file format, must be incremented whenever the format
+	 * changes. Files of a different version are discarded.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	/**
+	 * Time in milliseconds after which unused files are deleted by
+	 * {@link #prune()}
+	 */
+	public static final long UNUSED_FILE_AGE = TimeUnit.DAYS.toMillis(30);
+
+	private static final byte END = 0;
+	private static final byte ELEMENT = 1;
+	private static final byte TEXT = 2;
+
+	private static CompiledSchemaCache fgDefault;
+
+	private final File fCacheFolder;
+	private final AtomicInteger fHits = new AtomicInteger();
+	private final AtomicInteger fMisses = new AtomicInteger();
+
+	/**
+	 * Creates a cache that keeps its files in the given folder.
+	 *
+	 * @param cacheFolder folder for the files, created on demand
+	 */
+	public CompiledSchemaCache(File cacheFolder) {
+		fCacheFolder = cacheFolder;
+	}
+
+	/**
+	 * @return the cache in the state location of the PDE core plug-in or
+	 *         <code>null</code> if the plug-in is not running
+	 */
+	public static synchronized CompiledSchemaCache getDefault() {
+		PDECore core = PDECore.getDefault();
+		if (fgDefault == null && core != null && core.getBundle() != null) {
+			CompiledSchemaCache cache = new CompiledSchemaCache(new File(core.getStateLocation().toFile(), CACHE_FOLDER));
+			// the first schema may be loaded by the UI thread, so the files
+			// are not listed and deleted right away
+			Job prune = Job.createSystem("Pruning compiled schemas", monitor -> cache.prune()); //$NON-NLS-1$
+			prune.setPriority(Job.DECORATE);
+			prune.schedule();
+			fgDefault = cache;
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Returns the cached root element of the schema at the given URL.
+	 *
+	 * @param url the URL of the schema
+	 * @param abbreviated whether the schema is loaded without documentation
+	 * @return the root element or <code>null</code> if the schema is not
+	 *         cached, changed since it was cached or its cache file is broken
+	 */
+	public Element load(URL url, boolean abbreviated) {
+		File stampFile = getStampFile(url);
+		if (stampFile == null) {
+			return null;
+		}
+		String key = getKey(url, abbreviated);
+		File file = getCacheFile(key);
+		if (!file.isFile()) {
+			fMisses.incrementAndGet();
+			return null;
+		}
+		try {
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file.toPath())));
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !key.equals(readString(in))
+					|| in.readLong() != stampFile.length() || in.readLong() != stampFile.lastModified()) {
+				fMisses.incrementAndGet();
+				return null;
+			}
+			int count = in.readInt();
+			// every string takes at least the four bytes of its length
+			if (count < 0 || count > in.available() / 4) {
+				throw new IOException("Invalid string count: " + count); //$NON-NLS-1$
+			}
+			String[] strings = new String[count];
+			for (int i = 0; i < strings.length; i++) {
+				strings[i] = readString(in);
+			}
+			@SuppressWarnings("restriction")
+			Document document = org.eclipse.core.internal.runtime.XmlProcessorFactory.newDocumentWithErrorOnDOCTYPE();
+			if (in.readByte() != ELEMENT) {
+				throw new IOException("Missing root element"); //$NON-NLS-1$
+			}
+			Element root = readElement(in, document, strings);
+			document.appendChild(root);
+			markUsed(file);
+			fHits.incrementAndGet();
+			return root;
+		} catch (IOException | ParserConfigurationException | RuntimeException e) {
+			// a broken file is simply rebuilt
+			fMisses.incrementAndGet();
+			if (PDECore.DEBUG_MODEL) {
+				System.out.println("Discarding compiled schema of " + url + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the root element of the schema at the given URL, as parsed from
+	 * its XML.
+	 *
+	 * @param url the URL of the schema
+	 * @param abbreviated whether the schema was loaded without documentation
+	 * @param root the root element of the schema
+	 */
+	public void store(URL url, boolean abbreviated, Node root) {
+		File stampFile = getStampFile(url);
+		if (stampFile == null) {
+			return;
+		}
+		long length = stampFile.length();
+		long lastModified = stampFile.lastModified();
+		if (lastModified == 0) {
+			return;
+		}
+		String key = getKey(url, abbreviated);
+		File file = getCacheFile(key);
+		Map<String, Integer> strings = new LinkedHashMap<>();
+		List<Object> tree = new ArrayList<>();
+		encode(root, strings, tree);
+		try {
+			Files.createDirectories(fCacheFolder.toPath());
+			// several threads may store the same schema
+			File tmp = File.createTempFile(file.getName(), ".tmp", fCacheFolder); //$NON-NLS-1$
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+					out.writeInt(MAGIC);
+					out.writeInt(FORMAT_VERSION);
+					writeString(out, key);
+					out.writeLong(length);
+					out.writeLong(lastModified);
+					out.writeInt(strings.size());
+					for (String string : strings.keySet()) {
+						writeString(out, string);
+					}
+					for (Object token : tree) {
+						if (token instanceof Byte tag) {
+							out.writeByte(tag.byteValue());
+						} else {
+							out.writeInt(((Integer) token).intValue());
+						}
+					}
+				}
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				tmp.delete();
+			}
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+	/**
+	 * Deletes the files that were not used for {@link #UNUSED_FILE_AGE}.
+	 */
+	public void prune() {
+		File[] files = fCacheFolder.listFiles();
+		if (files == null) {
+			return;
+		}
+		long oldest = System.currentTimeMillis() - UNUSED_FILE_AGE;
+		for (File file : files) {
+			long lastModified = file.lastModified();
+			if (lastModified != 0 && lastModified < oldest) {
+				file.delete();
+			}
+		}
+	}
+
+	/**
+	 * Marks a file as used by updating its modification time, at most once a
+	 * day.
+	 */
+	private static void markUsed(File file) {
+		long now = System.currentTimeMillis();
+		if (file.lastModified() < now - TimeUnit.DAYS.toMillis(1)) {
+			file.setLastModified(now);
+		}
+	}
+
+	/**
+	 * Deletes all files of this cache.
+	 */
+	public void clear() {
+		File[] files = fCacheFolder.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+
+	/**
+	 * @return number of schemas restored from this cache
+	 */
+	public int getHits() {
+		return fHits.get();
+	}
+
+	/**
+	 * @return number of cacheable schemas that had to be parsed
+	 */
+	public int getMisses() {
+		return fMisses.get();
+	}
+
+	/**
+	 * Flattens the given element into tokens: tags as {@link Byte}s and
+	 * indices into the string table as {@link Integer}s.
+	 */
+	private static void encode(Node element, Map<String, Integer> strings, List<Object> tree) {
+		tree.add(Byte.valueOf(ELEMENT));
+		tree.add(intern(element.getNodeName(), strings));
+		NamedNodeMap attributes = element.getAttributes();
+		int attributeCount = attributes == null ? 0 : attributes.getLength();
+		tree.add(Integer.valueOf(attributeCount));
+		for (int i = 0; i < attributeCount; i++) {
+			Node attribute = attributes.item(i);
+			tree.add(intern(attribute.getNodeName(), strings));
+			tree.add(intern(attribute.getNodeValue(), strings));
+		}
+		NodeList children = element.getChildNodes();
+		for (int i = 0; i < children.getLength(); i++) {
+			Node child = children.item(i);
+			if (child.getNodeType() == Node.ELEMENT_NODE) {
+				encode(child, strings, tree);
+			} else if (child.getNodeType() == Node.TEXT_NODE) {
+				tree.add(Byte.valueOf(TEXT));
+				tree.add(intern(child.getNodeValue(), strings));
+			}
+		}
+		tree.add(Byte.valueOf(END));
+	}
+
+	private static Integer intern(String string, Map<String, Integer> strings) {
+		return strings.computeIfAbsent(string, s -> Integer.valueOf(strings.size()));
+	}
+
+	private static Element readElement(DataInputStream in, Document document, String[] strings) throws IOException {
+		Element element = document.createElement(strings[in.readInt()]);
+		int attributeCount = in.readInt();
+		for (int i = 0; i < attributeCount; i++) {
+			element.setAttribute(strings[in.readInt()], strings[in.readInt()]);
+		}
+		byte tag;
+		while ((tag = in.readByte()) != END) {
+			switch (tag) {
+				case ELEMENT -> element.appendChild(readElement(in, document, strings));
+				case TEXT -> element.appendChild(document.createTextNode(strings[in.readInt()]));
+				default -> throw new IOException("Unknown node kind " + tag); //$NON-NLS-1$
+			}
+		}
+		return element;
+	}
+
+	private static String getKey(URL url, boolean abbreviated) {
+		return url.toExternalForm() + (abbreviated ? "#abbreviated" : ""); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private File getCacheFile(String key) {
+		// the key is stored in the file, so hash collisions are detected
+		return new File(fCacheFolder, Integer.toHexString(key.hashCode()) + CACHE_EXTENSION);
+	}
+
+	/**
+	 * Returns the file whose size and modification time validate a cached
+	 * schema: the bundle archive of <code>jar:</code> URLs or the schema file
+	 * of <code>file:</code> URLs.
+	 */
+	static File getStampFile(URL url) {
+		String protocol = url.getProtocol();
+		if ("file".equals(protocol)) { //$NON-NLS-1$
+			return new File(url.getFile());
+		}
+		if ("jar".equals(protocol)) { //$NON-NLS-1$
+			String spec = url.getFile();
+			int separator = spec.indexOf("!/"); //$NON-NLS-1$
+			if (separator != -1 && spec.startsWith("file:")) { //$NON-NLS-1$
+				return new File(spec.substring("file:".length(), separator)); //$NON-NLS-1$
+			}
+		}
+		return null;
+	}
+
+	/*
+	 * DataOutput#writeUTF is limited to 64k, which may be exceeded by the
+	 * documentation of a schema
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > in.available()) {
+			throw new IOException("Invalid string length: " + length); //$NON-NLS-1$
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
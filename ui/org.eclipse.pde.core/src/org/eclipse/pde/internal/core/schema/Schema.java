@@ -425,11 +425,28 @@ public class Schema extends PlatformObject implements ISchema {
 	}
 
 	public void load() {
+		CompiledSchemaCache cache = fURL != null ? CompiledSchemaCache.getDefault() : null;
+		if (cache != null) {
+			Node root = cache.load(fURL, fAbbreviated);
+			if (root != null) {
+				try {
+					traverseDocumentTree(root);
+					return;
+				} catch (Exception e) {
+					// fall back to the schema file
+					PDECore.logException(e);
+					reset();
+				}
+			}
+		}
 		URLConnection connection = null;
 		try {
 			connection = SchemaUtil.getURLConnection(fURL);
 			try (InputStream input = connection.getInputStream()) {
-				load(input);
+				Node root = loadDocument(input);
+				if (root != null && fLoaded && cache != null) {
+					cache.store(fURL, fAbbreviated, root);
+				}
 			}
 		} catch (FileNotFoundException e) {
 			fLoaded = false;
@@ -446,13 +463,25 @@ public class Schema extends PlatformObject implements ISchema {
 	}
 
 	public void load(InputStream stream) {
+		loadDocument(stream);
+	}
+
+	/**
+	 * Parses the schema from the given stream and builds its model.
+	 *
+	 * @return the parsed root element or <code>null</code> if the schema could
+	 *         not be parsed
+	 */
+	private Node loadDocument(InputStream stream) {
 		try {
 			XMLDefaultHandler handler = new XMLDefaultHandler(fAbbreviated);
 			@SuppressWarnings("restriction")
 			SAXParser parser = org.eclipse.core.internal.runtime.XmlProcessorFactory
 					.createSAXParserWithErrorOnDOCTYPE();
 			parser.parse(stream, handler);
-			traverseDocumentTree(handler.getDocumentElement());
+			Node root = handler.getDocumentElement();
+			traverseDocumentTree(root);
+			return root;
 		} catch (SAXException e) {
 			// ignore parse errors - 'loaded' will be false anyway
 		} catch (IOException e) {
@@ -460,6 +489,7 @@ public class Schema extends PlatformObject implements ISchema {
 		} catch (Exception e) {
 			PDECore.logException(e);
 		}
+		return null;
 	}
 
 	private ISchemaAttribute processAttribute(ISchemaElement element, Node elementNode) {
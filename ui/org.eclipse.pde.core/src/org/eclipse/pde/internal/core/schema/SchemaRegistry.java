@@ -16,7 +16,9 @@ package org.eclipse.pde.internal.core.schema;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.core.plugin.IFragment;
@@ -35,15 +37,18 @@ import org.eclipse.pde.internal.core.util.CoreUtility;
 
 public class SchemaRegistry {
 
-	private final HashMap<String, ISchemaDescriptor> fRegistry = new HashMap<>();
+	/**
+	 * Descriptors by extension point id or URL of included schemas. Schemas
+	 * are loaded by their descriptors outside of the map, so loading a schema
+	 * does not block lookups of other schemas.
+	 */
+	private final Map<String, ISchemaDescriptor> fRegistry = new ConcurrentHashMap<>();
 
 	public ISchema getSchema(String extPointID) {
 		IPluginExtensionPoint point = PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(extPointID);
 		if (point == null) {
 			// if there is an old schema associated with this extension point, release it.
-			if (fRegistry.containsKey(extPointID)) {
-				fRegistry.remove(extPointID);
-			}
+			fRegistry.remove(extPointID);
 			return null;
 		}
 
@@ -52,12 +57,7 @@ public class SchemaRegistry {
 			return null;
 		}
 
-		ISchemaDescriptor desc = getExistingDescriptor(extPointID, url);
-		if (desc == null) {
-			desc = new SchemaDescriptor(extPointID, url);
-			fRegistry.put(extPointID, desc);
-		}
-
+		ISchemaDescriptor desc = getDescriptor(extPointID, url, () -> new SchemaDescriptor(extPointID, url));
 		return desc.getSchema(true);
 	}
 
@@ -68,26 +68,23 @@ public class SchemaRegistry {
 				return null;
 			}
 
-			ISchemaDescriptor desc = getExistingDescriptor(url.toString(), url);
-			if (desc == null) {
-				desc = new IncludedSchemaDescriptor(url);
-				fRegistry.put(url.toString(), desc);
-			}
+			ISchemaDescriptor desc = getDescriptor(url.toString(), url, () -> new IncludedSchemaDescriptor(url));
 			return desc.getSchema(true);
 		} catch (MalformedURLException e) {
 		}
 		return null;
 	}
 
-	private ISchemaDescriptor getExistingDescriptor(String key, URL url) {
-		ISchemaDescriptor desc = null;
-		if (fRegistry.containsKey(key)) {
-			desc = fRegistry.get(key);
-			if (hasSchemaChanged(desc, url)) {
-				desc = null;
-			}
+	/**
+	 * Returns the registered descriptor of the given key or registers a new
+	 * one if there is none or the schema has changed since it was registered.
+	 */
+	private ISchemaDescriptor getDescriptor(String key, URL url, Supplier<ISchemaDescriptor> factory) {
+		ISchemaDescriptor desc = fRegistry.get(key);
+		if (desc != null && !hasSchemaChanged(desc, url)) {
+			return desc;
 		}
-		return desc;
+		return fRegistry.compute(key, (k, existing) -> existing == null || hasSchemaChanged(existing, url) ? factory.get() : existing);
 	}
 
 	public static URL getSchemaURL(IPluginExtensionPoint point, IPluginModelBase base) {
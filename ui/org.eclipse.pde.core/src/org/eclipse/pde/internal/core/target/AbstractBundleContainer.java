@@ -278,6 +278,22 @@ public abstract class AbstractBundleContainer extends PlatformObject implements
 		// Do nothing by default
 	}
 
+	/**
+	 * Returns a stamp describing the configuration and the content of this
+	 * container. If the stamp did not change since this container was
+	 * resolved, an incremental resolution of the target keeps the resolved
+	 * content. By default the stamp is the serialized form of this container,
+	 * subclasses that read from the file system should add stamps of the
+	 * locations they scan.
+	 *
+	 * @return stamp or <code>null</code> if this container must always be
+	 *         resolved again
+	 * @throws CoreException if the stamp can not be computed
+	 */
+	protected String getResolutionStamp() throws CoreException {
+		return serialize();
+	}
+
 	@Override
 	public String serialize() {
 		// The default implementation returns null as most containers do not use the new UI
@@ -28,6 +28,7 @@ import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.core.target.TargetFeature;
 import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.core.ICoreConstants;
 
 /**
  * A directory of bundles.
@@ -41,6 +42,14 @@ public class DirectoryBundleContainer extends AbstractBundleContainer {
 	 */
 	public static final String TYPE = "Directory"; //$NON-NLS-1$
 
+	/**
+	 * Descriptors of directory bundles and features whose changes require a
+	 * new resolution
+	 */
+	private static final String[] DESCRIPTORS = { ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR,
+			ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR,
+			ICoreConstants.FEATURE_FILENAME_DESCRIPTOR };
+
 	/**
 	 * Path to this container's directory in the local file system.
 	 * The path may contain string substitution variables.
@@ -169,6 +178,50 @@ public class DirectoryBundleContainer extends AbstractBundleContainer {
 		return root;
 	}
 
+	@Override
+	protected String getResolutionStamp() throws CoreException {
+		// bundles and features added or removed change the modification time
+		// of the scanned directories, replaced or edited ones the stamp of
+		// their entry
+		File dir = getDirectory();
+		File site = getSite(dir);
+		File featureSite = getFeatureSite(dir);
+		StringBuilder stamp = new StringBuilder(getType()).append(':').append(dir.getAbsolutePath());
+		stamp.append(':').append(dir.lastModified());
+		stamp.append(':').append(Long.toHexString(getEntriesStamp(site)));
+		if (!featureSite.equals(site)) {
+			stamp.append(':').append(Long.toHexString(getEntriesStamp(featureSite)));
+		}
+		return stamp.toString();
+	}
+
+	/**
+	 * Returns a hash of the names, sizes and modification times of the entries
+	 * of the given directory. For directory entries, the modification times of
+	 * their bundle and feature descriptors are used, as editing these does not
+	 * change the modification time of the entry itself.
+	 */
+	private static long getEntriesStamp(File site) {
+		File[] entries = site.listFiles();
+		if (entries == null) {
+			return 0;
+		}
+		Arrays.sort(entries);
+		long stamp = site.lastModified();
+		for (File entry : entries) {
+			stamp = 31 * stamp + entry.getName().hashCode();
+			stamp = 31 * stamp + entry.lastModified();
+			if (entry.isDirectory()) {
+				for (String descriptor : DESCRIPTORS) {
+					stamp = 31 * stamp + new File(entry, descriptor).lastModified();
+				}
+			} else {
+				stamp = 31 * stamp + entry.length();
+			}
+		}
+		return stamp;
+	}
+
 	public void reload() {
 		clearResolutionStatus();
 	}
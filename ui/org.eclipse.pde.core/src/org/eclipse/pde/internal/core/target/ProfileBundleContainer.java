@@ -285,6 +285,22 @@ public class ProfileBundleContainer extends AbstractBundleContainer {
 		return null;
 	}
 
+	@Override
+	protected String getResolutionStamp() throws CoreException {
+		// installing or removing bundles updates the bundles.info below the configuration area
+		File home = resolveHomeLocation().toFile();
+		StringBuilder stamp = new StringBuilder(getType()).append(':').append(home.getAbsolutePath());
+		stamp.append(':').append(home.lastModified());
+		stamp.append(':').append(new File(home, "plugins").lastModified()); //$NON-NLS-1$
+		File configurationArea = getConfigurationArea();
+		if (configurationArea != null) {
+			File bundlesInfo = new File(configurationArea, "org.eclipse.equinox.simpleconfigurator/bundles.info"); //$NON-NLS-1$
+			stamp.append(':').append(configurationArea.lastModified());
+			stamp.append(':').append(bundlesInfo.lastModified());
+		}
+		return stamp.toString();
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (o instanceof ProfileBundleContainer pbc) {
@@ -32,6 +32,16 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.ParserConfigurationException;
@@ -42,6 +52,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -117,7 +128,7 @@ public class TargetDefinition implements ITargetDefinition {
 	public static final int MODE_FEATURE = 1;
 
 	// cache of features found for a given location, maps a string path location to a array of IFeatureModels (IFeatureModel[])
-	private static Map<String, TargetFeature[]> fFeaturesInLocation = new HashMap<>();
+	private static Map<String, TargetFeature[]> fFeaturesInLocation = new ConcurrentHashMap<>();
 
 	// internal cache for features.  A target managed by features will contain a set of features as well as a set of plug-ins that don't belong to a feature
 	private TargetFeature[] fFeatures;
@@ -125,6 +136,10 @@ public class TargetDefinition implements ITargetDefinition {
 
 	private int fSequenceNumber = -1;
 
+	// resolution stamps of the locations at the time they were last resolved incrementally, used for incremental resolution
+	// (resolve jobs and editors may access them from different threads)
+	private final Map<ITargetLocation, String> fResolvedStamps = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructs a target definition based on the given handle.
 	 */
@@ -363,55 +378,131 @@ public class TargetDefinition implements ITargetDefinition {
 
 	@Override
 	public IStatus resolve(IProgressMonitor monitor) {
+		return resolve(monitor, false);
+	}
+
+	/**
+	 * Resolves all locations of this target. When resolving incrementally,
+	 * locations that are still resolved and whose resolution stamp (see
+	 * {@link AbstractBundleContainer#getResolutionStamp()}) did not change
+	 * since the last incremental resolution of this target are not resolved
+	 * again. The p2 synchronization of repository based locations is only
+	 * performed if one of them changed. A full resolution computes no stamps,
+	 * so the next incremental resolution resolves all locations.
+	 *
+	 * @param monitor
+	 *            progress monitor or <code>null</code>
+	 * @param incremental
+	 *            whether unchanged locations are kept as they are
+	 * @return resolution multi-status
+	 */
+	public IStatus resolve(IProgressMonitor monitor, boolean incremental) {
 		ITargetLocation[] targetLocations = getTargetLocations();
 		if (targetLocations == null || targetLocations.length == 0) {
+			fResolvedStamps.clear();
 			// if we do not do anything, we can't do anything wrong...
 			return fResolutionStatus = Status.OK_STATUS;
 		}
 		fResolutionStatus = null;
 		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.TargetDefinition_1, targetLocations.length * 100);
+		Map<ITargetLocation, String> stamps = new HashMap<>();
 		try {
 			MultiStatus status = new MultiStatus(PDECore.PLUGIN_ID, 0, Messages.TargetDefinition_2, null);
 			Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new HashMap<>();
-			// clear all previous maps
-			P2TargetUtils.fgTargetArtifactRepo.clear();
-			P2TargetUtils.fgArtifactKeyRepoFile.clear();
+			Set<P2TargetUtils> changedSynchronizers = new HashSet<>();
+			List<ITargetLocation> changedLocations = new ArrayList<>();
 			for (ITargetLocation location : targetLocations) {
-				subMonitor.checkCanceled();
-				subMonitor.subTask(Messages.TargetDefinition_4);
+				// computing a stamp may list directories, so it is skipped
+				// when the stamps are never compared
+				String stamp = incremental ? getResolutionStamp(location) : null;
+				if (stamp != null) {
+					stamps.put(location, stamp);
+				}
+				boolean unchanged = incremental && location.isResolved() && stamp != null
+						&& stamp.equals(fResolvedStamps.get(location));
 				P2TargetUtils synchronizer = location.getAdapter(P2TargetUtils.class);
-				if (synchronizer == null) {
-					// a usual target definition location
-					IStatus s = location.resolve(this, subMonitor.split(100));
-					if (!s.isOK()) {
-						status.add(s);
-					}
-				} else {
+				if (synchronizer != null) {
 					// has to be performed later on in a separate batch
 					synchronizers.computeIfAbsent(synchronizer, nil -> new ArrayList<>()).add(location);
+					if (!unchanged) {
+						changedSynchronizers.add(synchronizer);
+					}
+				} else if (!unchanged) {
+					changedLocations.add(location);
+				} else {
+					addProblems(location, status);
 				}
 			}
-			if (!synchronizers.isEmpty()) {
-				List<ITargetLocation> delayedLocations = synchronizers.values().stream().flatMap(Collection::stream)
-						.toList();
-				subMonitor.setWorkRemaining(synchronizers.size() * 100 + delayedLocations.size());
-				for (Entry<P2TargetUtils, List<ITargetLocation>> entry : synchronizers.entrySet()) {
-					subMonitor.checkCanceled();
-					try {
-						entry.getKey().synchronize(this, subMonitor.split(100));
-						entry.getValue().stream().map(loc -> loc.getStatus()).filter(Objects::nonNull)
-								.filter(s -> !s.isOK()).forEach(status::add);
-					} catch (CoreException e) {
-						PDECore.log(e.getStatus());
-						status.add(e.getStatus());
-					}
+			if (!incremental || !changedSynchronizers.isEmpty()) {
+				// clear all previous maps
+				if (incremental) {
+					P2TargetUtils.fgTargetArtifactRepo.remove(this);
+				} else {
+					P2TargetUtils.fgTargetArtifactRepo.clear();
+					P2TargetUtils.fgArtifactKeyRepoFile.clear();
+				}
+			}
+			// The locations of PDE are resolved concurrently and the batched
+			// p2 synchronization overlaps with them. Locations contributed by
+			// other plug-ins are resolved on the calling thread, as they may
+			// not expect concurrent calls. The results are collected in the
+			// order of the locations.
+			List<ResolutionTask> tasks = new ArrayList<>();
+			List<ITargetLocation> referenceLocations = new ArrayList<>();
+			for (ITargetLocation location : changedLocations) {
+				if (location instanceof TargetReferenceBundleContainer) {
+					// resolving a referenced target resets the shared p2
+					// artifact maps, so it must not overlap with the p2
+					// synchronization
+					referenceLocations.add(location);
+					continue;
+				}
+				// a usual target definition location
+				tasks.add(new ResolutionTask(locationMonitor -> List.of(location.resolve(this, locationMonitor)), 100,
+						isConcurrent(location)));
+			}
+			List<Entry<P2TargetUtils, List<ITargetLocation>>> changedBatches = new ArrayList<>();
+			for (Entry<P2TargetUtils, List<ITargetLocation>> entry : synchronizers.entrySet()) {
+				if (incremental && !changedSynchronizers.contains(entry.getKey())) {
+					entry.getValue().forEach(loc -> addProblems(loc, status));
+				} else {
+					changedBatches.add(entry);
 				}
-				for (ITargetLocation location : delayedLocations) {
-					subMonitor.checkCanceled();
-					IStatus s = location.resolve(this, subMonitor.split(1));
-					if (!s.isOK()) {
-						status.add(s);
+			}
+			if (!changedBatches.isEmpty() || !referenceLocations.isEmpty()) {
+				// p2 synchronizations share the profile registry, the bundle
+				// pool and the artifact maps with referenced targets, so they
+				// run one after the other in one task, after the references
+				int work = referenceLocations.size() * 100
+						+ changedBatches.stream().mapToInt(entry -> 100 + entry.getValue().size()).sum();
+				tasks.add(new ResolutionTask(synchronizerMonitor -> {
+					SubMonitor taskMonitor = SubMonitor.convert(synchronizerMonitor, work);
+					List<IStatus> result = new ArrayList<>();
+					for (ITargetLocation location : referenceLocations) {
+						result.add(location.resolve(this, taskMonitor.split(100)));
 					}
+					for (Entry<P2TargetUtils, List<ITargetLocation>> entry : changedBatches) {
+						List<ITargetLocation> delayedLocations = entry.getValue();
+						try {
+							entry.getKey().synchronize(this, taskMonitor.split(100));
+							delayedLocations.stream().map(loc -> loc.getStatus()).filter(Objects::nonNull)
+									.filter(s -> !s.isOK()).forEach(result::add);
+						} catch (CoreException e) {
+							PDECore.log(e.getStatus());
+							result.add(e.getStatus());
+						}
+						for (ITargetLocation location : delayedLocations) {
+							result.add(location.resolve(this, taskMonitor.split(1)));
+						}
+					}
+					return result;
+				}, work, true));
+			}
+			subMonitor.setWorkRemaining(tasks.stream().mapToInt(ResolutionTask::work).sum());
+			subMonitor.subTask(Messages.TargetDefinition_4);
+			for (IStatus s : runConcurrently(tasks, subMonitor)) {
+				if (!s.isOK()) {
+					status.add(s);
 				}
 			}
 			if (status.isOK()) {
@@ -419,14 +510,173 @@ public class TargetDefinition implements ITargetDefinition {
 			}
 			return fResolutionStatus = status;
 		} catch (OperationCanceledException e) {
+			stamps.clear();
 			return Status.CANCEL_STATUS;
 		} finally {
+			fResolvedStamps.clear();
+			fResolvedStamps.putAll(stamps);
 			// keep a list of resolved targets with key as handle
 			TargetPlatformHelper.addTargetDefinitionMap(this);
 			subMonitor.done();
 		}
 	}
 
+	/**
+	 * A part of the resolution of a target
+	 *
+	 * @param action
+	 *            resolves one or more locations and returns their statuses
+	 * @param work
+	 *            the amount of work of the task
+	 * @param concurrent
+	 *            whether the task may run concurrently with the others
+	 */
+	private static record ResolutionTask(Function<IProgressMonitor, List<IStatus>> action, int work,
+			boolean concurrent) {
+	}
+
+	/**
+	 * @return whether the given location may be resolved concurrently with
+	 *         other locations of the same target
+	 */
+	private static boolean isConcurrent(ITargetLocation location) {
+		// these only share the thread-safe feature cache of the target
+		return location instanceof DirectoryBundleContainer || location instanceof ProfileBundleContainer
+				|| location instanceof FeatureBundleContainer;
+	}
+
+	/**
+	 * Runs the given resolution tasks and returns their statuses in the order
+	 * of the tasks. Concurrent tasks run on a bounded pool, while the others
+	 * run on the calling thread. Workers get a monitor that is canceled with
+	 * the given one and whose latest sub task is shown by the calling thread,
+	 * progress of the given monitor is reported on the calling thread when a
+	 * task completes.
+	 */
+	private static List<IStatus> runConcurrently(List<ResolutionTask> tasks, SubMonitor monitor) {
+		int concurrentCount = (int) tasks.stream().filter(ResolutionTask::concurrent).count();
+		if (concurrentCount <= 1) {
+			List<IStatus> result = new ArrayList<>();
+			for (ResolutionTask task : tasks) {
+				result.addAll(task.action().apply(monitor.split(task.work())));
+			}
+			return result;
+		}
+		int threads = Math.min(concurrentCount, Math.max(1, Runtime.getRuntime().availableProcessors()));
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "Target location resolver"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		WorkerMonitor workerMonitor = new WorkerMonitor(monitor);
+		try {
+			CompletionService<List<IStatus>> completion = new ExecutorCompletionService<>(executor);
+			Map<Future<List<IStatus>>, Integer> pending = new HashMap<>();
+			List<List<IStatus>> results = new ArrayList<>(Collections.nCopies(tasks.size(), List.of()));
+			for (int i = 0; i < tasks.size(); i++) {
+				ResolutionTask task = tasks.get(i);
+				if (task.concurrent()) {
+					pending.put(completion.submit(() -> task.action().apply(workerMonitor)), i);
+				}
+			}
+			for (int i = 0; i < tasks.size(); i++) {
+				ResolutionTask task = tasks.get(i);
+				if (!task.concurrent()) {
+					results.set(i, task.action().apply(monitor.split(task.work())));
+				}
+			}
+			while (!pending.isEmpty()) {
+				monitor.checkCanceled();
+				String subTask = workerMonitor.takeSubTask();
+				if (subTask != null) {
+					monitor.subTask(subTask);
+				}
+				Future<List<IStatus>> future = completion.poll(100, TimeUnit.MILLISECONDS);
+				if (future != null) {
+					int i = pending.remove(future);
+					results.set(i, getResult(future));
+					monitor.worked(tasks.get(i).work());
+				}
+			}
+			return results.stream().flatMap(List::stream).toList();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			// stops the remaining workers after a cancellation or a failure
+			workerMonitor.setCanceled(true);
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Monitor of the workers resolving locations concurrently. The monitor of
+	 * the resolution is not thread-safe, so workers only read its
+	 * cancellation, and their sub tasks are passed on by the calling thread.
+	 */
+	private static final class WorkerMonitor extends NullProgressMonitor {
+
+		private final IProgressMonitor fMonitor;
+		private final AtomicReference<String> fSubTask = new AtomicReference<>();
+
+		WorkerMonitor(IProgressMonitor monitor) {
+			fMonitor = monitor;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return super.isCanceled() || fMonitor.isCanceled();
+		}
+
+		@Override
+		public void subTask(String name) {
+			if (name != null && !name.isEmpty()) {
+				fSubTask.set(name);
+			}
+		}
+
+		/**
+		 * @return the latest sub task of a worker since the last call or
+		 *         <code>null</code>
+		 */
+		String takeSubTask() {
+			return fSubTask.getAndSet(null);
+		}
+	}
+
+	private static List<IStatus> getResult(Future<List<IStatus>> future) throws InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof OperationCanceledException cancel) {
+				throw cancel;
+			}
+			return List.of(Status.error(e.getCause().getMessage(), e.getCause()));
+		}
+	}
+
+	/**
+	 * @return the resolution stamp of the given location or <code>null</code>
+	 *         if the location must always be resolved again
+	 */
+	private static String getResolutionStamp(ITargetLocation location) {
+		if (location instanceof AbstractBundleContainer container) {
+			try {
+				return container.getResolutionStamp();
+			} catch (CoreException e) {
+				return null;
+			}
+		}
+		return null;
+	}
+
+	private static void addProblems(ITargetLocation location, MultiStatus status) {
+		IStatus s = location.getStatus();
+		if (s != null && !s.isOK()) {
+			status.add(s);
+		}
+	}
+
 	@Override
 	public boolean isResolved() {
 		ITargetLocation[] containers = getTargetLocations();
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.util;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Caches the types found on the classpath of Java projects and the package
+ * fragments of the projects themselves, so validating many class names of a
+ * project, e.g. the class attributes of a large <code>plugin.xml</code>, does
+ * not search the classpath and collect the package fragments again for each
+ * attribute.
+ * <p>
+ * The cache is cleared by every Java element delta, including reconciled
+ * working copies, and when a workspace build starts.
+ * </p>
+ */
+public class JavaTypeCache implements IElementChangedListener {
+
+	/**
+	 * The cached lookups of a Java project
+	 */
+	private static final class ProjectEntry {
+		final Map<String, Optional<IType>> types = new ConcurrentHashMap<>();
+		volatile Set<IPackageFragment> packageFragments;
+	}
+
+	/**
+	 * Replaced as a whole when the cache is cleared, so a lookup that was
+	 * running concurrently can only store its result in the discarded map
+	 */
+	private volatile Map<IJavaProject, ProjectEntry> fEntries = new ConcurrentHashMap<>();
+
+	public void start() {
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	public void shutdown() {
+		JavaCore.removeElementChangedListener(this);
+		clear();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		clear();
+	}
+
+	/**
+	 * Discards all cached lookups.
+	 */
+	public void clear() {
+		fEntries = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the type with the given name on the classpath of the given
+	 * project.
+	 *
+	 * @param project the Java project
+	 * @param fullyQualifiedName fully qualified name of the type, with
+	 *            <code>.</code> separating nested types
+	 * @return the type or <code>null</code> if it does not exist
+	 */
+	public IType findType(IJavaProject project, String fullyQualifiedName) {
+		Map<String, Optional<IType>> types = getEntry(project).types;
+		Optional<IType> type = types.get(fullyQualifiedName);
+		if (type == null) {
+			// searching the classpath can take a while, don't block other
+			// lookups while doing so
+			type = Optional.ofNullable(lookupType(project, fullyQualifiedName));
+			types.put(fullyQualifiedName, type);
+		}
+		return type.orElse(null);
+	}
+
+	/**
+	 * Returns the package fragments of the given project, as returned by
+	 * {@link PDEJavaHelper#getPackageFragmentsHash(IJavaProject, java.util.Collection, boolean)}
+	 * for no existing packages and without the <code>java</code> packages.
+	 *
+	 * @param project the Java project
+	 * @return the package fragments of the project
+	 */
+	public Set<IPackageFragment> getPackageFragments(IJavaProject project) {
+		ProjectEntry entry = getEntry(project);
+		Set<IPackageFragment> fragments = entry.packageFragments;
+		if (fragments == null) {
+			fragments = Collections.unmodifiableSet(new HashSet<>(PDEJavaHelper.getPackageFragmentsHash(project, Collections.emptyList(), false).values()));
+			entry.packageFragments = fragments;
+		}
+		return fragments;
+	}
+
+	private ProjectEntry getEntry(IJavaProject project) {
+		return fEntries.computeIfAbsent(project, p -> new ProjectEntry());
+	}
+
+	/**
+	 * Returns the type with the given name on the classpath of the given
+	 * project without caching.
+	 */
+	static IType lookupType(IJavaProject project, String fullyQualifiedName) {
+		try {
+			IType type = project.findType(fullyQualifiedName);
+			if (type != null && type.exists()) {
+				return type;
+			}
+		} catch (JavaModelException e) {
+		}
+		return null;
+	}
+}
@@ -65,16 +65,14 @@ public class PDEJavaHelper {
 
 	public static boolean isDiscouraged(String fullyQualifiedName, IJavaProject project, BundleDescription desc) {
 		// allow classes within the project itself
-		try {
-			IType type = project.findType(fullyQualifiedName.replace('$', '.'));
-			if (type != null && type.exists()) {
-				HashMap<String, IPackageFragment> map = PDEJavaHelper.getPackageFragmentsHash(project,
-						Collections.emptyList(), false);
-				if (map.containsValue(type.getPackageFragment())) {
-					return false;
-				}
+		IType type = findType(fullyQualifiedName, project);
+		if (type != null) {
+			JavaTypeCache cache = getTypeCache();
+			Collection<IPackageFragment> fragments = cache != null ? cache.getPackageFragments(project)
+					: getPackageFragmentsHash(project, Collections.emptyList(), false).values();
+			if (fragments.contains(type.getPackageFragment())) {
+				return false;
 			}
-		} catch (JavaModelException e) {
 		}
 
 		// just grab the package
@@ -104,15 +102,7 @@ public class PDEJavaHelper {
 	}
 
 	public static boolean isOnClasspath(String fullyQualifiedName, IJavaProject project) {
-		if (fullyQualifiedName.indexOf('$') != -1) {
-			fullyQualifiedName = fullyQualifiedName.replace('$', '.');
-		}
-		try {
-			IType type = project.findType(fullyQualifiedName);
-			return type != null && type.exists();
-		} catch (JavaModelException e) {
-		}
-		return false;
+		return findType(fullyQualifiedName, project) != null;
 		/*try {
 			Requestor requestor = new Requestor();
 			new SearchEngine().searchAllTypeNames(
@@ -131,6 +121,25 @@ public class PDEJavaHelper {
 		return false;*/
 	}
 
+	/**
+	 * Returns the type with the given name on the classpath of the given
+	 * project, using the {@link JavaTypeCache} if available.
+	 *
+	 * @param fullyQualifiedName fully qualified name of the type, with
+	 *            <code>$</code> or <code>.</code> separating nested types
+	 * @return the type or <code>null</code> if it does not exist
+	 */
+	private static IType findType(String fullyQualifiedName, IJavaProject project) {
+		String name = fullyQualifiedName.replace('$', '.');
+		JavaTypeCache cache = getTypeCache();
+		return cache != null ? cache.findType(project, name) : JavaTypeCache.lookupType(project, name);
+	}
+
+	private static JavaTypeCache getTypeCache() {
+		PDECore core = PDECore.getDefault();
+		return core != null ? core.getJavaTypeCache() : null;
+	}
+
 	public static IJavaSearchScope getSearchScope(IJavaProject project) {
 		return SearchEngine.createJavaSearchScope(getNonJRERoots(project));
 	}
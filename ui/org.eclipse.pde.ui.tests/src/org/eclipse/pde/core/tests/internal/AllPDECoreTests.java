@@ -6,7 +6,11 @@ import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
 @SuiteClasses({ //
+	CompiledSchemaCacheTest.class, //
 	DependencyManagerTest.class, //
+	ExportedPackageIndexTest.class, //
+	PluginHandlerTest.class, //
+	TargetManifestCacheTest.class, //
 	WorkspaceModelManagerTest.class, //
 	WorkspaceProductModelManagerTest.class, //
 })
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.eclipse.pde.internal.core.schema.CompiledSchemaCache;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Element;
+
+public class CompiledSchemaCacheTest {
+
+	private static final String SCHEMA = """
+			<schema targetNamespace="a.bundle">
+			<annotation><appInfo><meta.schema plugin="a.bundle" id="point" name="Point"/></appInfo>
+			<documentation>Some documentation</documentation></annotation>
+			<element name="extension"><complexType><attribute name="point" type="string" use="required"/></complexType></element>
+			</schema>""";
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testStoredSchemaIsRestored() throws Exception {
+		File schema = createSchema(SCHEMA);
+		URL url = schema.toURI().toURL();
+		CompiledSchemaCache cache = new CompiledSchemaCache(folder.newFolder("cache"));
+		assertNull(cache.load(url, false));
+
+		cache.store(url, false, parse(schema));
+
+		Element root = new CompiledSchemaCache(new File(folder.getRoot(), "cache")).load(url, false);
+		assertNotNull(root);
+		assertEquals("schema", root.getNodeName());
+		assertEquals("a.bundle", root.getAttribute("targetNamespace"));
+		Element documentation = (Element) root.getElementsByTagName("documentation").item(0);
+		assertEquals("Some documentation", documentation.getTextContent());
+		Element attribute = (Element) root.getElementsByTagName("attribute").item(0);
+		assertEquals("required", attribute.getAttribute("use"));
+		// abbreviated schemas are cached separately
+		assertNull(cache.load(url, true));
+	}
+
+	@Test
+	public void testChangedSchemaIsNotRestored() throws Exception {
+		File schema = createSchema(SCHEMA);
+		URL url = schema.toURI().toURL();
+		CompiledSchemaCache cache = new CompiledSchemaCache(folder.newFolder("cache"));
+		cache.store(url, false, parse(schema));
+
+		Files.writeString(schema.toPath(), SCHEMA.replace("Point", "Changed Point"));
+		schema.setLastModified(schema.lastModified() + 2000);
+		assertNull(cache.load(url, false));
+	}
+
+	@Test
+	public void testCorruptStringLengthIsIgnored() throws Exception {
+		File schema = createSchema(SCHEMA);
+		URL url = schema.toURI().toURL();
+		File cacheFolder = folder.newFolder("cache");
+		CompiledSchemaCache cache = new CompiledSchemaCache(cacheFolder);
+		cache.store(url, false, parse(schema));
+
+		// replace the length of the key by a huge value
+		for (File file : cacheFolder.listFiles()) {
+			byte[] bytes = Files.readAllBytes(file.toPath());
+			bytes[8] = 0x7f;
+			Files.write(file.toPath(), bytes);
+		}
+		assertNull(cache.load(url, false));
+	}
+
+	@Test
+	public void testBrokenFileIsIgnored() throws Exception {
+		File schema = createSchema(SCHEMA);
+		URL url = schema.toURI().toURL();
+		File cacheFolder = folder.newFolder("cache");
+		CompiledSchemaCache cache = new CompiledSchemaCache(cacheFolder);
+		cache.store(url, false, parse(schema));
+
+		for (File file : cacheFolder.listFiles()) {
+			byte[] bytes = Files.readAllBytes(file.toPath());
+			Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length / 2));
+		}
+		assertNull(cache.load(url, false));
+	}
+
+	@Test
+	public void testUnusedFilesArePruned() throws Exception {
+		File schema = createSchema(SCHEMA);
+		URL url = schema.toURI().toURL();
+		File cacheFolder = folder.newFolder("cache");
+		CompiledSchemaCache cache = new CompiledSchemaCache(cacheFolder);
+		cache.store(url, false, parse(schema));
+		File file = cacheFolder.listFiles()[0];
+
+		// loading a schema marks its file as used
+		assertTrue(file.setLastModified(System.currentTimeMillis() - CompiledSchemaCache.UNUSED_FILE_AGE - 10000));
+		assertNotNull(cache.load(url, false));
+		cache.prune();
+		assertTrue(file.isFile());
+
+		assertTrue(file.setLastModified(System.currentTimeMillis() - CompiledSchemaCache.UNUSED_FILE_AGE - 10000));
+		cache.prune();
+		assertFalse(file.exists());
+	}
+
+	private File createSchema(String contents) throws Exception {
+		File schema = new File(folder.getRoot(), "point.exsd");
+		Files.writeString(schema.toPath(), contents);
+		return schema;
+	}
+
+	private static Element parse(File schema) throws Exception {
+		return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(schema).getDocumentElement();
+	}
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Hashtable;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.internal.core.ExportedPackageIndex;
+import org.junit.Test;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+
+public class ExportedPackageIndexTest {
+
+	private long nextId = 1;
+
+	@Test
+	public void testIndexFindsExports() throws Exception {
+		State state = StateObjectFactory.defaultFactory.createState(true);
+		addBundle(state, "a", "a.api,a.spi");
+		addBundle(state, "b", "b.api");
+		state.resolve();
+
+		ExportedPackageIndex index = ExportedPackageIndex.create(state);
+		assertTrue(index.isValid(state));
+		assertEquals("a", index.getExport("a.spi").getSupplier().getSymbolicName());
+		assertEquals("b", index.getExport("b.api").getSupplier().getSymbolicName());
+		assertNull(index.getExport("c.api"));
+	}
+
+	@Test
+	public void testIndexIsUpdatedByDelta() throws Exception {
+		State state = StateObjectFactory.defaultFactory.createState(true);
+		BundleDescription a = addBundle(state, "a", "a.api");
+		state.resolve();
+		ExportedPackageIndex index = ExportedPackageIndex.create(state);
+
+		addBundle(state, "b", "b.api");
+		state.removeBundle(a);
+		assertFalse(index.isValid(state));
+		StateDelta delta = state.resolve();
+
+		ExportedPackageIndex updated = index.update(delta);
+		assertTrue(updated.isValid(state));
+		assertNull(updated.getExport("a.api"));
+		assertEquals("b", updated.getExport("b.api").getSupplier().getSymbolicName());
+		// the previous index is not modified
+		assertEquals("a", index.getExport("a.api").getSupplier().getSymbolicName());
+	}
+
+	@Test
+	public void testResolvedExporterIsPreferred() throws Exception {
+		State state = StateObjectFactory.defaultFactory.createState(true);
+		Hashtable<String, String> manifest = createManifest("unresolved", "p");
+		manifest.put(Constants.REQUIRE_BUNDLE, "missing");
+		addBundle(state, manifest);
+		addBundle(state, "resolved", "p");
+		state.resolve();
+
+		ExportedPackageIndex index = ExportedPackageIndex.create(state);
+		assertEquals("resolved", index.getExport("p").getSupplier().getSymbolicName());
+	}
+
+	private BundleDescription addBundle(State state, String symbolicName, String exports) throws BundleException {
+		return addBundle(state, createManifest(symbolicName, exports));
+	}
+
+	private BundleDescription addBundle(State state, Hashtable<String, String> manifest) throws BundleException {
+		long id = nextId++;
+		BundleDescription bundle = state.getFactory().createBundleDescription(state, manifest, "location" + id, id);
+		state.addBundle(bundle);
+		return bundle;
+	}
+
+	private static Hashtable<String, String> createManifest(String symbolicName, String exports) {
+		Hashtable<String, String> manifest = new Hashtable<>();
+		manifest.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+		manifest.put(Constants.BUNDLE_SYMBOLICNAME, symbolicName);
+		manifest.put(Constants.BUNDLE_VERSION, "1.0.0");
+		manifest.put(Constants.EXPORT_PACKAGE, exports);
+		return manifest;
+	}
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.internal.runtime.XmlProcessorFactory;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginElement;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
+import org.eclipse.pde.core.plugin.IPluginImport;
+import org.eclipse.pde.core.plugin.IPluginLibrary;
+import org.eclipse.pde.internal.core.plugin.ExternalPluginModel;
+import org.eclipse.pde.internal.core.plugin.PluginHandler;
+import org.junit.Test;
+
+public class PluginHandlerTest {
+
+	private static final String PLUGIN_XML = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<?eclipse version="3.4"?>
+			<plugin id="a.bundle" name="A Bundle" version="1.0.0" provider-name="Eclipse" class="a.bundle.Activator">
+			   <runtime>
+			      <library name="a.jar">
+			         <export name="a.api"/>
+			         <export name="a.spi"/>
+			      </library>
+			      <library name="b.jar">
+			         <export name="*"/>
+			      </library>
+			   </runtime>
+			   <requires>
+			      <import plugin="b.bundle" version="2.0.0" match="compatible" optional="true"/>
+			   </requires>
+			   <extension-point id="point" name="Point" schema="schema/point.exsd"/>
+			   <extension
+			         point="a.bundle.point">
+			      <item id="first">
+			         <description>
+			            Some <!-- split --> text
+			         </description>
+			         <child/>
+			      </item>
+			   </extension>
+			</plugin>
+			""";
+
+	@Test
+	public void testPluginIsLoaded() throws Exception {
+		ExternalPluginModel model = load(PLUGIN_XML);
+		assertTrue(model.isLoaded());
+		IPluginBase plugin = model.getPluginBase();
+		assertEquals("a.bundle", plugin.getId());
+		assertEquals("1.0.0", plugin.getVersion());
+		assertEquals("Eclipse", plugin.getProviderName());
+		assertEquals("a.bundle.Activator", model.getPlugin().getClassName());
+		assertEquals("3.4", plugin.getSchemaVersion());
+
+		IPluginLibrary[] libraries = plugin.getLibraries();
+		assertEquals(2, libraries.length);
+		assertEquals("a.jar", libraries[0].getName());
+		assertArrayEquals(new String[] { "a.api", "a.spi" }, libraries[0].getContentFilters());
+		assertTrue(libraries[1].isFullyExported());
+
+		IPluginImport[] imports = plugin.getImports();
+		assertEquals(1, imports.length);
+		assertEquals("b.bundle", imports[0].getId());
+		assertEquals("2.0.0", imports[0].getVersion());
+		assertTrue(imports[0].isOptional());
+		assertFalse(imports[0].isReexported());
+	}
+
+	@Test
+	public void testExtensionsAreLoaded() throws Exception {
+		IPluginBase plugin = load(PLUGIN_XML).getPluginBase();
+
+		IPluginExtensionPoint[] points = plugin.getExtensionPoints();
+		assertEquals(1, points.length);
+		assertEquals("point", points[0].getId());
+		assertEquals("schema/point.exsd", points[0].getSchema());
+		assertEquals(16, points[0].getStartLine());
+
+		IPluginExtension[] extensions = plugin.getExtensions();
+		assertEquals(1, extensions.length);
+		assertEquals("a.bundle.point", extensions[0].getPoint());
+		// the line where the start tag ends
+		assertEquals(18, extensions[0].getStartLine());
+		IPluginElement item = (IPluginElement) extensions[0].getChildren()[0];
+		assertEquals("first", item.getAttribute("id").getValue());
+		IPluginElement description = (IPluginElement) item.getChildren()[0];
+		assertEquals("Some  text", description.getText());
+		assertNull(((IPluginElement) item.getChildren()[1]).getText());
+	}
+
+	@Test
+	public void testMalformedFileIsNotLoaded() throws Exception {
+		ExternalPluginModel model = load(PLUGIN_XML.replace("</plugin>", ""));
+		assertFalse(model.isLoaded());
+		assertEquals(0, model.getPluginBase().getLibraries().length);
+	}
+
+	@Test
+	public void testSchemaVersionIsReadFromHeader() throws Exception {
+		// the content after the root element is not read
+		String schemaVersion = PluginHandler.readSchemaVersion(XmlProcessorFactory.createSAXParserWithErrorOnDOCTYPE(),
+				toStream(PLUGIN_XML.replace("</plugin>", "<broken")));
+		assertEquals("3.4", schemaVersion);
+	}
+
+	private static ExternalPluginModel load(String contents) throws Exception {
+		ExternalPluginModel model = new ExternalPluginModel();
+		model.load(toStream(contents), true);
+		return model;
+	}
+
+	private static InputStream toStream(String contents) {
+		return new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.eclipse.pde.internal.core.TargetManifestCache;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.Constants;
+
+public class TargetManifestCacheTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testUnchangedBundleIsRestoredFromCache() throws Exception {
+		File bundle = createBundle("a.bundle", "1.0.0");
+		File cacheFile = new File(folder.getRoot(), "cache");
+
+		TargetManifestCache cache = new TargetManifestCache(cacheFile);
+		cache.load();
+		assertEquals("1.0.0", cache.getManifest(bundle).get(Constants.BUNDLE_VERSION));
+		assertEquals(0, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		cache.save();
+
+		TargetManifestCache restored = new TargetManifestCache(cacheFile);
+		restored.load();
+		Map<String, String> manifest = restored.getManifest(bundle);
+		assertEquals("a.bundle", manifest.get(Constants.BUNDLE_SYMBOLICNAME));
+		assertEquals("1.0.0", manifest.get(Constants.BUNDLE_VERSION));
+		assertEquals(1, restored.getHits());
+		assertEquals(0, restored.getMisses());
+	}
+
+	@Test
+	public void testChangedBundleIsReloaded() throws Exception {
+		File bundle = createBundle("a.bundle", "1.0.0");
+		File cacheFile = new File(folder.getRoot(), "cache");
+
+		TargetManifestCache cache = new TargetManifestCache(cacheFile);
+		cache.getManifest(bundle);
+		cache.save();
+
+		createBundle("a.bundle", "1.0.0.qualifier");
+
+		TargetManifestCache restored = new TargetManifestCache(cacheFile);
+		restored.load();
+		assertEquals("1.0.0.qualifier", restored.getManifest(bundle).get(Constants.BUNDLE_VERSION));
+		assertEquals(0, restored.getHits());
+		assertEquals(1, restored.getMisses());
+	}
+
+	@Test
+	public void testReturnedManifestIsACopy() throws Exception {
+		File bundle = createBundle("a.bundle", "1.0.0");
+		TargetManifestCache cache = new TargetManifestCache(new File(folder.getRoot(), "cache"));
+		cache.getManifest(bundle).put(Constants.BUNDLE_CLASSPATH, "bin/");
+		assertEquals(null, cache.getManifest(bundle).get(Constants.BUNDLE_CLASSPATH));
+	}
+
+	@Test
+	public void testRestoredHeaderNamesAreCaseInsensitive() throws Exception {
+		File bundle = createBundle("a.bundle", "1.0.0");
+		File cacheFile = new File(folder.getRoot(), "cache");
+		TargetManifestCache cache = new TargetManifestCache(cacheFile);
+		assertEquals("a.bundle", cache.getManifest(bundle).get("bundle-symbolicname"));
+		cache.save();
+
+		TargetManifestCache restored = new TargetManifestCache(cacheFile);
+		restored.load();
+		Map<String, String> manifest = restored.getManifest(bundle);
+		assertEquals(1, restored.getHits());
+		assertEquals("1.0.0", manifest.get("BUNDLE-VERSION"));
+	}
+
+	@Test
+	public void testUnusedEntriesAreDropped() throws Exception {
+		File bundle = createBundle("a.bundle", "1.0.0");
+		File other = createBundle("b.bundle", "1.0.0");
+		File cacheFile = new File(folder.getRoot(), "cache");
+		TargetManifestCache cache = new TargetManifestCache(cacheFile);
+		cache.getManifest(bundle);
+		cache.getManifest(other);
+		cache.save();
+
+		ageEntries(cacheFile, System.currentTimeMillis() - TargetManifestCache.UNUSED_ENTRY_AGE - 10000);
+
+		// an entry used again is kept, the other one is dropped on save
+		TargetManifestCache restored = new TargetManifestCache(cacheFile);
+		restored.load();
+		restored.getManifest(bundle);
+		assertEquals(1, restored.getHits());
+		restored.save();
+
+		TargetManifestCache reloaded = new TargetManifestCache(cacheFile);
+		reloaded.load();
+		reloaded.getManifest(bundle);
+		reloaded.getManifest(other);
+		assertEquals(1, reloaded.getHits());
+		assertEquals(1, reloaded.getMisses());
+	}
+
+	@Test
+	public void testCorruptStringLengthIsDiscarded() throws Exception {
+		File bundle = createBundle("a.bundle", "1.0.0");
+		File cacheFile = new File(folder.getRoot(), "cache");
+		TargetManifestCache cache = new TargetManifestCache(cacheFile);
+		cache.getManifest(bundle);
+		cache.save();
+		// the temporary file was moved into place
+		assertEquals(2, folder.getRoot().list().length);
+
+		// replace the length of the first location by a huge value
+		byte[] bytes = Files.readAllBytes(cacheFile.toPath());
+		bytes[8] = 0x7f;
+		Files.write(cacheFile.toPath(), bytes);
+
+		TargetManifestCache restored = new TargetManifestCache(cacheFile);
+		restored.load();
+		assertEquals("1.0.0", restored.getManifest(bundle).get(Constants.BUNDLE_VERSION));
+		assertEquals(0, restored.getHits());
+		assertEquals(1, restored.getMisses());
+	}
+
+	/**
+	 * Sets the last use of all entries of the given cache file
+	 */
+	private static void ageEntries(File cacheFile, long lastUsed) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(cacheFile.toPath())));
+				DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(in.readInt()); // format version
+			int size = in.readInt();
+			out.writeInt(size);
+			for (int i = 0; i < size; i++) {
+				copyString(in, out); // location
+				out.writeLong(in.readLong()); // length
+				out.writeLong(in.readLong()); // last modified
+				in.readLong();
+				out.writeLong(lastUsed);
+				int headerCount = in.readInt();
+				out.writeInt(headerCount);
+				for (int j = 0; j < headerCount * 2; j++) {
+					copyString(in, out);
+				}
+			}
+		}
+		Files.write(cacheFile.toPath(), bytes.toByteArray());
+	}
+
+	private static void copyString(DataInputStream in, DataOutputStream out) throws IOException {
+		byte[] string = new byte[in.readInt()];
+		in.readFully(string);
+		out.writeInt(string.length);
+		out.write(string);
+	}
+
+	private File createBundle(String symbolicName, String version) throws Exception {
+		Path bundle = folder.getRoot().toPath().resolve(symbolicName);
+		Path manifest = bundle.resolve("META-INF/MANIFEST.MF");
+		Files.createDirectories(manifest.getParent());
+		Files.writeString(manifest, "Manifest-Version: 1.0\n" //
+				+ "Bundle-ManifestVersion: 2\n" //
+				+ "Bundle-SymbolicName: " + symbolicName + "\n" //
+				+ "Bundle-Version: " + version + "\n");
+		return bundle.toFile();
+	}
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
+import org.eclipse.pde.core.IBaseModel;
+import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
+import org.eclipse.pde.internal.core.ibundle.IBundle;
+import org.eclipse.pde.internal.core.ibundle.IBundlePluginModelBase;
+import org.eclipse.pde.internal.ui.util.ModelModification;
+import org.eclipse.pde.internal.ui.util.PDEModelUtility;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests the validation of several plug-in projects in one full build, which
+ * validates all projects concurrently and updates their markers in one batch.
+ */
+public class ManifestConsistencyCheckerTest {
+
+	private static final String MISSING_BUNDLE = "does.not.exist";
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	@Test
+	public void testWorkspaceBuildReportsSameMarkersAsProjectBuilds() throws Exception {
+		List<IProject> projects = createProjects(3);
+		for (IProject project : projects) {
+			requireMissingBundle(project);
+		}
+
+		ResourcesPlugin.getWorkspace().build(IncrementalProjectBuilder.FULL_BUILD, null);
+		Map<IProject, List<String>> markers = new LinkedHashMap<>();
+		for (IProject project : projects) {
+			markers.put(project, getMarkers(project));
+		}
+
+		for (Entry<IProject, List<String>> entry : markers.entrySet()) {
+			assertThat(entry.getValue()).anyMatch(marker -> marker.contains(MISSING_BUNDLE));
+			// a single project is validated by its own builder
+			entry.getKey().build(IncrementalProjectBuilder.FULL_BUILD, null);
+			assertThat(getMarkers(entry.getKey())).isEqualTo(entry.getValue());
+		}
+	}
+
+	@Test
+	public void testProjectsAreValidatedAgainInLaterBuilds() throws Exception {
+		List<IProject> projects = createProjects(2);
+		ResourcesPlugin.getWorkspace().build(IncrementalProjectBuilder.FULL_BUILD, null);
+		for (IProject project : projects) {
+			assertThat(getMarkers(project)).noneMatch(marker -> marker.contains(MISSING_BUNDLE));
+		}
+
+		IProject project = projects.get(1);
+		requireMissingBundle(project);
+		project.build(IncrementalProjectBuilder.FULL_BUILD, null);
+		assertThat(getMarkers(project)).anyMatch(marker -> marker.contains(MISSING_BUNDLE));
+
+		ResourcesPlugin.getWorkspace().build(IncrementalProjectBuilder.FULL_BUILD, null);
+		assertThat(getMarkers(projects.get(0))).noneMatch(marker -> marker.contains(MISSING_BUNDLE));
+		assertThat(getMarkers(project)).anyMatch(marker -> marker.contains(MISSING_BUNDLE));
+	}
+
+	private List<IProject> createProjects(int count) throws Exception {
+		IExecutionEnvironment environment = JavaRuntime.getExecutionEnvironmentsManager().getEnvironment("JavaSE-17");
+		List<IProject> projects = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			projects.add(ProjectUtils.createPluginProject(getClass().getSimpleName() + i, environment).getProject());
+		}
+		return projects;
+	}
+
+	private static void requireMissingBundle(IProject project) throws CoreException {
+		PDEModelUtility.modifyModel(new ModelModification(project.getFile("META-INF/MANIFEST.MF")) {
+			@Override
+			protected void modifyModel(IBaseModel model, IProgressMonitor monitor) throws CoreException {
+				IBundle bundle = ((IBundlePluginModelBase) model).getBundleModel().getBundle();
+				bundle.setHeader(Constants.REQUIRE_BUNDLE, MISSING_BUNDLE);
+			}
+		}, null);
+	}
+
+	private static List<String> getMarkers(IProject project) throws CoreException {
+		return Arrays.stream(project.findMarkers(PDEMarkerFactory.MARKER_ID, false, IResource.DEPTH_INFINITE))
+				.map(marker -> marker.getResource().getProjectRelativePath() + ": "
+						+ marker.getAttribute(IMarker.MESSAGE, ""))
+				.sorted().toList();
+	}
+}
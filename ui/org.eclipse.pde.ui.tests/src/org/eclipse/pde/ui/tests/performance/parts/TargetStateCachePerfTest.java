@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.io.File;
+import java.net.URI;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.internal.core.PDEState;
+import org.eclipse.pde.internal.core.TargetManifestCache;
+import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures the creation of a {@link PDEState} for the example target of
+ * {@link TargetPlatformPerfTest} with an empty (cold) and a populated (warm)
+ * {@link TargetManifestCache}.
+ */
+public class TargetStateCachePerfTest extends PerformanceTestCase {
+
+	private URI[] fBundles;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		TargetPlatformHelper.getKnownExecutionEnvironments();
+		IPath testBundles = TargetPlatformPerfTest.extractTargetPerfTestPlugins();
+		File[] files = testBundles.toFile().listFiles();
+		fBundles = new URI[files.length];
+		for (int i = 0; i < files.length; i++) {
+			fBundles[i] = files[i].toURI();
+		}
+		TargetManifestCache.create().delete();
+	}
+
+	public void testColdState() throws Exception {
+		tagAsSummary("Create target state (cold manifest cache)", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		// Warm-up Iterations
+		for (int i = 0; i < 3; i++) {
+			TargetManifestCache.create().delete();
+			new PDEState(fBundles, true, true, new NullProgressMonitor());
+		}
+		// Test Iterations
+		for (int i = 0; i < 20; i++) {
+			TargetManifestCache.create().delete();
+			startMeasuring();
+			new PDEState(fBundles, true, true, new NullProgressMonitor());
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	public void testWarmState() throws Exception {
+		tagAsSummary("Create target state (warm manifest cache)", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		// Warm-up Iterations, the first one populates the cache
+		for (int i = 0; i < 3; i++) {
+			new PDEState(fBundles, true, true, new NullProgressMonitor());
+		}
+		// Test Iterations
+		for (int i = 0; i < 20; i++) {
+			startMeasuring();
+			new PDEState(fBundles, true, true, new NullProgressMonitor());
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		TargetManifestCache.create().delete();
+		super.tearDown();
+	}
+}
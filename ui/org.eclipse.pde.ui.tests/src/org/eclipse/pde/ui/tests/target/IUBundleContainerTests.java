@@ -21,9 +21,12 @@ import static org.junit.Assert.assertTrue;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -59,6 +62,7 @@ import org.eclipse.pde.internal.core.target.P2TargetUtils;
 import org.eclipse.pde.internal.core.target.TargetDefinition;
 import org.eclipse.pde.internal.core.target.TargetDefinitionPersistenceHelper;
 import org.eclipse.pde.internal.core.target.TargetPersistence38Helper;
+import org.eclipse.pde.internal.core.target.TargetReferenceBundleContainer;
 import org.eclipse.pde.internal.core.target.VirtualArtifactRepository;
 import org.eclipse.pde.ui.tests.PDETestsPlugin;
 import org.junit.Test;
@@ -190,6 +194,38 @@ public class IUBundleContainerTests extends AbstractTargetTest {
 		doResolutionTest(new String[]{"bundle.a1"}, bundles);
 	}
 
+	/**
+	 * Tests a target that references another target next to an IU location.
+	 * Both targets synchronize a profile of their own.
+	 */
+	@Test
+	public void testResolveWithTargetReference() throws Exception {
+		String[] bundles = new String[] { "bundle.a1", "bundle.a2", "bundle.a3", "bundle.b1" };
+		Path referencedFile = Files.createTempFile("referenced", ".target");
+		try {
+			ITargetDefinition referenced = getTargetService().newTarget();
+			referenced.setTargetLocations(new ITargetLocation[] { createContainer(new String[] { "bundle.b1" }) });
+			try (OutputStream stream = Files.newOutputStream(referencedFile)) {
+				TargetDefinitionPersistenceHelper.persistXML(referenced, stream);
+			}
+
+			ITargetDefinition target = getTargetService().newTarget();
+			target.setTargetLocations(new ITargetLocation[] {
+					new TargetReferenceBundleContainer(referencedFile.toUri().toString()),
+					createContainer(new String[] { "feature.a.feature.group" }) });
+			IStatus status = target.resolve(null);
+			assertTrue(status.toString(), status.isOK());
+			Set<String> names = collectAllSymbolicNames(getAllBundleInfos(target));
+			for (String bundle : bundles) {
+				assertTrue("Missing: " + bundle, names.contains(bundle));
+			}
+		} finally {
+			Files.deleteIfExists(referencedFile);
+			// Always clean any profiles, even if the test failed to prevent cascading failures
+			P2TargetUtils.cleanOrphanedTargetDefinitionProfiles();
+		}
+	}
+
 	/**
 	 * Tests whether the in-memory artifact repository is correctly created from
 	 * a non-IU target location.
@@ -16,10 +16,13 @@ package org.eclipse.pde.ui.tests.target;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.nio.file.Files;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
@@ -33,11 +36,17 @@ import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.internal.core.target.IUBundleContainer;
+import org.eclipse.pde.internal.core.target.TargetDefinition;
 import org.eclipse.pde.ui.tests.PDETestCase;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class TargetDefinitionResolutionTests extends AbstractTargetTest {
 
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
 	@Test
 	public void testInvalidBundleContainers() throws Exception {
 		ITargetDefinition definition = getNewTarget();
@@ -76,6 +85,57 @@ public class TargetDefinitionResolutionTests extends AbstractTargetTest {
 		// TODO Should we have tests for this?
 	}
 
+	@Test
+	public void testIncrementalResolution() throws Exception {
+		TargetDefinition definition = (TargetDefinition) getNewTarget();
+		ITargetLocation unchanged = getTargetService().newProfileLocation(TargetPlatform.getDefaultLocation(), null);
+		ITargetLocation broken = getTargetService().newDirectoryLocation("***SHOULD NOT EXIST***");
+		definition.setTargetLocations(new ITargetLocation[] { unchanged, broken });
+		definition.resolve(null, true);
+		TargetBundle[] bundles = unchanged.getBundles();
+		assertNotNull("Bundles not available when resolved", bundles);
+
+		// an added location is resolved, unchanged locations are kept
+		ITargetLocation added = getTargetService().newDirectoryLocation(TargetPlatform.getDefaultLocation());
+		definition.setTargetLocations(new ITargetLocation[] { unchanged, broken, added });
+		IStatus status = definition.resolve(null, true);
+		assertTrue(definition.isResolved());
+		assertSame("Unchanged location was resolved again", bundles, unchanged.getBundles());
+		assertEquals("Problems of unchanged locations must be reported", IStatus.ERROR, status.getSeverity());
+
+		// a full resolution resolves all locations
+		definition.resolve(null);
+		assertNotSame("Location was not resolved again", bundles, unchanged.getBundles());
+	}
+
+	@Test
+	public void testIncrementalResolutionOfEditedBundle() throws Exception {
+		File site = folder.newFolder("plugins");
+		File manifest = new File(site, "a.bundle/META-INF/MANIFEST.MF");
+		manifest.getParentFile().mkdirs();
+		writeManifest(manifest, "1.0.0");
+		TargetDefinition definition = (TargetDefinition) getNewTarget();
+		ITargetLocation location = getTargetService().newDirectoryLocation(folder.getRoot().getAbsolutePath());
+		definition.setTargetLocations(new ITargetLocation[] { location });
+		definition.resolve(null, true);
+		assertEquals("1.0.0", location.getBundles()[0].getBundleInfo().getVersion());
+
+		// editing the manifest does not change the modification time of the
+		// scanned directories
+		long siteModified = site.lastModified();
+		writeManifest(manifest, "2.0.0");
+		manifest.setLastModified(manifest.lastModified() + 2000);
+		site.setLastModified(siteModified);
+		definition.resolve(null, true);
+		assertEquals("Edited bundle was not resolved again", "2.0.0",
+				location.getBundles()[0].getBundleInfo().getVersion());
+	}
+
+	private static void writeManifest(File manifest, String version) throws Exception {
+		Files.writeString(manifest.toPath(), "Manifest-Version: 1.0\nBundle-ManifestVersion: 2\n"
+				+ "Bundle-SymbolicName: a.bundle\nBundle-Version: " + version + "\n");
+	}
+
 	@Test
 	public void testResolutionCaching() throws Exception {
 		ITargetDefinition definition = getNewTarget();
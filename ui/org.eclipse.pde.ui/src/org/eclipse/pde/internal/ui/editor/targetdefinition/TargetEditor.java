@@ -64,6 +64,7 @@ import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDEPreferencesManager;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
+import org.eclipse.pde.internal.core.target.TargetDefinition;
 import org.eclipse.pde.internal.core.target.TargetDefinitionPersistenceHelper;
 import org.eclipse.pde.internal.core.target.WorkspaceFileTargetHandle;
 import org.eclipse.pde.internal.ui.IHelpContextIds;
@@ -638,14 +639,19 @@ public class TargetEditor extends FormEditor {
 				Job resolveJob = new Job(NLS.bind(PDEUIMessages.TargetEditor_1, name)) {
 					@Override
 					protected IStatus run(IProgressMonitor monitor) {
-						// delete profile
-						try {
-							P2TargetUtils.forceCheckTarget(getTarget());
-							P2TargetUtils.deleteProfile(getTarget().getHandle());
-						} catch (CoreException e) {
-							PDEPlugin.log(e);
+						if (!forceResolve && getTarget() instanceof TargetDefinition target) {
+							// only resolve the locations that were changed
+							target.resolve(monitor, true);
+						} else {
+							// delete profile
+							try {
+								P2TargetUtils.forceCheckTarget(getTarget());
+								P2TargetUtils.deleteProfile(getTarget().getHandle());
+							} catch (CoreException e) {
+								PDEPlugin.log(e);
+							}
+							getTarget().resolve(monitor);
 						}
-						getTarget().resolve(monitor);
 						if (monitor.isCanceled()) {
 							return Status.CANCEL_STATUS;
 						}